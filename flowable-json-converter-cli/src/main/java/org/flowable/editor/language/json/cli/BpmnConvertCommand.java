@@ -0,0 +1,229 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.cli;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.flowable.editor.language.json.converter.BpmnJsonConverter;
+import org.flowable.editor.language.json.converter.BpmnJsonConverterOptions;
+import org.flowable.editor.language.json.converter.BpmnJsonConverterUtil;
+import org.flowable.editor.language.json.converter.BpmnJsonToXmlPipeline;
+import org.flowable.editor.language.json.converter.BpmnModelFingerprint;
+import org.flowable.editor.language.json.converter.BpmnXmlToJsonPipeline;
+import org.flowable.editor.language.json.converter.StandaloneBpmnConverterContext;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.databind.util.RawValue;
+
+/**
+ * Converts many models in bulk, either editor JSON to BPMN XML or the other way round, reading them from a directory,
+ * a zip archive or NDJSON, and writing one NDJSON line per model with its outcome.
+ * <p>
+ * Conversions run on a fixed thread pool, with at most {@code --max-in-flight} models read but not yet written, so
+ * that memory usage is bounded whatever the input size; with {@code --checkpoint}, an interrupted run can be resumed.
+ * Throughput and latency percentiles are reported on standard error at the end.
+ */
+public final class BpmnConvertCommand {
+
+    private static final String USAGE = "Usage: --direction json2xml|xml2json --input <dir|zip|ndjson|-> "
+            + "[--output <ndjson|->] [--threads <n>] [--max-in-flight <n>] [--checkpoint <file>]";
+
+    public enum Direction {
+        JSON2XML,
+        XML2JSON
+    }
+
+    private final Direction direction;
+
+    private final String input;
+
+    private final String output;
+
+    private final int threads;
+
+    private final int maxInFlight;
+
+    private final Path checkpointFile;
+
+    private final BpmnJsonToXmlPipeline jsonToXml;
+
+    private final BpmnXmlToJsonPipeline xmlToJson;
+
+    private final ConversionStats stats = new ConversionStats();
+
+    private BpmnConvertCommand(final Map<String, String> arguments) {
+        this.direction = Direction.valueOf(required(arguments, "--direction").toUpperCase());
+        this.input = required(arguments, "--input");
+        this.output = arguments.getOrDefault("--output", "-");
+        this.threads = Integer.parseInt(arguments.getOrDefault(
+                "--threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        this.maxInFlight = Integer.parseInt(arguments.getOrDefault("--max-in-flight", String.valueOf(threads * 4)));
+        this.checkpointFile = arguments.containsKey("--checkpoint") ? Path.of(arguments.get("--checkpoint")) : null;
+
+        BpmnJsonConverterOptions options = new BpmnJsonConverterOptions();
+        BpmnJsonConverter converter = new BpmnJsonConverter(options);
+        StandaloneBpmnConverterContext context = new StandaloneBpmnConverterContext();
+        this.jsonToXml = new BpmnJsonToXmlPipeline(converter, context, options);
+        this.xmlToJson = new BpmnXmlToJsonPipeline(converter, context, options);
+    }
+
+    static String required(final Map<String, String> arguments, final String name) {
+        String value = arguments.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing " + name);
+        }
+        return value;
+    }
+
+    static Map<String, String> parse(final String[] args) {
+        Map<String, String> arguments = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("Unexpected " + args[i]);
+            }
+            arguments.put(args[i], args[i + 1]);
+        }
+        return arguments;
+    }
+
+    private ObjectNode convert(final ModelInput model) {
+        ObjectNode result = BpmnJsonConverterUtil.jsonMapper().createObjectNode();
+        result.put("id", model.id());
+
+        if (model.error() != null) {
+            stats.record(0, false);
+            result.put("status", "error");
+            result.put("errorType", model.error().getClass().getName());
+            result.put("error", model.error().getMessage());
+            result.put("millis", 0);
+            return result;
+        }
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            if (direction == Direction.JSON2XML) {
+                BpmnModelFingerprint fingerprint = jsonToXml.convert(model.content(), out, null);
+                result.put("status", "ok");
+                result.put("semanticHash", fingerprint.semanticHash());
+                result.put("layoutHash", fingerprint.layoutHash());
+                result.put("result", out.toString(StandardCharsets.UTF_8));
+            } else {
+                xmlToJson.convert(model.content(), out);
+                result.put("status", "ok");
+                result.putRawValue("result", new RawValue(out.toString(StandardCharsets.UTF_8)));
+            }
+            success = true;
+        } catch (RuntimeException e) {
+            result.put("status", "error");
+            result.put("errorType", e.getClass().getName());
+            result.put("error", e.getMessage());
+        }
+
+        long latency = System.nanoTime() - start;
+        stats.record(latency, success);
+        result.put("millis", TimeUnit.NANOSECONDS.toMillis(latency));
+        return result;
+    }
+
+    private void write(final Writer writer, final Checkpoint checkpoint, final String id, final ObjectNode result)
+            throws IOException {
+
+        synchronized (writer) {
+            writer.write(BpmnJsonConverterUtil.jsonMapper().writeValueAsString(result));
+            writer.write('\n');
+            writer.flush();
+        }
+        if (checkpoint != null) {
+            checkpoint.complete(id);
+        }
+    }
+
+    private OutputStream openOutput(final boolean append) throws IOException {
+        if ("-".equals(output)) {
+            return System.out;
+        }
+        return append
+                ? Files.newOutputStream(Path.of(output), StandardOpenOption.CREATE, StandardOpenOption.APPEND)
+                : Files.newOutputStream(Path.of(output));
+    }
+
+    private void run() throws IOException, InterruptedException {
+        Checkpoint checkpoint = checkpointFile == null ? null : new Checkpoint(checkpointFile);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        // resources are closed in reverse order: the executor waits for all running conversions before the writer is
+        // closed, also when reading input fails midway
+        try (ModelSource source = ModelSource.open(input, direction == Direction.JSON2XML
+                ? new String[] { ".json" }
+                : new String[] { ".bpmn", ".bpmn20.xml", ".xml" });
+                Writer writer = new BufferedWriter(new OutputStreamWriter(
+                        openOutput(checkpoint != null && checkpoint.isResumed()), StandardCharsets.UTF_8));
+                ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+
+            ModelInput model;
+            while ((model = source.next()) != null) {
+                if (checkpoint != null && checkpoint.isCompleted(model.id())) {
+                    stats.skip();
+                    continue;
+                }
+
+                inFlight.acquire();
+                ModelInput toConvert = model;
+                executor.execute(() -> {
+                    try {
+                        write(writer, checkpoint, toConvert.id(), convert(toConvert));
+                    } catch (IOException e) {
+                        System.err.println("Could not write outcome for " + toConvert.id() + ": " + e.getMessage());
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            if (checkpoint != null) {
+                checkpoint.close();
+            }
+        }
+
+        stats.report(System.err);
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        BpmnConvertCommand command;
+        try {
+            command = new BpmnConvertCommand(parse(args));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        command.run();
+    }
+}
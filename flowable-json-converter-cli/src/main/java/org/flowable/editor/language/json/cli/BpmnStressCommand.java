@@ -0,0 +1,345 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.flowable.editor.language.json.converter.BpmnExpressionCatalog;
+import org.flowable.editor.language.json.converter.BpmnJsonConverter;
+import org.flowable.editor.language.json.converter.BpmnJsonConverterOptions;
+import org.flowable.editor.language.json.converter.BpmnJsonToXmlPipeline;
+import org.flowable.editor.language.json.converter.BpmnModelCanonicalizer;
+import org.flowable.editor.language.json.converter.BpmnXmlToJsonPipeline;
+import org.flowable.editor.language.json.converter.StandaloneBpmnConverterContext;
+
+/**
+ * Hammers a single {@link BpmnJsonConverter} and converter context, shared by many platform and virtual threads, with
+ * the given editor models converted in both directions; run it via {@code java -cp}, with the CLI jar and its
+ * dependencies on the class path.
+ * <p>
+ * Each model is first converted twice on a single thread, to XML and then back to JSON from that XML: outcomes of
+ * the concurrent run are checked byte by byte against this baseline, and models whose baseline fails or is not
+ * deterministic are left out. Besides throughput and latency percentiles, the report lists contended monitors and
+ * virtual thread pinning as recorded by JFR, and any change in the static fields of the converter registries or in
+ * the instance fields of the shared converter, context and options; exit status is {@code 1} when results differ
+ * from the baseline or shared state was changed.
+ * <p>
+ * With {@code --shared-services true}, options also carry a {@link BpmnModelCanonicalizer}, a
+ * {@link BpmnExpressionCatalog} and a dedicated pipeline executor, all shared by every conversion; their own state
+ * is meant to change while converting, hence is reported rather than audited.
+ */
+public final class BpmnStressCommand {
+
+    private static final String USAGE = "Usage: --input <dir|zip|ndjson|-> [--threads <n>] [--virtual-threads <n>] "
+            + "[--iterations <n>] [--shared-services true|false]";
+
+    private static final int MAX_LISTED = 10;
+
+    private record Baseline(String id, byte[] json, byte[] xml, byte[] roundTrip) {
+    }
+
+    private final String input;
+
+    private final int threads;
+
+    private final int virtualThreads;
+
+    private final int iterations;
+
+    private final BpmnJsonConverterOptions options = new BpmnJsonConverterOptions();
+
+    private final ExecutorService pipelineExecutor;
+
+    private final BpmnJsonConverter converter;
+
+    private final StandaloneBpmnConverterContext context = new StandaloneBpmnConverterContext();
+
+    private final BpmnJsonToXmlPipeline jsonToXml;
+
+    private final BpmnXmlToJsonPipeline xmlToJson;
+
+    private final Map<String, String> mismatches = new ConcurrentHashMap<>();
+
+    private final Map<String, String> failures = new ConcurrentHashMap<>();
+
+    private final Map<String, long[]> contention = new ConcurrentHashMap<>();
+
+    private final Map<String, long[]> pinning = new ConcurrentHashMap<>();
+
+    private BpmnStressCommand(final Map<String, String> arguments) {
+        this.input = BpmnConvertCommand.required(arguments, "--input");
+        this.threads = Integer.parseInt(arguments.getOrDefault(
+                "--threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        this.virtualThreads = Integer.parseInt(arguments.getOrDefault("--virtual-threads", String.valueOf(threads)));
+        this.iterations = Integer.parseInt(arguments.getOrDefault("--iterations", "10"));
+
+        if (Boolean.parseBoolean(arguments.getOrDefault("--shared-services", "false"))) {
+            this.pipelineExecutor = Executors.newFixedThreadPool(
+                    Runtime.getRuntime().availableProcessors(),
+                    Thread.ofPlatform().name("stress-pipeline-", 0).daemon().factory());
+            options.setCanonicalizer(new BpmnModelCanonicalizer()).
+                    setExpressionCatalog(new BpmnExpressionCatalog()).
+                    setPipelineExecutor(pipelineExecutor);
+        } else {
+            this.pipelineExecutor = null;
+        }
+
+        this.converter = new BpmnJsonConverter(options);
+        this.jsonToXml = new BpmnJsonToXmlPipeline(converter, context, options);
+        this.xmlToJson = new BpmnXmlToJsonPipeline(converter, context, options);
+    }
+
+    private byte[] toXml(final byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonToXml.convert(json, out, null);
+        return out.toByteArray();
+    }
+
+    private byte[] toJson(final byte[] xml) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        xmlToJson.convert(xml, out);
+        return out.toByteArray();
+    }
+
+    private List<Baseline> baseline(final PrintStream err) throws IOException {
+        List<Baseline> baselines = new ArrayList<>();
+        try (ModelSource source = ModelSource.open(input, ".json")) {
+            ModelInput model;
+            while ((model = source.next()) != null) {
+                if (model.error() != null) {
+                    err.println("Skipping " + model.id() + ": " + model.error().getMessage());
+                    continue;
+                }
+                try {
+                    byte[] xml = toXml(model.content());
+                    byte[] roundTrip = toJson(xml);
+                    if (Arrays.equals(xml, toXml(model.content())) && Arrays.equals(roundTrip, toJson(xml))) {
+                        baselines.add(new Baseline(model.id(), model.content(), xml, roundTrip));
+                    } else {
+                        err.println("Skipping " + model.id() + ": conversion is not deterministic");
+                    }
+                } catch (RuntimeException e) {
+                    err.println("Skipping " + model.id() + ": " + e.getMessage());
+                }
+            }
+        }
+        return baselines;
+    }
+
+    private static String frame(final RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return "unknown";
+        }
+
+        // report the innermost converter frame, as the monitor itself is often taken inside a library
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        for (RecordedFrame recordedFrame : frames) {
+            if (recordedFrame.isJavaFrame()
+                    && recordedFrame.getMethod().getType().getName().startsWith("org.flowable.editor.")) {
+
+                return recordedFrame.getMethod().getType().getName() + '.' + recordedFrame.getMethod().getName()
+                        + ':' + recordedFrame.getLineNumber();
+            }
+        }
+        return frames.get(0).getMethod().getType().getName() + '.' + frames.get(0).getMethod().getName();
+    }
+
+    private static void count(final Map<String, long[]> counters, final String key, final Duration duration) {
+        counters.compute(key, (k, counter) -> {
+            long[] updated = counter == null ? new long[2] : counter;
+            updated[0]++;
+            updated[1] += duration.toNanos();
+            return updated;
+        });
+    }
+
+    private RecordingStream startRecording(final PrintStream err) {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable("jdk.JavaMonitorEnter").withThreshold(Duration.ZERO).withStackTrace();
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.JavaMonitorEnter", event -> count(
+                    contention,
+                    event.getClass("monitorClass").getName() + " at " + frame(event),
+                    event.getDuration()));
+            recording.onEvent("jdk.VirtualThreadPinned", event -> count(pinning, frame(event), event.getDuration()));
+            recording.startAsync();
+            return recording;
+        } catch (IllegalStateException | SecurityException e) {
+            err.println("Contention is not recorded, JFR is not available: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void work(
+            final List<Baseline> baselines,
+            final AtomicLong next,
+            final long operations,
+            final CountDownLatch start,
+            final ConversionStats stats) {
+
+        long[] latencies = new long[64];
+        boolean[] successes = new boolean[64];
+        int count = 0;
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        long operation;
+        while ((operation = next.getAndIncrement()) < operations) {
+            Baseline baseline = baselines.get((int) (operation % baselines.size()));
+            BpmnConvertCommand.Direction direction = (operation / baselines.size()) % 2 == 0
+                    ? BpmnConvertCommand.Direction.JSON2XML
+                    : BpmnConvertCommand.Direction.XML2JSON;
+            String key = baseline.id() + " (" + direction.name().toLowerCase() + ')';
+
+            long startNanos = System.nanoTime();
+            boolean success = false;
+            try {
+                byte[] result = direction == BpmnConvertCommand.Direction.JSON2XML
+                        ? toXml(baseline.json())
+                        : toJson(baseline.xml());
+                success = Arrays.equals(result, direction == BpmnConvertCommand.Direction.JSON2XML
+                        ? baseline.xml()
+                        : baseline.roundTrip());
+                if (!success) {
+                    mismatches.putIfAbsent(key, "differs from single-threaded baseline");
+                }
+            } catch (RuntimeException e) {
+                failures.putIfAbsent(key, e.getClass().getName() + ": " + e.getMessage());
+            }
+
+            // latencies are kept per thread, not to add contention of our own while measuring
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+                successes = Arrays.copyOf(successes, count * 2);
+            }
+            latencies[count] = System.nanoTime() - startNanos;
+            successes[count++] = success;
+        }
+
+        for (int i = 0; i < count; i++) {
+            stats.record(latencies[i], successes[i]);
+        }
+    }
+
+    private static void list(final PrintStream out, final String title, final Map<String, ?> entries) {
+        out.println(title + ": " + entries.size());
+        entries.entrySet().stream().limit(MAX_LISTED).forEach(entry -> {
+            if (entry.getValue() instanceof long[] counter) {
+                out.println("  " + entry.getKey() + ": " + counter[0] + " times, " + counter[1] / 1_000_000 + " ms");
+            } else {
+                out.println("  " + entry.getKey() + ": " + entry.getValue());
+            }
+        });
+    }
+
+    private int run() throws IOException, InterruptedException {
+        PrintStream err = System.err;
+
+        List<Baseline> baselines = baseline(err);
+        if (baselines.isEmpty()) {
+            err.println("No model to convert");
+            return 1;
+        }
+
+        SharedStateAudit audit = new SharedStateAudit(BpmnJsonConverter.class).
+                addInstance("converter", converter).
+                addInstance("context", context).
+                addInstance("options", options);
+        Map<String, String> before = audit.snapshot();
+
+        long operations = (long) baselines.size() * 2 * iterations;
+        AtomicLong next = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        RecordingStream recording = startRecording(err);
+
+        ConversionStats stats = new ConversionStats();
+        for (int i = 0; i < threads + virtualThreads; i++) {
+            Runnable worker = () -> work(baselines, next, operations, start, stats);
+            workers.add(i < threads
+                    ? Thread.ofPlatform().name("stress-platform-" + i).start(worker)
+                    : Thread.ofVirtual().name("stress-virtual-" + (i - threads)).start(worker));
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        if (recording != null) {
+            recording.stop();
+            recording.close();
+        }
+        List<String> changes = SharedStateAudit.changes(before, audit.snapshot());
+
+        err.printf("models: %d, operations: %d, platform threads: %d, virtual threads: %d%n",
+                baselines.size(), operations, threads, virtualThreads);
+        stats.report(err);
+        list(err, "mismatches", mismatches);
+        list(err, "failures", failures);
+        if (recording != null) {
+            list(err, "contended monitors", contention);
+            list(err, "virtual thread pinning", pinning);
+        }
+        if (pipelineExecutor != null) {
+            err.printf("shared services: canonicalizer saved %d bytes, expression catalog holds %d expressions%n",
+                    options.getCanonicalizer().getSavedBytes(), options.getExpressionCatalog().size());
+        }
+        err.println("audited classes: " + audit.getClasses().size());
+        audit.getWarnings().forEach(warning -> err.println("  warning: " + warning));
+        err.println("shared state changes: " + changes.size());
+        changes.forEach(change -> err.println("  " + change));
+
+        return mismatches.isEmpty() && failures.isEmpty() && changes.isEmpty() ? 0 : 1;
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        BpmnStressCommand command;
+        try {
+            command = new BpmnStressCommand(BpmnConvertCommand.parse(args));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        int status;
+        try {
+            status = command.run();
+        } finally {
+            if (command.pipelineExecutor != null) {
+                command.pipelineExecutor.shutdownNow();
+            }
+        }
+        System.exit(status);
+    }
+}
@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.cli;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Ids of the models already converted, one per line, so that an interrupted run can be resumed; ids are appended and
+ * flushed as soon as their conversion outcome is written.
+ */
+public class Checkpoint implements Closeable {
+
+    private final Set<String> completed = new HashSet<>();
+
+    private final BufferedWriter writer;
+
+    public Checkpoint(final Path file) throws IOException {
+        if (Files.exists(file)) {
+            try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+                lines.filter(line -> !line.isEmpty()).forEach(completed::add);
+            }
+        }
+        this.writer = Files.newBufferedWriter(
+                file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * @return whether ids were found when opening, e.g. whether this is a resumed run
+     */
+    public boolean isResumed() {
+        return !completed.isEmpty();
+    }
+
+    public boolean isCompleted(final String id) {
+        return completed.contains(id);
+    }
+
+    public synchronized void complete(final String id) throws IOException {
+        writer.write(id);
+        writer.newLine();
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,70 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.cli;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * Collects per-model conversion latencies, and reports throughput and latency percentiles.
+ */
+public class ConversionStats {
+
+    private final long startNanos = System.nanoTime();
+
+    private long[] latencies = new long[1024];
+
+    private int count;
+
+    private int failures;
+
+    private int skipped;
+
+    public synchronized void record(final long latencyNanos, final boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!success) {
+            failures++;
+        }
+    }
+
+    public synchronized void skip() {
+        skipped++;
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static long percentile(final long[] sorted, final double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    public synchronized void report(final PrintStream out) {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        out.printf("converted: %d, failed: %d, skipped: %d, elapsed: %.3f s, throughput: %.1f models/s%n",
+                count - failures, failures, skipped, seconds, seconds == 0 ? 0 : count / seconds);
+
+        if (count > 0) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            out.printf("latency (ms) p50: %.3f, p90: %.3f, p99: %.3f, max: %.3f%n",
+                    millis(percentile(sorted, 0.5)),
+                    millis(percentile(sorted, 0.9)),
+                    millis(percentile(sorted, 0.99)),
+                    millis(sorted[count - 1]));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.cli;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Reads models from files under a directory, recursively; ids are the relative paths.
+ */
+public class DirectoryModelSource implements ModelSource {
+
+    private final Path root;
+
+    private final Stream<Path> files;
+
+    private final Iterator<Path> itor;
+
+    public DirectoryModelSource(final Path root, final String... extensions) throws IOException {
+        this.root = root;
+        this.files = Files.walk(root).
+                filter(Files::isRegularFile).
+                filter(file -> ZipModelSource.matches(file.getFileName().toString(), extensions)).
+                sorted();
+        this.itor = files.iterator();
+    }
+
+    @Override
+    public ModelInput next() throws IOException {
+        if (!itor.hasNext()) {
+            return null;
+        }
+
+        Path file = itor.next();
+        return new ModelInput(root.relativize(file).toString(), Files.readAllBytes(file));
+    }
+
+    @Override
+    public void close() {
+        files.close();
+    }
+}
@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.cli;
+
+/**
+ * Model to convert, as read from input.
+ *
+ * @param id model id, unique within input
+ * @param content editor JSON or BPMN XML, depending on conversion direction; {@code null} if input was invalid
+ * @param error why input could not be read, if so
+ */
+public record ModelInput(String id, byte[] content, Exception error) {
+
+    public ModelInput(final String id, final byte[] content) {
+        this(id, content, null);
+    }
+
+    /**
+     * @param id model id, or a placeholder if none could be read
+     * @param error why input could not be read
+     * @return input reported as failed, without being converted
+     */
+    public static ModelInput invalid(final String id, final Exception error) {
+        return new ModelInput(id, null, error);
+    }
+}
@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.cli;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Lazily reads models to convert, one at a time, so that memory usage does not depend on input size.
+ */
+public interface ModelSource extends Closeable {
+
+    /**
+     * @param input directory, zip archive, NDJSON file, or {@code -} for NDJSON from standard input
+     * @param extensions file extensions to consider, for directories and zip archives
+     * @return source for the given input
+     * @throws IOException if input cannot be opened
+     */
+    static ModelSource open(final String input, final String... extensions) throws IOException {
+        if ("-".equals(input)) {
+            return new NdjsonModelSource(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)));
+        }
+
+        Path path = Path.of(input);
+        if (Files.isDirectory(path)) {
+            return new DirectoryModelSource(path, extensions);
+        }
+        if (path.getFileName().toString().endsWith(".zip")) {
+            return new ZipModelSource(path, extensions);
+        }
+        return new NdjsonModelSource(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return next model, or {@code null} when input is exhausted
+     * @throws IOException if input cannot be read
+     */
+    ModelInput next() throws IOException;
+}
@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.flowable.editor.language.json.converter.BpmnJsonConverterUtil;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Reads models from NDJSON lines such as {@code {"id": "...", "model": ...}}, where {@code model} is either the editor
+ * JSON object or a string holding editor JSON or BPMN XML; blank lines are skipped, and lines that cannot be read are
+ * returned as {@link ModelInput#invalid(String, Exception) invalid}, identified by their line number unless carrying an
+ * id, so that a bad line does not stop the whole run.
+ */
+public class NdjsonModelSource implements ModelSource {
+
+    private final BufferedReader reader;
+
+    private long lineNumber;
+
+    public NdjsonModelSource(final BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ModelInput next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonNode lineNode;
+            try {
+                lineNode = BpmnJsonConverterUtil.jsonMapper().readTree(line);
+            } catch (JacksonException e) {
+                return ModelInput.invalid("line " + lineNumber, e);
+            }
+
+            JsonNode idNode = lineNode.get("id");
+            JsonNode modelNode = lineNode.get("model");
+            if (idNode == null || modelNode == null) {
+                return ModelInput.invalid(
+                        idNode == null ? "line " + lineNumber : idNode.asString(),
+                        new IllegalArgumentException("Line " + lineNumber + " does not carry both id and model"));
+            }
+
+            return new ModelInput(
+                    idNode.asString(),
+                    modelNode.isString()
+                    ? modelNode.asString().getBytes(StandardCharsets.UTF_8)
+                    : BpmnJsonConverterUtil.jsonMapper().writeValueAsBytes(modelNode));
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
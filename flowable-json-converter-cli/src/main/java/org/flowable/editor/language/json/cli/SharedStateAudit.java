@@ -0,0 +1,214 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.cli;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Reflective audit of the state reachable from objects and classes shared across conversions: static fields of the
+ * given classes and of the converter classes found in their static registries, plus instance fields of the given
+ * objects.
+ * <p>
+ * Each field is described by value for primitives, strings and enums, and by identity, size and hash of the contents
+ * for collections, maps and arrays, so that replaced elements are told apart even when the size is unchanged;
+ * comparing two snapshots taken before and after a concurrent run reveals shared state written during conversion.
+ */
+public class SharedStateAudit {
+
+    private final Set<Class<?>> classes = new LinkedHashSet<>();
+
+    private final Map<String, Object> instances = new LinkedHashMap<>();
+
+    private final List<String> warnings = new ArrayList<>();
+
+    /**
+     * @param registryOwners classes whose static fields are audited; {@code Class} values found in their static maps
+     * and collections are audited as well
+     */
+    public SharedStateAudit(final Class<?>... registryOwners) {
+        for (Class<?> registryOwner : registryOwners) {
+            addClass(registryOwner);
+            for (Field field : staticFields(registryOwner)) {
+                Object value = read(field, null);
+                Collection<?> entries = value instanceof Map<?, ?> map
+                        ? map.values()
+                        : value instanceof Collection<?> collection ? collection : List.of();
+                for (Object entry : entries) {
+                    if (entry instanceof Class<?> registered) {
+                        addClass(registered);
+                    } else if (entry != null && !isValue(entry)) {
+                        warnings.add(name(field) + " holds a shared " + entry.getClass().getName() + " instance");
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isValue(final Object value) {
+        return value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof CharSequence || value instanceof Enum<?>;
+    }
+
+    private static String name(final Field field) {
+        return field.getDeclaringClass().getSimpleName() + '.' + field.getName();
+    }
+
+    private static List<Field> staticFields(final Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static Object read(final Field field, final Object target) {
+        try {
+            field.setAccessible(true);
+            return field.get(target);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return "<" + e.getClass().getSimpleName() + ">";
+        }
+    }
+
+    /**
+     * @return hash of the elements of the given collection, map or array, as per their own hash codes
+     */
+    private static int contentHash(final Object value) {
+        try {
+            if (value.getClass().isArray()) {
+                int hash = 1;
+                for (int i = 0; i < Array.getLength(value); i++) {
+                    hash = 31 * hash + Objects.hashCode(Array.get(value, i));
+                }
+                return hash;
+            }
+            return value.hashCode();
+        } catch (RuntimeException e) {
+            // elements whose hash code fails cannot be told apart
+            return 0;
+        }
+    }
+
+    private static String describe(final Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (isValue(value)) {
+            return value.toString();
+        }
+
+        String identity = value.getClass().getName() + '@' + Integer.toHexString(System.identityHashCode(value));
+        if (value instanceof Collection<?> collection) {
+            return identity + "[size=" + collection.size() + ", hash=" + contentHash(value) + ']';
+        }
+        if (value instanceof Map<?, ?> map) {
+            return identity + "[size=" + map.size() + ", hash=" + contentHash(value) + ']';
+        }
+        if (value.getClass().isArray()) {
+            return identity + "[length=" + Array.getLength(value) + ", hash=" + contentHash(value) + ']';
+        }
+        return identity;
+    }
+
+    private void addClass(final Class<?> clazz) {
+        for (Class<?> current = clazz;
+                current != null && !current.getName().startsWith("java.");
+                current = current.getSuperclass()) {
+
+            if (classes.add(current)) {
+                for (Field field : staticFields(current)) {
+                    if (!Modifier.isFinal(field.getModifiers())) {
+                        warnings.add(name(field) + " is static and not final");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param name label for the given instance, used in snapshot keys
+     * @param instance object shared across conversions, whose instance fields are audited
+     * @return this audit
+     */
+    public SharedStateAudit addInstance(final String name, final Object instance) {
+        instances.put(name, instance);
+        return this;
+    }
+
+    /**
+     * @return audited classes, including superclasses of the converter classes found in registries
+     */
+    public Set<Class<?>> getClasses() {
+        return classes;
+    }
+
+    /**
+     * @return issues found by inspection alone: non-final static fields and shared instances held by registries
+     */
+    public List<String> getWarnings() {
+        return warnings;
+    }
+
+    /**
+     * @return description of each audited field, by field name
+     */
+    public Map<String, String> snapshot() {
+        Map<String, String> snapshot = new LinkedHashMap<>();
+        for (Class<?> clazz : classes) {
+            for (Field field : staticFields(clazz)) {
+                snapshot.put(name(field), describe(read(field, null)));
+            }
+        }
+        instances.forEach((name, instance) -> {
+            for (Class<?> current = instance.getClass();
+                    current != null && !current.getName().startsWith("java.");
+                    current = current.getSuperclass()) {
+
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                        snapshot.put(name + '.' + field.getName(), describe(read(field, instance)));
+                    }
+                }
+            }
+        });
+        return snapshot;
+    }
+
+    /**
+     * @param before snapshot taken before a run
+     * @param after snapshot taken after the same run
+     * @return one line per field whose description changed
+     */
+    public static List<String> changes(final Map<String, String> before, final Map<String, String> after) {
+        List<String> changes = new ArrayList<>();
+        before.forEach((field, value) -> {
+            String afterValue = after.get(field);
+            if (!value.equals(afterValue)) {
+                changes.add(field + ": " + value + " -> " + afterValue);
+            }
+        });
+        return changes;
+    }
+}
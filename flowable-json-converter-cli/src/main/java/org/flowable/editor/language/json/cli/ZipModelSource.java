@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.cli;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Reads models from the entries of a zip archive; ids are the entry names.
+ */
+public class ZipModelSource implements ModelSource {
+
+    static boolean matches(final String name, final String... extensions) {
+        for (String extension : extensions) {
+            if (name.endsWith(extension)) {
+                return true;
+            }
+        }
+        return extensions.length == 0;
+    }
+
+    private final ZipFile zipFile;
+
+    private final Enumeration<? extends ZipEntry> entries;
+
+    private final String[] extensions;
+
+    public ZipModelSource(final Path archive, final String... extensions) throws IOException {
+        this.zipFile = new ZipFile(archive.toFile());
+        this.entries = zipFile.entries();
+        this.extensions = extensions;
+    }
+
+    @Override
+    public ModelInput next() throws IOException {
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            if (!entry.isDirectory() && matches(entry.getName(), extensions)) {
+                try (InputStream in = zipFile.getInputStream(entry)) {
+                    return new ModelInput(entry.getName(), in.readAllBytes());
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        zipFile.close();
+    }
+}
@@ -0,0 +1,103 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.flowable.editor.language.json.converter.BpmnJsonConverterUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.JsonNode;
+
+class BpmnConvertCommandTest {
+
+    private static final String MODEL = "{\"resourceId\": \"canvas\", \"properties\": {\"process_id\": \"cli\"}, "
+            + "\"stencil\": {\"id\": \"BPMNDiagram\"}, "
+            + "\"bounds\": {\"upperLeft\": {\"x\": 0, \"y\": 0}, \"lowerRight\": {\"x\": 1200, \"y\": 1050}}, "
+            + "\"childShapes\": [{\"resourceId\": \"start\", \"properties\": {\"overrideid\": \"start\"}, "
+            + "\"stencil\": {\"id\": \"StartNoneEvent\"}, "
+            + "\"bounds\": {\"upperLeft\": {\"x\": 0, \"y\": 0}, \"lowerRight\": {\"x\": 30, \"y\": 30}}, "
+            + "\"childShapes\": [], \"outgoing\": [], \"dockers\": []}]}";
+
+    @TempDir
+    Path dir;
+
+    private static String line(final String id) {
+        return "{\"id\": \"" + id + "\", \"model\": " + MODEL + "}";
+    }
+
+    private void run(final Path input, final Path output, final Path checkpoint) throws Exception {
+        BpmnConvertCommand.main(new String[] {
+            "--direction", "json2xml",
+            "--input", input.toString(),
+            "--output", output.toString(),
+            "--threads", "1",
+            "--checkpoint", checkpoint.toString() });
+    }
+
+    private static List<JsonNode> outcomes(final Path output) throws IOException {
+        List<JsonNode> outcomes = new ArrayList<>();
+        for (String line : Files.readAllLines(output, StandardCharsets.UTF_8)) {
+            outcomes.add(BpmnJsonConverterUtil.jsonMapper().readTree(line));
+        }
+        return outcomes;
+    }
+
+    private static List<String> ids(final List<JsonNode> outcomes) {
+        return outcomes.stream().map(outcome -> outcome.get("id").asString()).toList();
+    }
+
+    @Test
+    void outputInInputOrder() throws Exception {
+        Path input = dir.resolve("input.ndjson");
+        Files.write(input, List.of(line("first"), "not json", line("second"), "{\"id\": \"noModel\"}", line("third")),
+                StandardCharsets.UTF_8);
+        Path output = dir.resolve("output.ndjson");
+
+        run(input, output, dir.resolve("checkpoint"));
+
+        List<JsonNode> outcomes = outcomes(output);
+        // a single thread writes outcomes in input order, invalid lines included
+        assertEquals(List.of("first", "line 2", "second", "noModel", "third"), ids(outcomes));
+        assertEquals(
+                List.of("ok", "error", "ok", "error", "ok"),
+                outcomes.stream().map(outcome -> outcome.get("status").asString()).toList());
+        assertTrue(outcomes.get(0).get("result").asString().contains("startEvent"));
+        assertTrue(outcomes.get(0).has("semanticHash"));
+        assertEquals(IllegalArgumentException.class.getName(), outcomes.get(3).get("errorType").asString());
+    }
+
+    @Test
+    void resume() throws Exception {
+        Path input = dir.resolve("input.ndjson");
+        Path output = dir.resolve("output.ndjson");
+        Path checkpoint = dir.resolve("checkpoint");
+
+        Files.write(input, List.of(line("first"), line("second")), StandardCharsets.UTF_8);
+        run(input, output, checkpoint);
+        assertEquals(List.of("first", "second"), ids(outcomes(output)));
+
+        // resumed run: completed models are skipped, and new outcomes are appended
+        Files.write(input, List.of(line("first"), line("second"), line("third")), StandardCharsets.UTF_8);
+        run(input, output, checkpoint);
+        assertEquals(List.of("first", "second", "third"), ids(outcomes(output)));
+        assertEquals(List.of("first", "second", "third"), Files.readAllLines(checkpoint, StandardCharsets.UTF_8));
+    }
+}
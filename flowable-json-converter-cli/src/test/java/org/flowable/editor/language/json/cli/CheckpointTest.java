@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CheckpointTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void resume() throws IOException {
+        Path file = dir.resolve("checkpoint");
+
+        try (Checkpoint checkpoint = new Checkpoint(file)) {
+            assertFalse(checkpoint.isResumed());
+            checkpoint.complete("first");
+            checkpoint.complete("second");
+            // flushed as soon as completed, for an interrupted run not to lose them
+            assertEquals(List.of("first", "second"), Files.readAllLines(file, StandardCharsets.UTF_8));
+        }
+
+        try (Checkpoint checkpoint = new Checkpoint(file)) {
+            assertTrue(checkpoint.isResumed());
+            assertTrue(checkpoint.isCompleted("first"));
+            assertTrue(checkpoint.isCompleted("second"));
+            assertFalse(checkpoint.isCompleted("third"));
+            checkpoint.complete("third");
+        }
+
+        assertEquals(List.of("first", "second", "third"), Files.readAllLines(file, StandardCharsets.UTF_8));
+        try (Checkpoint checkpoint = new Checkpoint(file)) {
+            assertTrue(checkpoint.isCompleted("third"));
+        }
+    }
+
+    @Test
+    void emptyLinesIgnored() throws IOException {
+        Path file = dir.resolve("checkpoint");
+        Files.writeString(file, "\n\n", StandardCharsets.UTF_8);
+
+        try (Checkpoint checkpoint = new Checkpoint(file)) {
+            assertFalse(checkpoint.isResumed());
+            assertFalse(checkpoint.isCompleted(""));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.cli;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JacksonException;
+
+class NdjsonModelSourceTest {
+
+    private static NdjsonModelSource source(final String... lines) {
+        return new NdjsonModelSource(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+
+    @Test
+    void models() throws IOException {
+        try (NdjsonModelSource source = source(
+                "{\"id\": \"object\", \"model\": {\"resourceId\": \"canvas\"}}",
+                "",
+                "   ",
+                "{\"id\": \"string\", \"model\": \"<definitions/>\"}")) {
+
+            ModelInput object = source.next();
+            assertEquals("object", object.id());
+            assertArrayEquals("{\"resourceId\":\"canvas\"}".getBytes(StandardCharsets.UTF_8), object.content());
+            assertNull(object.error());
+
+            ModelInput string = source.next();
+            assertEquals("string", string.id());
+            assertArrayEquals("<definitions/>".getBytes(StandardCharsets.UTF_8), string.content());
+            assertNull(string.error());
+
+            assertNull(source.next());
+        }
+    }
+
+    @Test
+    void invalidLines() throws IOException {
+        try (NdjsonModelSource source = source(
+                "{\"id\": \"first\", \"model\": {}}",
+                "{\"id\": \"broken\", \"model\": ",
+                "",
+                "{\"model\": {}}",
+                "{\"id\": \"noModel\"}",
+                "{\"id\": \"last\", \"model\": {}}")) {
+
+            assertEquals("first", source.next().id());
+
+            ModelInput malformed = source.next();
+            assertEquals("line 2", malformed.id());
+            assertNull(malformed.content());
+            assertInstanceOf(JacksonException.class, malformed.error());
+
+            ModelInput noId = source.next();
+            assertEquals("line 4", noId.id());
+            assertNull(noId.content());
+            assertInstanceOf(IllegalArgumentException.class, noId.error());
+
+            ModelInput noModel = source.next();
+            assertEquals("noModel", noModel.id());
+            assertNull(noModel.content());
+            assertInstanceOf(IllegalArgumentException.class, noModel.error());
+
+            // a bad line does not stop reading
+            ModelInput last = source.next();
+            assertEquals("last", last.id());
+            assertNull(last.error());
+
+            assertNull(source.next());
+        }
+    }
+}
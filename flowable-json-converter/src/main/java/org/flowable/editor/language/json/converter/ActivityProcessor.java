@@ -29,4 +29,28 @@ public interface ActivityProcessor {
 
     void processJsonElements(JsonNode shapesArrayNode, JsonNode modelNode, BaseElement parentElement,
             Map<String, JsonNode> shapeMap, BpmnJsonConverterContext converterContext, BpmnModel bpmnModel);
+
+    /**
+     * Converts the child shapes of a container, then runs the given post-step; implementations may defer both until
+     * the calling converter returns, for the call stack not to grow with the nesting depth.
+     *
+     * @param shapesArrayNode child shapes
+     * @param modelNode editor model
+     * @param parentElement container of the child shapes
+     * @param shapeMap shapes, by resource id
+     * @param converterContext converter context
+     * @param bpmnModel model being built
+     * @param afterChildren what needs the converted child shapes in place, e.g. data objects
+     */
+    default void processJsonChildElements(JsonNode shapesArrayNode, JsonNode modelNode, BaseElement parentElement,
+            Map<String, JsonNode> shapeMap, BpmnJsonConverterContext converterContext, BpmnModel bpmnModel,
+            Runnable afterChildren) {
+
+        processJsonElements(shapesArrayNode, modelNode, parentElement, shapeMap, converterContext, bpmnModel);
+        afterChildren.run();
+    }
+
+    default BpmnJsonConverterOptions getOptions() {
+        return new BpmnJsonConverterOptions();
+    }
 }
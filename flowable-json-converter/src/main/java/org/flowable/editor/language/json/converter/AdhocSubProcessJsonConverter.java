@@ -12,8 +12,6 @@
  */
 package org.flowable.editor.language.json.converter;
 
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsBoolean;
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsString;
 
 import java.util.Map;
 import org.flowable.bpmn.model.AdhocSubProcess;
@@ -64,6 +62,22 @@ public class AdhocSubProcessJsonConverter extends BaseBpmnJsonConverter {
         propertiesNode.put("completioncondition", subProcess.getCompletionCondition());
         propertiesNode.put("ordering", subProcess.getOrdering());
         propertiesNode.put("cancelremaininginstances", subProcess.isCancelRemainingInstances());
+        convertChildShapesToJson(subProcess, converterContext);
+    }
+
+    @Override
+    protected void convertElementToViewerJson(
+            final ObjectNode propertiesNode,
+            final BaseElement baseElement,
+            final BpmnJsonConverterContext converterContext) {
+
+        convertChildShapesToJson((AdhocSubProcess) baseElement, converterContext);
+    }
+
+    protected void convertChildShapesToJson(
+            final AdhocSubProcess subProcess,
+            final BpmnJsonConverterContext converterContext) {
+
         ArrayNode subProcessShapesArrayNode = JSON_MAPPER.createArrayNode();
         GraphicInfo graphicInfo = model.getGraphicInfo(subProcess.getId());
         processor.processFlowElements(
@@ -79,11 +93,14 @@ public class AdhocSubProcessJsonConverter extends BaseBpmnJsonConverter {
             final BpmnJsonConverterContext converterContext) {
 
         AdhocSubProcess subProcess = new AdhocSubProcess();
-        subProcess.setCompletionCondition(getPropertyValueAsString("completioncondition", elementNode));
-        subProcess.setOrdering(getPropertyValueAsString("ordering", elementNode));
-        subProcess.setCancelRemainingInstances(getPropertyValueAsBoolean("cancelremaininginstances", elementNode));
+        subProcess.setCompletionCondition(shape(elementNode).getString("completioncondition"));
+        subProcess.setOrdering(shape(elementNode).getString("ordering"));
+        subProcess.setCancelRemainingInstances(shape(elementNode).getBoolean("cancelremaininginstances"));
         JsonNode childShapesArray = elementNode.get(EDITOR_CHILD_SHAPES);
-        processor.processJsonElements(childShapesArray, modelNode, subProcess, shapeMap, converterContext, model);
+        processor.processJsonChildElements(
+                childShapesArray, modelNode, subProcess, shapeMap, converterContext, model, () -> {
+                    // nothing to do once child shapes are converted
+                });
         return subProcess;
     }
 }
@@ -69,6 +69,7 @@ import org.flowable.editor.constants.EditorJsonConstants;
 import org.flowable.editor.constants.StencilConstants;
 import org.flowable.editor.language.json.converter.util.CollectionUtils;
 import org.flowable.editor.language.json.converter.util.JsonConverterUtil;
+import org.flowable.editor.language.json.converter.util.ShapePropertyView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tools.jackson.databind.JsonNode;
@@ -84,7 +85,7 @@ public abstract class BaseBpmnJsonConverter implements EditorJsonConstants, Sten
 
     protected static final Logger LOG = LoggerFactory.getLogger(BaseBpmnJsonConverter.class);
 
-    protected static final JsonMapper JSON_MAPPER = JsonMapper.builder().findAndAddModules().build();
+    protected static final JsonMapper JSON_MAPPER = BpmnJsonConverterUtil.jsonMapper();
 
     protected static String getValueAsString(final String name, final JsonNode objectNode) {
         String propertyValue = null;
@@ -220,6 +221,19 @@ public abstract class BaseBpmnJsonConverter implements EditorJsonConstants, Sten
 
     protected ArrayNode shapesArrayNode;
 
+    protected ShapePropertyView shapePropertyView;
+
+    /**
+     * @param elementNode shape being converted
+     * @return property view over the given shape, reused as long as the same shape is being converted
+     */
+    protected ShapePropertyView shape(final JsonNode elementNode) {
+        if (shapePropertyView == null || shapePropertyView.getShapeNode() != elementNode) {
+            shapePropertyView = new ShapePropertyView(elementNode);
+        }
+        return shapePropertyView;
+    }
+
     public void convertToJson(
             final BpmnJsonConverterContext converterContext,
             final BaseElement baseElement,
@@ -269,17 +283,23 @@ public abstract class BaseBpmnJsonConverter implements EditorJsonConstants, Sten
         ObjectNode propertiesNode = JSON_MAPPER.createObjectNode();
         propertiesNode.put(PROPERTY_OVERRIDE_ID, baseElement.getId());
 
+        boolean lightweight = processor.getOptions().isLightweightExport();
+
         if (baseElement instanceof FlowElement flowElement) {
             if (StringUtils.isNotEmpty(flowElement.getName())) {
                 propertiesNode.put(PROPERTY_NAME, flowElement.getName());
             }
 
-            if (StringUtils.isNotEmpty(flowElement.getDocumentation())) {
+            if (!lightweight && StringUtils.isNotEmpty(flowElement.getDocumentation())) {
                 propertiesNode.put(PROPERTY_DOCUMENTATION, flowElement.getDocumentation());
             }
         }
 
-        convertElementToJson(propertiesNode, baseElement, converterContext);
+        if (lightweight) {
+            convertElementToViewerJson(propertiesNode, baseElement, converterContext);
+        } else {
+            convertElementToJson(propertiesNode, baseElement, converterContext);
+        }
 
         flowElementNode.set(EDITOR_SHAPE_PROPERTIES, propertiesNode);
         ArrayNode outgoingArrayNode = JSON_MAPPER.createArrayNode();
@@ -308,44 +328,8 @@ public abstract class BaseBpmnJsonConverter implements EditorJsonConstants, Sten
                 outgoingArrayNode.add(BpmnJsonConverterUtil.createResourceNode(boundaryEvent.getId()));
             }
 
-            propertiesNode.put(PROPERTY_ASYNCHRONOUS, activity.isAsynchronous());
-            propertiesNode.put(PROPERTY_EXCLUSIVE, !activity.isNotExclusive());
-            propertiesNode.put(PROPERTY_FOR_COMPENSATION, activity.isForCompensation());
-
-            if (activity.getLoopCharacteristics() != null) {
-                MultiInstanceLoopCharacteristics loopDef = activity.getLoopCharacteristics();
-                if (StringUtils.isNotEmpty(loopDef.getLoopCardinality()) || StringUtils.isNotEmpty(loopDef.
-                        getInputDataItem()) || StringUtils.isNotEmpty(loopDef.getCompletionCondition())) {
-
-                    if (!loopDef.isSequential()) {
-                        propertiesNode.put(PROPERTY_MULTIINSTANCE_TYPE, "Parallel");
-                    } else {
-                        propertiesNode.put(PROPERTY_MULTIINSTANCE_TYPE, "Sequential");
-                    }
-
-                    if (StringUtils.isNotEmpty(loopDef.getLoopCardinality())) {
-                        propertiesNode.put(PROPERTY_MULTIINSTANCE_CARDINALITY, loopDef.getLoopCardinality());
-                    }
-                    if (StringUtils.isNotEmpty(loopDef.getInputDataItem())) {
-                        propertiesNode.put(PROPERTY_MULTIINSTANCE_COLLECTION, loopDef.getInputDataItem());
-                    }
-                    if (StringUtils.isNotEmpty(loopDef.getElementVariable())) {
-                        propertiesNode.put(PROPERTY_MULTIINSTANCE_VARIABLE, loopDef.getElementVariable());
-                    }
-                    if (StringUtils.isNotEmpty(loopDef.getCompletionCondition())) {
-                        propertiesNode.put(PROPERTY_MULTIINSTANCE_CONDITION, loopDef.getCompletionCondition());
-                    }
-                    if (StringUtils.isNotEmpty(loopDef.getElementIndexVariable())) {
-                        propertiesNode.put(PROPERTY_MULTIINSTANCE_INDEX_VARIABLE, loopDef.getElementIndexVariable());
-                    }
-
-                    processVariableAggregationDefinitions(loopDef.getAggregations(), propertiesNode);
-                }
-            }
-
-            if (activity instanceof UserTask userTask) {
-                BpmnJsonConverterUtil.convertListenersToJson(
-                        userTask.getTaskListeners(), false, propertiesNode);
+            if (!lightweight) {
+                convertActivityPropertiesToJson(activity, propertiesNode);
             }
 
             if (CollectionUtils.isNotEmpty(activity.getDataInputAssociations())) {
@@ -364,12 +348,12 @@ public abstract class BaseBpmnJsonConverter implements EditorJsonConstants, Sten
                     }
                 }
             }
-        } else if (baseElement instanceof Gateway gateway) {
+        } else if (baseElement instanceof Gateway gateway && !lightweight) {
             propertiesNode.put(PROPERTY_ASYNCHRONOUS, gateway.isAsynchronous());
             propertiesNode.put(PROPERTY_EXCLUSIVE, !gateway.isNotExclusive());
         }
 
-        if (baseElement instanceof FlowElement flowElement) {
+        if (baseElement instanceof FlowElement flowElement && !lightweight) {
             BpmnJsonConverterUtil.convertListenersToJson(
                     flowElement.getExecutionListeners(), true, propertiesNode);
         }
@@ -390,9 +374,53 @@ public abstract class BaseBpmnJsonConverter implements EditorJsonConstants, Sten
             }
         }
 
+        BpmnJsonConverterUtil.retainViewerProperties(processor.getOptions(), propertiesNode);
+
         flowElementNode.set("outgoing", outgoingArrayNode);
     }
 
+    protected void convertActivityPropertiesToJson(final Activity activity, final ObjectNode propertiesNode) {
+        propertiesNode.put(PROPERTY_ASYNCHRONOUS, activity.isAsynchronous());
+        propertiesNode.put(PROPERTY_EXCLUSIVE, !activity.isNotExclusive());
+        propertiesNode.put(PROPERTY_FOR_COMPENSATION, activity.isForCompensation());
+
+        if (activity.getLoopCharacteristics() != null) {
+            MultiInstanceLoopCharacteristics loopDef = activity.getLoopCharacteristics();
+            if (StringUtils.isNotEmpty(loopDef.getLoopCardinality()) || StringUtils.isNotEmpty(loopDef.
+                    getInputDataItem()) || StringUtils.isNotEmpty(loopDef.getCompletionCondition())) {
+
+                if (!loopDef.isSequential()) {
+                    propertiesNode.put(PROPERTY_MULTIINSTANCE_TYPE, "Parallel");
+                } else {
+                    propertiesNode.put(PROPERTY_MULTIINSTANCE_TYPE, "Sequential");
+                }
+
+                if (StringUtils.isNotEmpty(loopDef.getLoopCardinality())) {
+                    propertiesNode.put(PROPERTY_MULTIINSTANCE_CARDINALITY, loopDef.getLoopCardinality());
+                }
+                if (StringUtils.isNotEmpty(loopDef.getInputDataItem())) {
+                    propertiesNode.put(PROPERTY_MULTIINSTANCE_COLLECTION, loopDef.getInputDataItem());
+                }
+                if (StringUtils.isNotEmpty(loopDef.getElementVariable())) {
+                    propertiesNode.put(PROPERTY_MULTIINSTANCE_VARIABLE, loopDef.getElementVariable());
+                }
+                if (StringUtils.isNotEmpty(loopDef.getCompletionCondition())) {
+                    propertiesNode.put(PROPERTY_MULTIINSTANCE_CONDITION, loopDef.getCompletionCondition());
+                }
+                if (StringUtils.isNotEmpty(loopDef.getElementIndexVariable())) {
+                    propertiesNode.put(PROPERTY_MULTIINSTANCE_INDEX_VARIABLE, loopDef.getElementIndexVariable());
+                }
+
+                processVariableAggregationDefinitions(loopDef.getAggregations(), propertiesNode);
+            }
+        }
+
+        if (activity instanceof UserTask userTask) {
+            BpmnJsonConverterUtil.convertListenersToJson(
+                    userTask.getTaskListeners(), false, propertiesNode);
+        }
+    }
+
     protected void processVariableAggregationDefinitions(
             final VariableAggregationDefinitions aggregations, final ObjectNode propertiesNode) {
 
@@ -471,29 +499,24 @@ public abstract class BaseBpmnJsonConverter implements EditorJsonConstants, Sten
 
         ObjectNode flowNode = BpmnJsonConverterUtil.createChildShape(
                 dataAssociation.getId(), STENCIL_DATA_ASSOCIATION, 172, 212, 128, 212);
-        ArrayNode dockersArrayNode = JSON_MAPPER.createArrayNode();
-        ObjectNode dockNode = JSON_MAPPER.createObjectNode();
-
-        dockNode.put(EDITOR_BOUNDS_X, model.getGraphicInfo(sourceRef).getWidth() / 2.0);
-        dockNode.put(EDITOR_BOUNDS_Y, model.getGraphicInfo(sourceRef).getHeight() / 2.0);
-        dockersArrayNode.add(dockNode);
+        ArrayNode dockersArrayNode = BpmnJsonNodeFactory.INSTANCE.arrayNode(
+                Math.max(2, model.getFlowLocationGraphicInfo(dataAssociation.getId()).size()));
+        dockersArrayNode.add(BpmnJsonConverterUtil.createPositionNode(
+                model.getGraphicInfo(sourceRef).getWidth() / 2.0,
+                model.getGraphicInfo(sourceRef).getHeight() / 2.0));
 
         if (model.getFlowLocationGraphicInfo(dataAssociation.getId()).size() > 2) {
             for (int i = 1; i < model.getFlowLocationGraphicInfo(dataAssociation.getId()).size() - 1; i++) {
                 GraphicInfo graphicInfo = model.getFlowLocationGraphicInfo(dataAssociation.getId()).get(i);
-                dockNode = JSON_MAPPER.createObjectNode();
-                dockNode.put(EDITOR_BOUNDS_X, graphicInfo.getX());
-                dockNode.put(EDITOR_BOUNDS_Y, graphicInfo.getY());
-                dockersArrayNode.add(dockNode);
+                dockersArrayNode.add(BpmnJsonConverterUtil.createPositionNode(graphicInfo.getX(), graphicInfo.getY()));
             }
         }
 
-        dockNode = JSON_MAPPER.createObjectNode();
-        dockNode.put(EDITOR_BOUNDS_X, model.getGraphicInfo(targetRef).getWidth() / 2.0);
-        dockNode.put(EDITOR_BOUNDS_Y, model.getGraphicInfo(targetRef).getHeight() / 2.0);
-        dockersArrayNode.add(dockNode);
+        dockersArrayNode.add(BpmnJsonConverterUtil.createPositionNode(
+                model.getGraphicInfo(targetRef).getWidth() / 2.0,
+                model.getGraphicInfo(targetRef).getHeight() / 2.0));
         flowNode.set("dockers", dockersArrayNode);
-        ArrayNode outgoingArrayNode = JSON_MAPPER.createArrayNode();
+        ArrayNode outgoingArrayNode = BpmnJsonNodeFactory.INSTANCE.arrayNode(1);
         outgoingArrayNode.add(BpmnJsonConverterUtil.createResourceNode(targetRef));
         flowNode.set("outgoing", outgoingArrayNode);
         flowNode.set("target", BpmnJsonConverterUtil.createResourceNode(targetRef));
@@ -518,30 +541,30 @@ public abstract class BaseBpmnJsonConverter implements EditorJsonConstants, Sten
         this.model = bpmnModel;
 
         BaseElement baseElement = convertJsonToElement(elementNode, modelNode, shapeMap, converterContext);
-        baseElement.setId(BpmnJsonConverterUtil.getElementId(elementNode));
+        baseElement.setId(shape(elementNode).getElementId());
 
         if (baseElement instanceof FlowElement flowElement) {
-            flowElement.setName(getPropertyValueAsString(PROPERTY_NAME, elementNode));
-            flowElement.setDocumentation(getPropertyValueAsString(PROPERTY_DOCUMENTATION, elementNode));
+            flowElement.setName(shape(elementNode).getString(PROPERTY_NAME));
+            flowElement.setDocumentation(shape(elementNode).getString(PROPERTY_DOCUMENTATION));
 
             BpmnJsonConverterUtil.convertJsonToListeners(elementNode, flowElement);
 
             if (baseElement instanceof Activity activity) {
-                activity.setAsynchronous(getPropertyValueAsBoolean(PROPERTY_ASYNCHRONOUS, elementNode));
-                activity.setNotExclusive(!getPropertyValueAsBoolean(PROPERTY_EXCLUSIVE, elementNode));
-                activity.setForCompensation(getPropertyValueAsBoolean(PROPERTY_FOR_COMPENSATION, elementNode));
-                String multiInstanceType = getPropertyValueAsString(PROPERTY_MULTIINSTANCE_TYPE, elementNode);
+                activity.setAsynchronous(shape(elementNode).getBoolean(PROPERTY_ASYNCHRONOUS));
+                activity.setNotExclusive(!shape(elementNode).getBoolean(PROPERTY_EXCLUSIVE));
+                activity.setForCompensation(shape(elementNode).getBoolean(PROPERTY_FOR_COMPENSATION));
+                String multiInstanceType = shape(elementNode).getString(PROPERTY_MULTIINSTANCE_TYPE);
                 String multiInstanceCardinality =
-                        getPropertyValueAsString(PROPERTY_MULTIINSTANCE_CARDINALITY, elementNode);
+                        shape(elementNode).getString(PROPERTY_MULTIINSTANCE_CARDINALITY);
                 String multiInstanceCollection =
-                        getPropertyValueAsString(PROPERTY_MULTIINSTANCE_COLLECTION, elementNode);
-                String multiInstanceCondition = getPropertyValueAsString(PROPERTY_MULTIINSTANCE_CONDITION, elementNode);
+                        shape(elementNode).getString(PROPERTY_MULTIINSTANCE_COLLECTION);
+                String multiInstanceCondition = shape(elementNode).getString(PROPERTY_MULTIINSTANCE_CONDITION);
                 String multiInstanceIndexVariable =
-                        getPropertyValueAsString(PROPERTY_MULTIINSTANCE_INDEX_VARIABLE, elementNode);
+                        shape(elementNode).getString(PROPERTY_MULTIINSTANCE_INDEX_VARIABLE);
 
                 if (StringUtils.isNotEmpty(multiInstanceType) && !"none".equalsIgnoreCase(multiInstanceType)) {
                     String multiInstanceVariable =
-                            getPropertyValueAsString(PROPERTY_MULTIINSTANCE_VARIABLE, elementNode);
+                            shape(elementNode).getString(PROPERTY_MULTIINSTANCE_VARIABLE);
 
                     MultiInstanceLoopCharacteristics multiInstanceObject = new MultiInstanceLoopCharacteristics();
                     if ("sequential".equalsIgnoreCase(multiInstanceType)) {
@@ -556,14 +579,14 @@ public abstract class BaseBpmnJsonConverter implements EditorJsonConstants, Sten
                     multiInstanceObject.setElementIndexVariable(multiInstanceIndexVariable);
 
                     multiInstanceObject.setAggregations(convertJsonToVariableAggregationDefinitions(
-                            getProperty(PROPERTY_MULTIINSTANCE_VARIABLE_AGGREGATIONS, elementNode)));
+                            shape(elementNode).get(PROPERTY_MULTIINSTANCE_VARIABLE_AGGREGATIONS)));
 
                     activity.setLoopCharacteristics(multiInstanceObject);
                 }
             } else if (baseElement instanceof Gateway gateway) {
-                gateway.setAsynchronous(getPropertyValueAsBoolean(PROPERTY_ASYNCHRONOUS, elementNode));
-                gateway.setNotExclusive(!getPropertyValueAsBoolean(PROPERTY_EXCLUSIVE, elementNode));
-                JsonNode flowOrderNode = getProperty(PROPERTY_SEQUENCEFLOW_ORDER, elementNode);
+                gateway.setAsynchronous(shape(elementNode).getBoolean(PROPERTY_ASYNCHRONOUS));
+                gateway.setNotExclusive(!shape(elementNode).getBoolean(PROPERTY_EXCLUSIVE));
+                JsonNode flowOrderNode = shape(elementNode).get(PROPERTY_SEQUENCEFLOW_ORDER);
 
                 if (flowOrderNode != null) {
                     flowOrderNode = BpmnJsonConverterUtil.validateIfNodeIsTextual(flowOrderNode);
@@ -613,6 +636,22 @@ public abstract class BaseBpmnJsonConverter implements EditorJsonConstants, Sten
             BaseElement baseElement,
             BpmnJsonConverterContext converterContext);
 
+    /**
+     * Invoked instead of {@link #convertElementToJson(ObjectNode, BaseElement, BpmnJsonConverterContext)} when
+     * exporting for viewers: only what is needed to draw the element, e.g. nested shapes, should be added here.
+     *
+     * @param propertiesNode shape properties
+     * @param baseElement element being converted
+     * @param converterContext converter context
+     */
+    protected void convertElementToViewerJson(
+            final ObjectNode propertiesNode,
+            final BaseElement baseElement,
+            final BpmnJsonConverterContext converterContext) {
+
+        // nothing to add by default
+    }
+
     protected abstract BaseElement convertJsonToElement(
             JsonNode elementNode,
             JsonNode modelNode,
@@ -804,7 +843,7 @@ public abstract class BaseBpmnJsonConverter implements EditorJsonConstants, Sten
     }
 
     protected void addReceiveEventExtensionElements(final JsonNode elementNode, final FlowElement flowElement) {
-        String eventKey = getPropertyValueAsString(PROPERTY_EVENT_REGISTRY_EVENT_KEY, elementNode);
+        String eventKey = shape(elementNode).getString(PROPERTY_EVENT_REGISTRY_EVENT_KEY);
         if (StringUtils.isNotEmpty(eventKey)) {
             addFlowableExtensionElementWithValue("eventType", eventKey, flowElement);
             addFlowableExtensionElementWithValue("eventName", getPropertyValueAsString(
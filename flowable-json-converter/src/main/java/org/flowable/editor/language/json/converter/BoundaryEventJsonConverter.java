@@ -12,7 +12,6 @@
  */
 package org.flowable.editor.language.json.converter;
 
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsBoolean;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -126,6 +125,24 @@ public class BoundaryEventJsonConverter extends BaseBpmnJsonConverter {
             final BpmnJsonConverterContext converterContext) {
 
         BoundaryEvent boundaryEvent = (BoundaryEvent) baseElement;
+        addDockers(boundaryEvent);
+
+        propertiesNode.put(PROPERTY_CANCEL_ACTIVITY, boundaryEvent.isCancelActivity());
+
+        addEventProperties(boundaryEvent, propertiesNode);
+        addEventRegistryProperties(boundaryEvent, propertiesNode);
+    }
+
+    @Override
+    protected void convertElementToViewerJson(
+            final ObjectNode propertiesNode,
+            final BaseElement baseElement,
+            final BpmnJsonConverterContext converterContext) {
+
+        addDockers((BoundaryEvent) baseElement);
+    }
+
+    protected void addDockers(final BoundaryEvent boundaryEvent) {
         ArrayNode dockersArrayNode = JSON_MAPPER.createArrayNode();
         ObjectNode dockNode = JSON_MAPPER.createObjectNode();
         GraphicInfo graphicInfo = model.getGraphicInfo(boundaryEvent.getId());
@@ -149,11 +166,6 @@ public class BoundaryEventJsonConverter extends BaseBpmnJsonConverter {
         dockersArrayNode.add(dockNode);
 
         flowElementNode.set("dockers", dockersArrayNode);
-
-        propertiesNode.put(PROPERTY_CANCEL_ACTIVITY, boundaryEvent.isCancelActivity());
-
-        addEventProperties(boundaryEvent, propertiesNode);
-        addEventRegistryProperties(boundaryEvent, propertiesNode);
     }
 
     @Override
@@ -196,7 +208,7 @@ public class BoundaryEventJsonConverter extends BaseBpmnJsonConverter {
                 && !STENCIL_EVENT_BOUNDARY_COMPENSATION.equals(stencilId)
                 && !STENCIL_EVENT_BOUNDARY_CONDITIONAL.equals(stencilId)) {
 
-            boundaryEvent.setCancelActivity(getPropertyValueAsBoolean(PROPERTY_CANCEL_ACTIVITY, elementNode));
+            boundaryEvent.setCancelActivity(shape(elementNode).getBoolean(PROPERTY_CANCEL_ACTIVITY));
         }
         boundaryEvent.setAttachedToRefId(lookForAttachedRef(
                 elementNode.get(EDITOR_SHAPE_ID).asString(), modelNode.get(EDITOR_CHILD_SHAPES)));
@@ -204,32 +216,7 @@ public class BoundaryEventJsonConverter extends BaseBpmnJsonConverter {
     }
 
     protected String lookForAttachedRef(final String boundaryEventId, final JsonNode childShapesNode) {
-        String attachedRefId = null;
-
-        if (childShapesNode != null) {
-            for (JsonNode childNode : childShapesNode) {
-                ArrayNode outgoingNode = (ArrayNode) childNode.get("outgoing");
-                if (outgoingNode != null && outgoingNode.size() > 0) {
-                    for (JsonNode outgoingChildNode : outgoingNode) {
-                        JsonNode resourceNode = outgoingChildNode.get(EDITOR_SHAPE_ID);
-                        if (resourceNode != null && boundaryEventId.equals(resourceNode.asString())) {
-                            attachedRefId = BpmnJsonConverterUtil.getElementId(childNode);
-                            break;
-                        }
-                    }
-
-                    if (attachedRefId != null) {
-                        break;
-                    }
-                }
-
-                attachedRefId = lookForAttachedRef(boundaryEventId, childNode.get(EDITOR_CHILD_SHAPES));
-                if (attachedRefId != null) {
-                    break;
-                }
-            }
-        }
-
-        return attachedRefId;
+        JsonNode attachedNode = BpmnJsonConverterUtil.lookForOutgoingOwner(boundaryEventId, childShapesNode);
+        return attachedNode == null ? null : BpmnJsonConverterUtil.getElementId(attachedNode);
     }
 }
@@ -0,0 +1,236 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.editor.language.json.converter.util.JsonConverterUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Converts all the process models of an app to BPMN 2.0 XML, streamed as a zip bundle with one
+ * {@code <process key>.bpmn20.xml} entry per model, as needed for export or deployment.
+ * <p>
+ * Process models referenced more than once by the app are loaded and converted once; conversions run concurrently on
+ * the given executor, sharing a {@link CachingBpmnJsonConverterContext} so that forms and decisions referenced by
+ * several models are resolved once. Entries are written in app order, as soon as available, and reported to the
+ * optional {@link Progress} listener; a {@link Report} with failures and metrics is returned at the end. Instances are
+ * thread-safe, provided that the given converter context and model loader are.
+ */
+public class BpmnAppBundlePipeline {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BpmnAppBundlePipeline.class);
+
+    /**
+     * Outcome of an app export.
+     *
+     * @param models distinct process models referenced by the app
+     * @param shared references to process models already referenced earlier by the app, thus not converted again
+     * @param failures error messages by id, for the process models which could not be loaded or converted
+     * @param entries bundle entries written
+     * @param xmlBytes BPMN 2.0 XML bytes written, before compression
+     * @param contextLookups converter context lookups performed by all conversions
+     * @param contextMisses converter context lookups actually forwarded to the given converter context
+     * @param conversionTime time spent loading and converting, summed over the process models written: compared to
+     * {@code elapsed}, tells how much conversions overlapped
+     * @param elapsed export duration
+     */
+    public record Report(
+            int models,
+            int shared,
+            Map<String, String> failures,
+            int entries,
+            long xmlBytes,
+            long contextLookups,
+            long contextMisses,
+            Duration conversionTime,
+            Duration elapsed) {
+
+    }
+
+    /**
+     * Progress of an app export, notified once per distinct process model, in app order, from the exporting thread.
+     *
+     * @param modelId process model id
+     * @param entryName name of the bundle entry written for the process model, {@code null} if it failed
+     * @param failure error message, if the process model could not be loaded or converted
+     * @param completed distinct process models done so far, this one included
+     * @param total distinct process models referenced by the app
+     */
+    public record Progress(String modelId, String entryName, String failure, int completed, int total) {
+
+    }
+
+    private record Converted(String modelId, String processKey, byte[] xml, long nanos) {
+    }
+
+    private final BpmnJsonConverter converter;
+
+    private final BpmnJsonConverterContext converterContext;
+
+    private final BpmnJsonConverterOptions options;
+
+    private final Function<String, JsonNode> modelLoader;
+
+    private final Executor executor;
+
+    /**
+     * @param converter converter for the process models
+     * @param converterContext converter context, wrapped for each export
+     * @param options conversion options
+     * @param modelLoader editor model by process model id, {@code null} if not found
+     * @param executor where conversions run
+     */
+    public BpmnAppBundlePipeline(
+            final BpmnJsonConverter converter,
+            final BpmnJsonConverterContext converterContext,
+            final BpmnJsonConverterOptions options,
+            final Function<String, JsonNode> modelLoader,
+            final Executor executor) {
+
+        this.converter = converter;
+        this.converterContext = converterContext;
+        this.options = options;
+        this.modelLoader = modelLoader;
+        this.executor = executor;
+    }
+
+    private Converted convert(final String modelId, final BpmnJsonConverterContext context) {
+        long start = System.nanoTime();
+
+        JsonNode modelNode = modelLoader.apply(modelId);
+        if (modelNode == null) {
+            throw new FlowableException("Process model " + modelId + " not found");
+        }
+
+        BpmnModel model = converter.convertToBpmnModel(modelNode, context, options);
+        String processKey = model.getMainProcess() == null ? modelId : model.getMainProcess().getId();
+        byte[] xml = new BpmnXMLConverter().convertToXML(model);
+        return new Converted(modelId, processKey, xml, System.nanoTime() - start);
+    }
+
+    public Report export(final JsonNode appModelNode, final OutputStream out) {
+        return export(appModelNode, out, null);
+    }
+
+    /**
+     * @param appModelNode app model, as per {@link JsonConverterUtil#getAppModelReferencedProcessModels(JsonNode)}
+     * @param out where the zip bundle is written, finished but not closed
+     * @param progressListener notified as each process model is written to the bundle or fails, if not {@code null}
+     * @return export outcome; process models failing are reported there, and left out of the bundle
+     */
+    public Report export(
+            final JsonNode appModelNode,
+            final OutputStream out,
+            final Consumer<Progress> progressListener) {
+
+        long start = System.nanoTime();
+
+        List<JsonNode> referenced = JsonConverterUtil.getAppModelReferencedProcessModels(appModelNode);
+        Set<String> modelIds = new LinkedHashSet<>();
+        for (JsonNode modelNode : referenced) {
+            JsonNode idNode = modelNode.get("id");
+            if (idNode != null && !idNode.isNull()) {
+                modelIds.add(idNode.asString());
+            }
+        }
+
+        CachingBpmnJsonConverterContext context = new CachingBpmnJsonConverterContext(converterContext);
+        Map<String, CompletableFuture<Converted>> conversions = new LinkedHashMap<>();
+        for (String modelId : modelIds) {
+            conversions.put(modelId, CompletableFuture.supplyAsync(() -> convert(modelId, context), executor));
+        }
+
+        Map<String, String> failures = new LinkedHashMap<>();
+        Set<String> entryNames = new HashSet<>();
+        long xmlBytes = 0;
+        long conversionNanos = 0;
+        int completed = 0;
+        ZipOutputStream zip = new ZipOutputStream(out);
+        try {
+            for (Map.Entry<String, CompletableFuture<Converted>> conversion : conversions.entrySet()) {
+                completed++;
+
+                Converted converted;
+                try {
+                    converted = conversion.getValue().join();
+                } catch (CompletionException e) {
+                    LOG.warn("Could not convert process model {}", conversion.getKey(), e.getCause());
+                    failures.put(conversion.getKey(), e.getCause().getMessage());
+                    if (progressListener != null) {
+                        progressListener.accept(new Progress(
+                                conversion.getKey(), null, e.getCause().getMessage(), completed, modelIds.size()));
+                    }
+                    continue;
+                }
+
+                // distinct models may define processes with the same key
+                String entryName = converted.processKey() + ".bpmn20.xml";
+                if (!entryNames.add(entryName)) {
+                    entryName = converted.modelId() + ".bpmn20.xml";
+                    entryNames.add(entryName);
+                }
+                zip.putNextEntry(new ZipEntry(entryName));
+                zip.write(converted.xml());
+                zip.closeEntry();
+                xmlBytes += converted.xml().length;
+                conversionNanos += converted.nanos();
+                LOG.debug("Exported process model {} as {} ({}/{})",
+                        converted.modelId(), entryName, completed, modelIds.size());
+
+                if (progressListener != null) {
+                    progressListener.accept(new Progress(
+                            converted.modelId(), entryName, null, completed, modelIds.size()));
+                }
+            }
+            zip.finish();
+            zip.flush();
+        } catch (IOException e) {
+            conversions.values().forEach(conversion -> conversion.cancel(false));
+            throw new FlowableException("Could not write app bundle", e);
+        }
+
+        Report report = new Report(
+                modelIds.size(),
+                referenced.size() - modelIds.size(),
+                Collections.unmodifiableMap(failures),
+                modelIds.size() - failures.size(),
+                xmlBytes,
+                context.getLookups(),
+                context.getMisses(),
+                Duration.ofNanos(conversionNanos),
+                Duration.ofNanos(System.nanoTime() - start));
+        LOG.info("Exported app bundle: {}", report);
+        return report;
+    }
+}
@@ -0,0 +1,195 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.AdhocSubProcess;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.CallActivity;
+import org.flowable.bpmn.model.ConditionalEventDefinition;
+import org.flowable.bpmn.model.Event;
+import org.flowable.bpmn.model.EventDefinition;
+import org.flowable.bpmn.model.EventListener;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowableListener;
+import org.flowable.bpmn.model.ImplementationType;
+import org.flowable.bpmn.model.MultiInstanceLoopCharacteristics;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.ScriptTask;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.ServiceTask;
+import org.flowable.bpmn.model.SubProcess;
+import org.flowable.bpmn.model.TimerEventDefinition;
+import org.flowable.bpmn.model.UserTask;
+
+/**
+ * De-duplicated catalog of the expressions found in converted models, with the ids of the elements using them, for
+ * pre-warming the engine expression cache before the first process instance starts.
+ * <p>
+ * Collected are sequence flow conditions (generated ones included) and skip expressions, multi-instance cardinality,
+ * collection and completion conditions, ad-hoc sub-process completion conditions, service task and listener
+ * expressions and delegate expressions, skip expressions of service (of any type), user and script tasks, user task
+ * assignee, owner, candidate users and groups, due date, priority and category, call activity called elements, timer
+ * definitions and conditional event conditions. Only values holding an expression, as {@code ${...}} or
+ * {@code #{...}}, are collected: literal values, as plain user ids or ISO 8601 durations, are left out.
+ * <p>
+ * The same instance can be used for a whole batch of models; when used via
+ * {@link BpmnJsonConverterOptions#setExpressionCatalog(BpmnExpressionCatalog)}, each model is collected right after
+ * conversion.
+ */
+public class BpmnExpressionCatalog {
+
+    private static boolean isExpression(final String implementationType) {
+        return ImplementationType.IMPLEMENTATION_TYPE_EXPRESSION.equals(implementationType)
+                || ImplementationType.IMPLEMENTATION_TYPE_DELEGATEEXPRESSION.equals(implementationType);
+    }
+
+    private static boolean isExpressionText(final String value) {
+        return value != null && (value.contains("${") || value.contains("#{"));
+    }
+
+    private final Map<String, Set<String>> expressions = new LinkedHashMap<>();
+
+    private void add(final String expression, final String elementId) {
+        if (isExpressionText(expression)) {
+            expressions.computeIfAbsent(expression, k -> new LinkedHashSet<>()).add(elementId);
+        }
+    }
+
+    private void addAll(final List<String> values, final String elementId) {
+        if (values != null) {
+            values.forEach(value -> add(value, elementId));
+        }
+    }
+
+    private void addListeners(final List<FlowableListener> listeners, final String elementId) {
+        for (FlowableListener listener : listeners) {
+            if (isExpression(listener.getImplementationType())) {
+                add(listener.getImplementation(), elementId);
+            }
+        }
+    }
+
+    private void addEventDefinitions(final List<EventDefinition> eventDefinitions, final String elementId) {
+        for (EventDefinition eventDefinition : eventDefinitions) {
+            if (eventDefinition instanceof TimerEventDefinition timer) {
+                add(timer.getTimeDate(), elementId);
+                add(timer.getTimeDuration(), elementId);
+                add(timer.getTimeCycle(), elementId);
+                add(timer.getEndDate(), elementId);
+            } else if (eventDefinition instanceof ConditionalEventDefinition conditional) {
+                add(conditional.getConditionExpression(), elementId);
+            }
+        }
+    }
+
+    private void addActivity(final Activity activity) {
+        if (activity.getLoopCharacteristics() instanceof MultiInstanceLoopCharacteristics loop) {
+            add(loop.getLoopCardinality(), activity.getId());
+            add(loop.getInputDataItem(), activity.getId());
+            add(loop.getCompletionCondition(), activity.getId());
+        }
+
+        if (activity instanceof ServiceTask serviceTask) {
+            add(serviceTask.getSkipExpression(), serviceTask.getId());
+            if (isExpression(serviceTask.getImplementationType())) {
+                add(serviceTask.getImplementation(), serviceTask.getId());
+            }
+        } else if (activity instanceof UserTask userTask) {
+            addUserTask(userTask);
+        } else if (activity instanceof ScriptTask scriptTask) {
+            add(scriptTask.getSkipExpression(), scriptTask.getId());
+        } else if (activity instanceof CallActivity callActivity) {
+            add(callActivity.getCalledElement(), callActivity.getId());
+        } else if (activity instanceof AdhocSubProcess adhocSubProcess) {
+            add(adhocSubProcess.getCompletionCondition(), adhocSubProcess.getId());
+        }
+    }
+
+    private void addUserTask(final UserTask userTask) {
+        add(userTask.getSkipExpression(), userTask.getId());
+        add(userTask.getAssignee(), userTask.getId());
+        add(userTask.getOwner(), userTask.getId());
+        addAll(userTask.getCandidateUsers(), userTask.getId());
+        addAll(userTask.getCandidateGroups(), userTask.getId());
+        add(userTask.getDueDate(), userTask.getId());
+        add(userTask.getPriority(), userTask.getId());
+        add(userTask.getCategory(), userTask.getId());
+        addListeners(userTask.getTaskListeners(), userTask.getId());
+    }
+
+    private void addFlowElements(final Collection<FlowElement> flowElements) {
+        Deque<FlowElement> stack = new ArrayDeque<>(flowElements);
+        while (!stack.isEmpty()) {
+            FlowElement flowElement = stack.pop();
+            addListeners(flowElement.getExecutionListeners(), flowElement.getId());
+
+            if (flowElement instanceof SequenceFlow sequenceFlow) {
+                add(sequenceFlow.getConditionExpression(), sequenceFlow.getId());
+                add(sequenceFlow.getSkipExpression(), sequenceFlow.getId());
+            } else if (flowElement instanceof Event event) {
+                addEventDefinitions(event.getEventDefinitions(), event.getId());
+            }
+            if (flowElement instanceof Activity activity) {
+                addActivity(activity);
+            }
+            if (flowElement instanceof SubProcess subProcess) {
+                stack.addAll(subProcess.getFlowElements());
+            }
+        }
+    }
+
+    /**
+     * Adds the expressions found in the given model.
+     *
+     * @param model converted model
+     */
+    public synchronized void collect(final BpmnModel model) {
+        for (Process process : model.getProcesses()) {
+            addListeners(process.getExecutionListeners(), process.getId());
+            for (EventListener eventListener : process.getEventListeners()) {
+                if (ImplementationType.IMPLEMENTATION_TYPE_DELEGATEEXPRESSION.equals(
+                        eventListener.getImplementationType())) {
+
+                    add(eventListener.getImplementation(), process.getId());
+                }
+            }
+            addFlowElements(process.getFlowElements());
+        }
+    }
+
+    /**
+     * @return collected expressions, in order of first appearance, with the ids of the elements using them
+     */
+    public synchronized Map<String, Set<String>> getExpressions() {
+        Map<String, Set<String>> copy = new LinkedHashMap<>();
+        expressions.forEach((expression, elementIds) -> copy.put(expression, Set.copyOf(elementIds)));
+        return copy;
+    }
+
+    public synchronized int size() {
+        return expressions.size();
+    }
+
+    public synchronized void clear() {
+        expressions.clear();
+    }
+}
@@ -0,0 +1,164 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.flowable.editor.constants.EditorJsonConstants;
+import org.flowable.editor.constants.StencilConstants;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Shrinks editor JSON produced by {@link BpmnJsonConverter#convertToJson} for
+ * {@link BpmnJsonConverterOptions#isCompact()}: properties holding the value assumed when missing are removed, and
+ * coordinates are rounded.
+ */
+final class BpmnJsonCompactor implements EditorJsonConstants, StencilConstants {
+
+    /**
+     * Flags read as {@code false} when missing.
+     */
+    private static final Set<String> FALSE_BY_DEFAULT = Set.of(
+            PROPERTY_ASYNCHRONOUS,
+            PROPERTY_EXCLUSIVE,
+            PROPERTY_FOR_COMPENSATION,
+            PROPERTY_CANCEL_ACTIVITY,
+            PROPERTY_INTERRUPTING,
+            PROPERTY_SEQUENCEFLOW_DEFAULT,
+            PROPERTY_IS_EAGER_EXECUTION_FETCHING,
+            PROPERTY_RULETASK_EXCLUDE,
+            PROPERTY_SCRIPT_AUTO_STORE_VARIABLES,
+            PROPERTY_SERVICETASK_TRIGGERABLE,
+            PROPERTY_SERVICETASK_USE_LOCAL_SCOPE_FOR_RESULT_VARIABLE,
+            PROPERTY_SERVICETASK_STORE_TRANSIENT_VARIABLE,
+            PROPERTY_CALLACTIVITY_INHERIT_VARIABLES,
+            PROPERTY_CALLACTIVITY_SAME_DEPLOYMENT,
+            PROPERTY_CALLACTIVITY_INHERIT_BUSINESS_KEY,
+            PROPERTY_CALLACTIVITY_USE_LOCALSCOPE_FOR_OUTPARAMETERS,
+            PROPERTY_CALLACTIVITY_COMPLETE_ASYNC,
+            "istransaction",
+            "cancelremaininginstances");
+
+    /**
+     * Containers read as empty when missing.
+     */
+    private static final Set<String> EMPTY_BY_DEFAULT = Set.of(
+            PROPERTY_EXECUTION_LISTENERS,
+            PROPERTY_TASK_LISTENERS,
+            PROPERTY_EVENT_LISTENERS,
+            PROPERTY_MESSAGE_DEFINITIONS,
+            PROPERTY_SIGNAL_DEFINITIONS,
+            PROPERTY_ESCALATION_DEFINITIONS);
+
+    private static boolean isFalse(final JsonNode valueNode) {
+        if (valueNode.isBoolean()) {
+            return !valueNode.booleanValue();
+        }
+        return valueNode.isString()
+                && ("false".equalsIgnoreCase(valueNode.asString())
+                || PROPERTY_VALUE_NO.equalsIgnoreCase(valueNode.asString()));
+    }
+
+    /**
+     * @return whether the given node is null, an empty container, or an object only holding empty containers
+     */
+    private static boolean isEmpty(final JsonNode valueNode) {
+        if (valueNode.isNull()) {
+            return true;
+        }
+        if (valueNode.isArray()) {
+            return valueNode.isEmpty();
+        }
+        if (valueNode.isObject()) {
+            for (JsonNode fieldNode : valueNode) {
+                if (!fieldNode.isContainer() || !fieldNode.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static void compactProperties(final JsonNode propertiesNode) {
+        if (!(propertiesNode instanceof ObjectNode properties)) {
+            return;
+        }
+
+        List<String> defaults = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> property : properties.properties()) {
+            if ((FALSE_BY_DEFAULT.contains(property.getKey()) && isFalse(property.getValue()))
+                    || (EMPTY_BY_DEFAULT.contains(property.getKey()) && isEmpty(property.getValue()))) {
+
+                defaults.add(property.getKey());
+            }
+        }
+        properties.remove(defaults);
+    }
+
+    private static void roundPoint(final JsonNode pointNode, final double scale) {
+        if (pointNode instanceof ObjectNode point) {
+            roundCoordinate(point, EDITOR_BOUNDS_X, scale);
+            roundCoordinate(point, EDITOR_BOUNDS_Y, scale);
+        }
+    }
+
+    private static void roundCoordinate(final ObjectNode pointNode, final String name, final double scale) {
+        JsonNode coordinateNode = pointNode.get(name);
+        if (coordinateNode != null && coordinateNode.isNumber()) {
+            double rounded = Math.round(coordinateNode.asDouble() * scale) / scale;
+            if (rounded == Math.rint(rounded)) {
+                pointNode.put(name, (long) rounded);
+            } else {
+                pointNode.put(name, rounded);
+            }
+        }
+    }
+
+    /**
+     * @param modelNode editor JSON, modified in place
+     * @param coordinatePrecision number of decimal digits kept for coordinates
+     */
+    static void compact(final ObjectNode modelNode, final int coordinatePrecision) {
+        double scale = Math.pow(10, coordinatePrecision);
+
+        Deque<JsonNode> stack = new ArrayDeque<>();
+        stack.push(modelNode);
+        while (!stack.isEmpty()) {
+            JsonNode shapeNode = stack.pop();
+
+            compactProperties(shapeNode.get(EDITOR_SHAPE_PROPERTIES));
+
+            JsonNode boundsNode = shapeNode.get(EDITOR_BOUNDS);
+            if (boundsNode != null) {
+                roundPoint(boundsNode.get(EDITOR_BOUNDS_UPPER_LEFT), scale);
+                roundPoint(boundsNode.get(EDITOR_BOUNDS_LOWER_RIGHT), scale);
+            }
+            JsonNode dockersNode = shapeNode.get(EDITOR_DOCKERS);
+            if (dockersNode != null) {
+                dockersNode.forEach(dockerNode -> roundPoint(dockerNode, scale));
+            }
+
+            BpmnJsonConverterUtil.pushChildShapes(stack, shapeNode.get(EDITOR_CHILD_SHAPES));
+        }
+    }
+
+    private BpmnJsonCompactor() {
+        // private constructor for static utility class
+    }
+}
@@ -0,0 +1,162 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.time.Duration;
+import org.flowable.editor.constants.EditorJsonConstants;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Tracks the consumption of {@link BpmnJsonConverterLimits} along a single conversion.
+ */
+class BpmnJsonConversionBudget implements EditorJsonConstants {
+
+    private final BpmnJsonConverterLimits limits;
+
+    private final long startNanos = System.nanoTime();
+
+    private final long deadlineNanos;
+
+    private int elements;
+
+    private int edges;
+
+    private int nestingDepth;
+
+    BpmnJsonConversionBudget(final BpmnJsonConverterLimits limits) {
+        this.limits = limits;
+        this.deadlineNanos = limits.getTimeout() == null ? Long.MAX_VALUE : startNanos + limits.getTimeout().toNanos();
+    }
+
+    private void fail(final BpmnJsonConversionLimitException.Limit limit, final String resourceId) {
+        throw new BpmnJsonConversionLimitException(
+                limit,
+                elements,
+                edges,
+                nestingDepth,
+                Duration.ofNanos(System.nanoTime() - startNanos),
+                resourceId);
+    }
+
+    private void fail(final BpmnJsonConversionLimitException.Limit limit, final JsonNode node) {
+        JsonNode resourceId = node == null ? null : node.get(EDITOR_SHAPE_ID);
+        fail(limit, resourceId == null ? null : resourceId.asString());
+    }
+
+    void checkInputBytes(final long inputBytes) {
+        if (inputBytes > limits.getMaxInputBytes()) {
+            fail(BpmnJsonConversionLimitException.Limit.INPUT_BYTES, (String) null);
+        }
+    }
+
+    private BpmnJsonConversionLimitException.Limit interruption() {
+        if (limits.getCancellation() != null && limits.getCancellation().isCancelled()) {
+            return BpmnJsonConversionLimitException.Limit.CANCELLED;
+        }
+        if (deadlineNanos != Long.MAX_VALUE && System.nanoTime() - deadlineNanos > 0) {
+            return BpmnJsonConversionLimitException.Limit.TIMEOUT;
+        }
+        return null;
+    }
+
+    /**
+     * Checks for cancellation and timeout; invoked for each element being processed.
+     */
+    void checkpoint() {
+        checkpoint((String) null);
+    }
+
+    /**
+     * Checks for cancellation and timeout; invoked for each shape being processed.
+     *
+     * @param node shape being processed
+     */
+    void checkpoint(final JsonNode node) {
+        BpmnJsonConversionLimitException.Limit limit = interruption();
+        if (limit != null) {
+            fail(limit, node);
+        }
+    }
+
+    /**
+     * Same as {@link #checkpoint(JsonNode)}, for shapes bound to records.
+     *
+     * @param resourceId resource id of the shape being processed, if any
+     */
+    void checkpoint(final String resourceId) {
+        BpmnJsonConversionLimitException.Limit limit = interruption();
+        if (limit != null) {
+            fail(limit, resourceId);
+        }
+    }
+
+    private BpmnJsonConversionLimitException.Limit shapeLimit(final int depth) {
+        elements++;
+        nestingDepth = Math.max(nestingDepth, depth);
+        if (elements > limits.getMaxElements()) {
+            return BpmnJsonConversionLimitException.Limit.ELEMENTS;
+        }
+        if (depth > limits.getMaxNestingDepth()) {
+            return BpmnJsonConversionLimitException.Limit.NESTING_DEPTH;
+        }
+        return null;
+    }
+
+    void countShape(final JsonNode node, final int depth) {
+        checkpoint(node);
+
+        BpmnJsonConversionLimitException.Limit limit = shapeLimit(depth);
+        if (limit != null) {
+            fail(limit, node);
+        }
+    }
+
+    void countShape(final String resourceId, final int depth) {
+        checkpoint(resourceId);
+
+        BpmnJsonConversionLimitException.Limit limit = shapeLimit(depth);
+        if (limit != null) {
+            fail(limit, resourceId);
+        }
+    }
+
+    private BpmnJsonConversionLimitException.Limit edgeLimit(final int dockers) {
+        edges++;
+        if (edges > limits.getMaxEdges()) {
+            return BpmnJsonConversionLimitException.Limit.EDGES;
+        }
+        if (dockers > limits.getMaxDockersPerEdge()) {
+            return BpmnJsonConversionLimitException.Limit.DOCKERS_PER_EDGE;
+        }
+        return null;
+    }
+
+    void countEdge(final JsonNode node) {
+        checkpoint(node);
+
+        JsonNode dockersNode = node.get(EDITOR_DOCKERS);
+        BpmnJsonConversionLimitException.Limit limit = edgeLimit(dockersNode == null ? 0 : dockersNode.size());
+        if (limit != null) {
+            fail(limit, node);
+        }
+    }
+
+    void countEdge(final String resourceId, final int dockers) {
+        checkpoint(resourceId);
+
+        BpmnJsonConversionLimitException.Limit limit = edgeLimit(dockers);
+        if (limit != null) {
+            fail(limit, resourceId);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.time.Duration;
+import org.flowable.common.engine.api.FlowableException;
+
+/**
+ * Raised when a conversion breaches one of the {@link BpmnJsonConverterLimits}, or is cancelled; carries what was
+ * processed up to that point.
+ */
+public class BpmnJsonConversionLimitException extends FlowableException {
+
+    private static final long serialVersionUID = -3542101297652934837L;
+
+    public enum Limit {
+        ELEMENTS,
+        NESTING_DEPTH,
+        INPUT_BYTES,
+        EDGES,
+        DOCKERS_PER_EDGE,
+        TIMEOUT,
+        CANCELLED
+    }
+
+    private final Limit limit;
+
+    private final int elements;
+
+    private final int edges;
+
+    private final int nestingDepth;
+
+    private final Duration elapsed;
+
+    private final String resourceId;
+
+    public BpmnJsonConversionLimitException(
+            final Limit limit,
+            final int elements,
+            final int edges,
+            final int nestingDepth,
+            final Duration elapsed,
+            final String resourceId) {
+
+        super("Conversion aborted, " + limit + " limit reached after " + elements + " elements, " + edges
+                + " edges, nesting depth " + nestingDepth + " and " + elapsed.toMillis() + " ms"
+                + (resourceId == null ? "" : ", at " + resourceId));
+        this.limit = limit;
+        this.elements = elements;
+        this.edges = edges;
+        this.nestingDepth = nestingDepth;
+        this.elapsed = elapsed;
+        this.resourceId = resourceId;
+    }
+
+    public Limit getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return number of shapes met before aborting
+     */
+    public int getElements() {
+        return elements;
+    }
+
+    /**
+     * @return number of edges met before aborting
+     */
+    public int getEdges() {
+        return edges;
+    }
+
+    /**
+     * @return deepest shape nesting met before aborting
+     */
+    public int getNestingDepth() {
+        return nestingDepth;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return resource id of the shape or edge being processed when aborting, if any
+     */
+    public String getResourceId() {
+        return resourceId;
+    }
+}
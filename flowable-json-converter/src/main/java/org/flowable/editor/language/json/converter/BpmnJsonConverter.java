@@ -17,17 +17,28 @@ import java.awt.geom.Area;
 import java.awt.geom.Ellipse2D;
 import java.awt.geom.Path2D;
 import java.awt.geom.Rectangle2D;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.Association;
 import org.flowable.bpmn.model.BaseElement;
 import org.flowable.bpmn.model.BoundaryEvent;
 import org.flowable.bpmn.model.BpmnDiEdge;
@@ -52,12 +63,18 @@ import org.flowable.bpmn.model.Signal;
 import org.flowable.bpmn.model.SignalEventDefinition;
 import org.flowable.bpmn.model.SubProcess;
 import org.flowable.bpmn.model.ValuedDataObject;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.editor.constants.EditorJsonConstants;
 import org.flowable.editor.constants.StencilConstants;
 import org.flowable.editor.language.json.converter.util.CollectionUtils;
 import org.flowable.editor.language.json.converter.util.JsonConverterUtil;
+import org.flowable.editor.language.json.model.EditorBounds;
+import org.flowable.editor.language.json.model.EditorPoint;
+import org.flowable.editor.language.json.model.EditorResource;
+import org.flowable.editor.language.json.model.EditorShape;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.node.ArrayNode;
@@ -96,11 +113,70 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
         }
     }
 
+    private record ShapeWithOffset(JsonNode shape, double parentX, double parentY, int depth) {
+    }
+
+    private record EditorShapeWithOffset(EditorShape shape, double parentX, double parentY, int depth) {
+    }
+
+    private record EdgeWithEnds(JsonNode edge, JsonNode source, JsonNode target) {
+    }
+
+    private record ElementWithContainer(FlowElement flowElement, FlowElementsContainer container) {
+    }
+
+    private record EdgeDI(BpmnDiEdge edgeInfo, List<GraphicInfo> waypoints) {
+    }
+
+    /**
+     * Edge diagram interchange computed on the pipeline executor or, if not started by the time it is joined, by the
+     * converting thread itself: a saturated executor, or the very one running the conversion, only loses the overlap.
+     */
+    private static final class EdgeDITask implements Runnable {
+
+        private final Supplier<Map<String, EdgeDI>> supplier;
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private final CompletableFuture<Map<String, EdgeDI>> result = new CompletableFuture<>();
+
+        private EdgeDITask(final Supplier<Map<String, EdgeDI>> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public void run() {
+            if (claimed.compareAndSet(false, true)) {
+                try {
+                    result.complete(supplier.get());
+                } catch (RuntimeException | Error e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        }
+
+        private Map<String, EdgeDI> join() {
+            run();
+            return result.join();
+        }
+
+        /**
+         * Keeps the task from starting, as when the conversion failed; no effect once started or joined.
+         */
+        private void cancel() {
+            if (claimed.compareAndSet(false, true)) {
+                result.cancel(false);
+            }
+        }
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(BpmnJsonConverter.class);
 
     public static final String MODELER_NAMESPACE = "http://flowable.org/modeler";
 
-    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().findAndAddModules().build();
+    public static final int DEFAULT_WARM_UP_ITERATIONS = 200;
+
+    private static final JsonMapper JSON_MAPPER = BpmnJsonConverterUtil.jsonMapper();
 
     protected static final Map<Class<? extends BaseElement>, Class<? extends BaseBpmnJsonConverter>> JSON_CONVERTERS =
             new HashMap<>();
@@ -238,27 +314,176 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
         DI_GATEWAY.add(STENCIL_GATEWAY_PARALLEL);
     }
 
+    protected final BpmnJsonConverterOptions options;
+
+    /**
+     * When not {@code null}, only elements with these ids are exported by {@code convertToJson}.
+     */
+    private final Set<String> visibleIds;
+
+    /**
+     * Nested containers met while converting to JSON, converted once their enclosing container is done.
+     */
+    private final Deque<Runnable> pendingContainers = new ArrayDeque<>();
+
+    private boolean processingContainers;
+
+    /**
+     * Child shapes met while converting to BPMN, and what needs them converted, run once the current shape is done.
+     */
+    private final Deque<Runnable> pendingJsonShapes = new ArrayDeque<>();
+
+    /**
+     * Work queued by the task being run, pushed on top of {@link #pendingJsonShapes} in the same order afterwards.
+     */
+    private final List<Runnable> queuedJsonShapes = new ArrayList<>();
+
+    private boolean processingJsonShapes;
+
+    /**
+     * Set while converting to BPMN.
+     */
+    private BpmnJsonConversionBudget budget;
+
+    public BpmnJsonConverter() {
+        this(new BpmnJsonConverterOptions());
+    }
+
+    public BpmnJsonConverter(final BpmnJsonConverterOptions options) {
+        this(options, null);
+    }
+
+    private BpmnJsonConverter(final BpmnJsonConverterOptions options, final Set<String> visibleIds) {
+        this.options = options;
+        this.visibleIds = visibleIds;
+    }
+
+    private static Set<String> visibleIds(
+            final BpmnModel model,
+            final BpmnSpatialIndex spatialIndex,
+            final GraphicInfo viewport) {
+
+        Set<String> visibleIds = spatialIndex.query(viewport);
+
+        // flows come with both their ends, not to reference shapes missing from the export
+        for (String id : visibleIds.toArray(String[]::new)) {
+            FlowElement flowElement = model.getFlowElement(id);
+            if (flowElement instanceof SequenceFlow sequenceFlow) {
+                visibleIds.add(sequenceFlow.getSourceRef());
+                visibleIds.add(sequenceFlow.getTargetRef());
+            } else if (model.getMessageFlow(id) != null) {
+                visibleIds.add(model.getMessageFlow(id).getSourceRef());
+                visibleIds.add(model.getMessageFlow(id).getTargetRef());
+            } else if (flowElement == null && model.getArtifact(id) instanceof Association association) {
+                visibleIds.add(association.getSourceRef());
+                visibleIds.add(association.getTargetRef());
+            }
+        }
+
+        // nested elements can only be reached through their enclosing sub-processes
+        for (String id : visibleIds.toArray(String[]::new)) {
+            FlowElement flowElement = model.getFlowElement(id);
+            FlowElementsContainer parent = flowElement == null ? null : flowElement.getParentContainer();
+            while (parent instanceof SubProcess subProcess && visibleIds.add(subProcess.getId())) {
+                parent = subProcess.getParentContainer();
+            }
+
+            // collapsed sub-processes come with their own canvas
+            if (flowElement instanceof SubProcess) {
+                visibleIds.addAll(spatialIndex.getCollapsedContent(id));
+            }
+        }
+
+        // ...and top-level elements through their enclosing lanes and pools
+        for (Pool pool : model.getPools()) {
+            Process process = model.getProcess(pool.getId());
+            if (process == null) {
+                continue;
+            }
+            for (Lane lane : process.getLanes()) {
+                if (lane.getFlowReferences().stream().anyMatch(visibleIds::contains)) {
+                    visibleIds.add(lane.getId());
+                }
+            }
+            if (process.getLanes().stream().anyMatch(lane -> visibleIds.contains(lane.getId()))
+                    || process.getFlowElements().stream().anyMatch(element -> visibleIds.contains(element.getId()))) {
+
+                visibleIds.add(pool.getId());
+            }
+        }
+
+        return visibleIds;
+    }
+
     private static void fillSubShapes(final Map<String, SubProcess> subShapesMap, final SubProcess subProcess) {
-        for (FlowElement flowElement : subProcess.getFlowElements()) {
-            if (flowElement instanceof SubProcess childSubProcess) {
-                subShapesMap.put(childSubProcess.getId(), subProcess);
-                fillSubShapes(subShapesMap, childSubProcess);
-            } else {
-                subShapesMap.put(flowElement.getId(), subProcess);
+        Deque<SubProcess> stack = new ArrayDeque<>();
+        stack.push(subProcess);
+
+        while (!stack.isEmpty()) {
+            SubProcess current = stack.pop();
+            for (FlowElement flowElement : current.getFlowElements()) {
+                subShapesMap.put(flowElement.getId(), current);
+                if (flowElement instanceof SubProcess childSubProcess) {
+                    stack.push(childSubProcess);
+                }
             }
         }
     }
 
+    /**
+     * Same as {@link Process#findFlowElementsOfType(Class)}, without recursing into nested sub-processes.
+     */
+    private static <T extends FlowElement> List<T> findFlowElementsOfType(
+            final FlowElementsContainer container, final Class<T> type) {
+
+        List<T> found = new ArrayList<>();
+        Deque<FlowElement> stack = new ArrayDeque<>();
+        new ArrayList<>(container.getFlowElements()).reversed().forEach(stack::push);
+        while (!stack.isEmpty()) {
+            FlowElement flowElement = stack.pop();
+            if (type.isInstance(flowElement)) {
+                found.add(type.cast(flowElement));
+            }
+            if (flowElement instanceof SubProcess subProcess) {
+                new ArrayList<>(subProcess.getFlowElements()).reversed().forEach(stack::push);
+            }
+        }
+        return found;
+    }
+
+    private static void pushFlowElements(
+            final Deque<ElementWithContainer> stack,
+            final Collection<FlowElement> flowElementList,
+            final FlowElementsContainer container) {
+
+        // pushed backwards, so that elements are popped in their original order
+        List<FlowElement> flowElements = new ArrayList<>(flowElementList);
+        for (int i = flowElements.size() - 1; i >= 0; i--) {
+            stack.push(new ElementWithContainer(flowElements.get(i), container));
+        }
+    }
+
     private static void postProcessElements(
             final FlowElementsContainer parentContainer,
             final Collection<FlowElement> flowElementList,
             final Map<String, JsonNode> edgeMap,
             final BpmnModel bpmnModel,
             final Map<String, FlowWithContainer> allFlowMap,
-            final List<Gateway> gatewayWithOrderList) {
+            final List<Gateway> gatewayWithOrderList,
+            final BpmnJsonConversionBudget budget) {
+
+        // depth-first, as elements of a sub-process need to be handled before its next sibling
+        Deque<ElementWithContainer> stack = new ArrayDeque<>();
+        pushFlowElements(stack, flowElementList, parentContainer);
+
+        while (!stack.isEmpty()) {
+            budget.checkpoint();
+
+            ElementWithContainer next = stack.pop();
+            FlowElement flowElement = next.flowElement();
+            FlowElementsContainer container = next.container();
 
-        for (FlowElement flowElement : flowElementList) {
-            parentContainer.addFlowElementToMap(flowElement);
+            container.addFlowElementToMap(flowElement);
 
             if (flowElement instanceof Event event) {
                 if (CollectionUtils.isNotEmpty(event.getEventDefinitions())) {
@@ -283,7 +508,7 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
 
             if (flowElement instanceof BoundaryEvent boundaryEvent) {
                 Activity activity = retrieveAttachedRefObject(
-                        boundaryEvent.getAttachedToRefId(), parentContainer.getFlowElements());
+                        boundaryEvent.getAttachedToRefId(), container.getFlowElements());
 
                 if (activity == null) {
                     LOG.warn("Boundary event {} is not attached to any activity", boundaryEvent.getId());
@@ -296,13 +521,11 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
                     gatewayWithOrderList.add(gateway);
                 }
             } else if (flowElement instanceof SubProcess subProcess) {
-                postProcessElements(subProcess, subProcess.getFlowElements(), edgeMap, bpmnModel, allFlowMap,
-                        gatewayWithOrderList);
-
+                pushFlowElements(stack, subProcess.getFlowElements(), subProcess);
             } else if (flowElement instanceof SequenceFlow sequenceFlow) {
-                FlowElement sourceFlowElement = parentContainer.getFlowElement(sequenceFlow.getSourceRef());
+                FlowElement sourceFlowElement = container.getFlowElement(sequenceFlow.getSourceRef());
                 if (sourceFlowElement instanceof FlowNode flowNode) {
-                    FlowWithContainer flowWithContainer = new FlowWithContainer(sequenceFlow, parentContainer);
+                    FlowWithContainer flowWithContainer = new FlowWithContainer(sequenceFlow, container);
                     if (sequenceFlow.getExtensionElements().get("EDITOR_RESOURCEID") != null
                             && !sequenceFlow.getExtensionElements().get("EDITOR_RESOURCEID").isEmpty()) {
 
@@ -326,7 +549,7 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
                         }
                     }
                 }
-                FlowElement targetFlowElement = parentContainer.getFlowElement(sequenceFlow.getTargetRef());
+                FlowElement targetFlowElement = container.getFlowElement(sequenceFlow.getTargetRef());
                 if (targetFlowElement instanceof FlowNode flowNode) {
                     flowNode.getIncomingFlows().add(sequenceFlow);
                 }
@@ -338,23 +561,22 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
             final String attachedToRefId,
             final Collection<FlowElement> flowElementList) {
 
-        Activity activity = null;
-        if (StringUtils.isNotEmpty(attachedToRefId)) {
-            for (FlowElement flowElement : flowElementList) {
-                if (attachedToRefId.equals(flowElement.getId())) {
-                    activity = (Activity) flowElement;
-                    break;
-                } else if (flowElement instanceof SubProcess subProcess) {
-                    Activity retrievedActivity =
-                            retrieveAttachedRefObject(attachedToRefId, subProcess.getFlowElements());
-                    if (retrievedActivity != null) {
-                        activity = retrievedActivity;
-                        break;
-                    }
-                }
+        if (StringUtils.isEmpty(attachedToRefId)) {
+            return null;
+        }
+
+        Deque<ElementWithContainer> stack = new ArrayDeque<>();
+        pushFlowElements(stack, flowElementList, null);
+
+        while (!stack.isEmpty()) {
+            FlowElement flowElement = stack.pop().flowElement();
+            if (attachedToRefId.equals(flowElement.getId())) {
+                return (Activity) flowElement;
+            } else if (flowElement instanceof SubProcess subProcess) {
+                pushFlowElements(stack, subProcess.getFlowElements(), subProcess);
             }
         }
-        return activity;
+        return null;
     }
 
     private static void readShapeDI(
@@ -363,25 +585,28 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
             final double parentY,
             final Map<String, JsonNode> shapeMap,
             final Map<String, JsonNode> sourceRefMap,
-            final BpmnModel bpmnModel) {
+            final BpmnModel bpmnModel,
+            final BpmnJsonConversionBudget budget) {
 
-        if (objectNode.get(EDITOR_CHILD_SHAPES) == null) {
-            return;
-        }
+        Deque<ShapeWithOffset> stack = new ArrayDeque<>();
+        pushShapesWithOffset(stack, objectNode, parentX, parentY, 1);
+
+        while (!stack.isEmpty()) {
+            ShapeWithOffset next = stack.pop();
+            JsonNode jsonChildNode = next.shape();
 
-        for (JsonNode jsonChildNode : objectNode.get(EDITOR_CHILD_SHAPES)) {
             String stencilId = BpmnJsonConverterUtil.getStencilId(jsonChildNode);
             if (!STENCIL_SEQUENCE_FLOW.equals(stencilId) && !STENCIL_ASSOCIATION.equals(stencilId)) {
-                GraphicInfo graphicInfo = new GraphicInfo();
+                budget.countShape(jsonChildNode, next.depth());
 
                 JsonNode boundsNode = jsonChildNode.get(EDITOR_BOUNDS);
-                ObjectNode upperLeftNode = (ObjectNode) boundsNode.get(EDITOR_BOUNDS_UPPER_LEFT);
-                ObjectNode lowerRightNode = (ObjectNode) boundsNode.get(EDITOR_BOUNDS_LOWER_RIGHT);
+                JsonNode upperLeftNode = boundsNode.get(EDITOR_BOUNDS_UPPER_LEFT);
+                JsonNode lowerRightNode = boundsNode.get(EDITOR_BOUNDS_LOWER_RIGHT);
 
-                graphicInfo.setX(upperLeftNode.get(EDITOR_BOUNDS_X).asDouble() + parentX);
-                graphicInfo.setY(upperLeftNode.get(EDITOR_BOUNDS_Y).asDouble() + parentY);
-                graphicInfo.setWidth(lowerRightNode.get(EDITOR_BOUNDS_X).asDouble() - graphicInfo.getX() + parentX);
-                graphicInfo.setHeight(lowerRightNode.get(EDITOR_BOUNDS_Y).asDouble() - graphicInfo.getY() + parentY);
+                GraphicInfo graphicInfo = createShapeGraphicInfo(
+                        upperLeftNode.get(EDITOR_BOUNDS_X).asDouble(), upperLeftNode.get(EDITOR_BOUNDS_Y).asDouble(),
+                        lowerRightNode.get(EDITOR_BOUNDS_X).asDouble(), lowerRightNode.get(EDITOR_BOUNDS_Y).asDouble(),
+                        next.parentX(), next.parentY());
 
                 String childShapeId = jsonChildNode.get(EDITOR_SHAPE_ID).asString();
                 bpmnModel.addGraphicInfo(BpmnJsonConverterUtil.getElementId(jsonChildNode), graphicInfo);
@@ -401,67 +626,131 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
                 //The graphic info of the collapsed subprocess is relative to its parent.
                 //But the children of the collapsed subprocess are relative to the canvas upper corner. (always 0,0)
                 if (STENCIL_COLLAPSED_SUB_PROCESS.equals(stencilId)) {
-                    readShapeDI(
-                            jsonChildNode, 0, 0, shapeMap, sourceRefMap, bpmnModel);
+                    pushShapesWithOffset(stack, jsonChildNode, 0, 0, next.depth() + 1);
                 } else {
-                    readShapeDI(
-                            jsonChildNode, graphicInfo.getX(), graphicInfo.getY(), shapeMap, sourceRefMap, bpmnModel);
+                    pushShapesWithOffset(
+                            stack, jsonChildNode, graphicInfo.getX(), graphicInfo.getY(), next.depth() + 1);
                 }
             }
         }
     }
 
+    private static void pushShapesWithOffset(
+            final Deque<ShapeWithOffset> stack,
+            final JsonNode objectNode,
+            final double parentX,
+            final double parentY,
+            final int depth) {
+
+        JsonNode childShapesNode = objectNode.get(EDITOR_CHILD_SHAPES);
+        if (childShapesNode != null) {
+            for (int i = childShapesNode.size() - 1; i >= 0; i--) {
+                stack.push(new ShapeWithOffset(childShapesNode.get(i), parentX, parentY, depth));
+            }
+        }
+    }
+
+    /**
+     * Diagram-less variant of {@link #readShapeDI}: only collects the shapes, plus the graphic info of collapsed
+     * sub-processes, which is needed to carry the {@code expanded} flag.
+     */
+    private static void readShapes(
+            final JsonNode objectNode,
+            final Map<String, JsonNode> shapeMap,
+            final BpmnModel bpmnModel,
+            final BpmnJsonConversionBudget budget) {
+
+        Deque<ShapeWithOffset> stack = new ArrayDeque<>();
+        pushShapesWithOffset(stack, objectNode, 0, 0, 1);
+
+        while (!stack.isEmpty()) {
+            ShapeWithOffset next = stack.pop();
+            JsonNode jsonChildNode = next.shape();
+
+            String stencilId = BpmnJsonConverterUtil.getStencilId(jsonChildNode);
+            if (!STENCIL_SEQUENCE_FLOW.equals(stencilId) && !STENCIL_ASSOCIATION.equals(stencilId)) {
+                budget.countShape(jsonChildNode, next.depth());
+
+                shapeMap.put(jsonChildNode.get(EDITOR_SHAPE_ID).asString(), jsonChildNode);
+
+                if (STENCIL_COLLAPSED_SUB_PROCESS.equals(stencilId)) {
+                    bpmnModel.addGraphicInfo(BpmnJsonConverterUtil.getElementId(jsonChildNode), new GraphicInfo());
+                }
+
+                pushShapesWithOffset(stack, jsonChildNode, 0, 0, next.depth() + 1);
+            }
+        }
+    }
+
+    /**
+     * @return whether edges are looked for among the child shapes of shapes with the given stencil
+     */
+    private static boolean isEdgeContainer(final String stencilId) {
+        return STENCIL_SUB_PROCESS.equals(stencilId)
+                || STENCIL_POOL.equals(stencilId)
+                || STENCIL_LANE.equals(stencilId)
+                || STENCIL_COLLAPSED_SUB_PROCESS.equals(stencilId)
+                || STENCIL_EVENT_SUB_PROCESS.equals(stencilId);
+    }
+
     private static void filterAllEdges(
             final JsonNode objectNode,
             final Map<String, JsonNode> edgeMap,
-            final Map<String, List<JsonNode>> sourceAndTargetMap,
+            final Map<String, EdgeWithEnds> edgeEndsMap,
             final Map<String, JsonNode> shapeMap,
-            final Map<String, JsonNode> sourceRefMap) {
+            final Map<String, JsonNode> sourceRefMap,
+            final BpmnJsonConversionBudget budget) {
 
-        if (objectNode.get(EDITOR_CHILD_SHAPES) == null) {
-            return;
-        }
+        Deque<JsonNode> stack = new ArrayDeque<>();
+        BpmnJsonConverterUtil.pushChildShapes(stack, objectNode.get(EDITOR_CHILD_SHAPES));
 
-        for (JsonNode jsonChildNode : objectNode.get(EDITOR_CHILD_SHAPES)) {
-            ObjectNode childNode = (ObjectNode) jsonChildNode;
+        while (!stack.isEmpty()) {
+            JsonNode childNode = stack.pop();
             String stencilId = BpmnJsonConverterUtil.getStencilId(childNode);
-            if (STENCIL_SUB_PROCESS.equals(stencilId)
-                    || STENCIL_POOL.equals(stencilId)
-                    || STENCIL_LANE.equals(stencilId)
-                    || STENCIL_COLLAPSED_SUB_PROCESS.equals(stencilId)
-                    || STENCIL_EVENT_SUB_PROCESS.equals(stencilId)) {
-
-                filterAllEdges(childNode, edgeMap, sourceAndTargetMap, shapeMap, sourceRefMap);
+            if (isEdgeContainer(stencilId)) {
+                BpmnJsonConverterUtil.pushChildShapes(stack, childNode.get(EDITOR_CHILD_SHAPES));
             } else if (STENCIL_SEQUENCE_FLOW.equals(stencilId) || STENCIL_ASSOCIATION.equals(stencilId)) {
+                budget.countEdge(childNode);
+
                 String childEdgeId = BpmnJsonConverterUtil.getElementId(childNode);
                 JsonNode targetNode = childNode.get("target");
-                if (targetNode != null && !targetNode.isNull()) {
-                    String targetRefId = targetNode.get(EDITOR_SHAPE_ID).asString();
-                    List<JsonNode> sourceAndTargetList = new ArrayList<>();
-                    sourceAndTargetList.add(sourceRefMap.get(childNode.get(EDITOR_SHAPE_ID).asString()));
-                    sourceAndTargetList.add(shapeMap.get(targetRefId));
-                    sourceAndTargetMap.put(childEdgeId, sourceAndTargetList);
+                if (edgeEndsMap != null && targetNode != null && !targetNode.isNull()) {
+                    edgeEndsMap.put(childEdgeId, new EdgeWithEnds(
+                            childNode,
+                            sourceRefMap.get(childNode.get(EDITOR_SHAPE_ID).asString()),
+                            shapeMap.get(targetNode.get(EDITOR_SHAPE_ID).asString())));
                 }
                 edgeMap.put(childEdgeId, childNode);
             }
         }
     }
 
-    private static void readEdgeDI(
+    /**
+     * Computes edge waypoints and dockers, without modifying the model; shape graphic info is only read via the given
+     * function, hence this can run while the model is being populated by semantic conversion. Cancellation and
+     * timeout are checked once per edge, also when running on the pipeline executor.
+     *
+     * @return edge diagram interchange, by edge id
+     */
+    private static Map<String, EdgeDI> readEdgeDI(
             final Map<String, JsonNode> edgeMap,
-            final Map<String, List<JsonNode>> sourceAndTargetMap,
-            final BpmnModel bpmnModel) {
+            final Map<String, EdgeWithEnds> edgeEndsMap,
+            final Function<String, GraphicInfo> shapeInfo,
+            final BpmnJsonConversionBudget budget) {
+
+        Map<String, EdgeDI> edgeDIMap = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonNode> edge : edgeMap.entrySet()) {
+            budget.checkpoint(edge.getValue());
 
-        for (String edgeId : edgeMap.keySet()) {
-            JsonNode edgeNode = edgeMap.get(edgeId);
-            List<JsonNode> sourceAndTargetList = sourceAndTargetMap.get(edgeId);
+            String edgeId = edge.getKey();
+            EdgeWithEnds edgeWithEnds = edgeEndsMap.get(edgeId);
 
             JsonNode sourceRefNode = null;
             JsonNode targetRefNode = null;
 
-            if (sourceAndTargetList != null && sourceAndTargetList.size() > 1) {
-                sourceRefNode = sourceAndTargetList.get(0);
-                targetRefNode = sourceAndTargetList.get(1);
+            if (edgeWithEnds != null) {
+                sourceRefNode = edgeWithEnds.source();
+                targetRefNode = edgeWithEnds.target();
             }
 
             if (sourceRefNode == null) {
@@ -474,111 +763,250 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
                 continue;
             }
 
-            JsonNode dockersNode = edgeNode.get(EDITOR_DOCKERS);
-            double sourceDockersX = dockersNode.get(0).get(EDITOR_BOUNDS_X).asDouble();
-            double sourceDockersY = dockersNode.get(0).get(EDITOR_BOUNDS_Y).asDouble();
+            edgeDIMap.put(edgeId, createEdgeDI(
+                    EditorPoint.listOf(edgeWithEnds.edge().get(EDITOR_DOCKERS)),
+                    shapeInfo.apply(BpmnJsonConverterUtil.getElementId(sourceRefNode)),
+                    BpmnJsonConverterUtil.getStencilId(sourceRefNode),
+                    shapeInfo.apply(BpmnJsonConverterUtil.getElementId(targetRefNode)),
+                    BpmnJsonConverterUtil.getStencilId(targetRefNode)));
+        }
+        return edgeDIMap;
+    }
 
-            GraphicInfo sourceInfo = bpmnModel.getGraphicInfo(BpmnJsonConverterUtil.getElementId(sourceRefNode));
-            GraphicInfo targetInfo = bpmnModel.getGraphicInfo(BpmnJsonConverterUtil.getElementId(targetRefNode));
+    /**
+     * Computes waypoints and dockers of an edge, given its dockers and the graphic info of its source and target
+     * shapes; shared by tree and record based reading.
+     */
+    private static EdgeDI createEdgeDI(
+            final List<EditorPoint> dockers,
+            final GraphicInfo sourceInfo,
+            final String sourceRefStencilId,
+            final GraphicInfo targetInfo,
+            final String targetRefStencilId) {
+
+        EditorPoint sourceDocker = dockers.get(0);
+        EditorPoint targetDocker = dockers.get(dockers.size() - 1);
+        double sourceDockersX = sourceDocker.x();
+        double sourceDockersY = sourceDocker.y();
+        double targetDockersX = targetDocker.x();
+        double targetDockersY = targetDocker.y();
+
+        double sourceRefLineX = sourceInfo.getX() + sourceDockersX;
+        double sourceRefLineY = sourceInfo.getY() + sourceDockersY;
+
+        double nextPointInLineX = dockers.get(1).x();
+        double nextPointInLineY = dockers.get(1).y();
+
+        if (dockers.size() == 2) {
+            nextPointInLineX += targetInfo.getX();
+            nextPointInLineY += targetInfo.getY();
+        }
 
-            double sourceRefLineX = sourceInfo.getX() + sourceDockersX;
-            double sourceRefLineY = sourceInfo.getY() + sourceDockersY;
+        java.awt.geom.Line2D firstLine = new java.awt.geom.Line2D.Double(
+                sourceRefLineX, sourceRefLineY, nextPointInLineX, nextPointInLineY);
 
-            double nextPointInLineX = dockersNode.get(1).get(EDITOR_BOUNDS_X).asDouble();
-            double nextPointInLineY = dockersNode.get(1).get(EDITOR_BOUNDS_Y).asDouble();
+        List<GraphicInfo> graphicInfoList = new ArrayList<>();
 
-            if (dockersNode.size() == 2) {
-                nextPointInLineX += targetInfo.getX();
-                nextPointInLineY += targetInfo.getY();
+        Area source2D = null;
+        if (DI_CIRCLES.contains(sourceRefStencilId)) {
+            source2D = createEllipse(sourceInfo, sourceDockersX, sourceDockersY);
+        } else if (DI_RECTANGLES.contains(sourceRefStencilId)) {
+            source2D = createRectangle(sourceInfo);
+        } else if (DI_GATEWAY.contains(sourceRefStencilId)) {
+            source2D = createGateway(sourceInfo);
+        }
+
+        if (source2D != null) {
+            Collection<java.awt.geom.Point2D> intersections = getIntersections(firstLine, source2D);
+            if (intersections != null && !intersections.isEmpty()) {
+                java.awt.geom.Point2D intersection = intersections.iterator().next();
+                graphicInfoList.add(createGraphicInfo(intersection.getX(), intersection.getY()));
+            } else {
+                graphicInfoList.add(createGraphicInfo(sourceRefLineX, sourceRefLineY));
             }
+        }
 
-            java.awt.geom.Line2D firstLine = new java.awt.geom.Line2D.Double(
-                    sourceRefLineX, sourceRefLineY, nextPointInLineX, nextPointInLineY);
+        java.awt.geom.Line2D lastLine;
 
-            String sourceRefStencilId = BpmnJsonConverterUtil.getStencilId(sourceRefNode);
-            String targetRefStencilId = BpmnJsonConverterUtil.getStencilId(targetRefNode);
+        if (dockers.size() > 2) {
+            for (int i = 1; i < dockers.size() - 1; i++) {
+                graphicInfoList.add(createGraphicInfo(dockers.get(i).x(), dockers.get(i).y()));
+            }
 
-            List<GraphicInfo> graphicInfoList = new ArrayList<>();
+            double startLastLineX = dockers.get(dockers.size() - 2).x();
+            double startLastLineY = dockers.get(dockers.size() - 2).y();
 
-            Area source2D = null;
-            if (DI_CIRCLES.contains(sourceRefStencilId)) {
-                source2D = createEllipse(sourceInfo, sourceDockersX, sourceDockersY);
-            } else if (DI_RECTANGLES.contains(sourceRefStencilId)) {
-                source2D = createRectangle(sourceInfo);
-            } else if (DI_GATEWAY.contains(sourceRefStencilId)) {
-                source2D = createGateway(sourceInfo);
-            }
+            double endLastLineX = targetDockersX;
+            double endLastLineY = targetDockersY;
 
-            if (source2D != null) {
-                Collection<java.awt.geom.Point2D> intersections = getIntersections(firstLine, source2D);
-                if (intersections != null && !intersections.isEmpty()) {
-                    java.awt.geom.Point2D intersection = intersections.iterator().next();
-                    graphicInfoList.add(createGraphicInfo(intersection.getX(), intersection.getY()));
-                } else {
-                    graphicInfoList.add(createGraphicInfo(sourceRefLineX, sourceRefLineY));
-                }
+            endLastLineX += targetInfo.getX();
+            endLastLineY += targetInfo.getY();
+
+            lastLine = new java.awt.geom.Line2D.Double(startLastLineX, startLastLineY, endLastLineX, endLastLineY);
+        } else {
+            lastLine = firstLine;
+        }
+
+        BpmnDiEdge edgeInfo = new BpmnDiEdge();
+        edgeInfo.setWaypoints(graphicInfoList);
+        GraphicInfo sourceDockerInfo = new GraphicInfo();
+        sourceDockerInfo.setX(sourceDockersX);
+        sourceDockerInfo.setY(sourceDockersY);
+        edgeInfo.setSourceDockerInfo(sourceDockerInfo);
+
+        GraphicInfo targetDockerInfo = new GraphicInfo();
+        targetDockerInfo.setX(targetDockersX);
+        targetDockerInfo.setY(targetDockersY);
+        edgeInfo.setTargetDockerInfo(targetDockerInfo);
+
+        Area target2D = null;
+        if (DI_RECTANGLES.contains(targetRefStencilId)) {
+            target2D = createRectangle(targetInfo);
+        } else if (DI_CIRCLES.contains(targetRefStencilId)) {
+            target2D = createEllipse(targetInfo, targetDockersX, targetDockersY);
+        } else if (DI_GATEWAY.contains(targetRefStencilId)) {
+            target2D = createGateway(targetInfo);
+        }
+
+        if (target2D != null) {
+            Collection<java.awt.geom.Point2D> intersections = getIntersections(lastLine, target2D);
+            if (intersections != null && !intersections.isEmpty()) {
+                java.awt.geom.Point2D intersection = intersections.iterator().next();
+                graphicInfoList.add(createGraphicInfo(intersection.getX(), intersection.getY()));
+            } else {
+                graphicInfoList.add(createGraphicInfo(lastLine.getX2(), lastLine.getY2()));
             }
+        }
 
-            java.awt.geom.Line2D lastLine;
+        return new EdgeDI(edgeInfo, graphicInfoList);
+    }
 
-            if (dockersNode.size() > 2) {
-                for (int i = 1; i < dockersNode.size() - 1; i++) {
-                    double x = dockersNode.get(i).get(EDITOR_BOUNDS_X).asDouble();
-                    double y = dockersNode.get(i).get(EDITOR_BOUNDS_Y).asDouble();
-                    graphicInfoList.add(createGraphicInfo(x, y));
-                }
+    private static void pushEditorShapes(
+            final Deque<EditorShapeWithOffset> stack,
+            final EditorShape shape,
+            final double parentX,
+            final double parentY,
+            final int depth) {
 
-                double startLastLineX = dockersNode.get(dockersNode.size() - 2).get(EDITOR_BOUNDS_X).asDouble();
-                double startLastLineY = dockersNode.get(dockersNode.size() - 2).get(EDITOR_BOUNDS_Y).asDouble();
+        for (int i = shape.childShapes().size() - 1; i >= 0; i--) {
+            stack.push(new EditorShapeWithOffset(shape.childShapes().get(i), parentX, parentY, depth));
+        }
+    }
 
-                double endLastLineX = dockersNode.get(dockersNode.size() - 1).get(EDITOR_BOUNDS_X).asDouble();
-                double endLastLineY = dockersNode.get(dockersNode.size() - 1).get(EDITOR_BOUNDS_Y).asDouble();
+    /**
+     * Record based counterpart of {@link #readShapeDI}, {@link #filterAllEdges} and {@link #readEdgeDI} altogether,
+     * with the same traversal and geometry.
+     */
+    private static void readEditorShapeDI(
+            final EditorShape canvas,
+            final BpmnModel bpmnModel,
+            final BpmnJsonConversionBudget budget) {
 
-                endLastLineX += targetInfo.getX();
-                endLastLineY += targetInfo.getY();
+        Map<String, EditorShape> shapeMap = new HashMap<>();
+        Map<String, EditorShape> sourceRefMap = new HashMap<>();
 
-                lastLine = new java.awt.geom.Line2D.Double(startLastLineX, startLastLineY, endLastLineX, endLastLineY);
-            } else {
-                lastLine = firstLine;
-            }
+        Deque<EditorShapeWithOffset> stack = new ArrayDeque<>();
+        pushEditorShapes(stack, canvas, 0, 0, 1);
 
-            BpmnDiEdge edgeInfo = new BpmnDiEdge();
-            edgeInfo.setWaypoints(graphicInfoList);
-            GraphicInfo sourceDockerInfo = new GraphicInfo();
-            sourceDockerInfo.setX(dockersNode.get(0).get(EDITOR_BOUNDS_X).asDouble());
-            sourceDockerInfo.setY(dockersNode.get(0).get(EDITOR_BOUNDS_Y).asDouble());
-            edgeInfo.setSourceDockerInfo(sourceDockerInfo);
-
-            GraphicInfo targetDockerInfo = new GraphicInfo();
-            targetDockerInfo.setX(dockersNode.get(dockersNode.size() - 1).get(EDITOR_BOUNDS_X).asDouble());
-            targetDockerInfo.setY(dockersNode.get(dockersNode.size() - 1).get(EDITOR_BOUNDS_Y).asDouble());
-            edgeInfo.setTargetDockerInfo(targetDockerInfo);
-
-            bpmnModel.addEdgeInfo(edgeId, edgeInfo);
-
-            Area target2D = null;
-            if (DI_RECTANGLES.contains(targetRefStencilId)) {
-                target2D = createRectangle(targetInfo);
-            } else if (DI_CIRCLES.contains(targetRefStencilId)) {
-                double targetDockersX = dockersNode.get(dockersNode.size() - 1).get(EDITOR_BOUNDS_X).asDouble();
-                double targetDockersY = dockersNode.get(dockersNode.size() - 1).get(EDITOR_BOUNDS_Y).asDouble();
-
-                target2D = createEllipse(targetInfo, targetDockersX, targetDockersY);
-            } else if (DI_GATEWAY.contains(targetRefStencilId)) {
-                target2D = createGateway(targetInfo);
-            }
+        while (!stack.isEmpty()) {
+            EditorShapeWithOffset next = stack.pop();
+            EditorShape shape = next.shape();
+
+            if (!shape.isEdge()) {
+                budget.countShape(shape.resourceId(), next.depth());
+
+                EditorBounds bounds = shape.bounds();
+                GraphicInfo graphicInfo = createShapeGraphicInfo(
+                        bounds.upperLeft().x(), bounds.upperLeft().y(),
+                        bounds.lowerRight().x(), bounds.lowerRight().y(),
+                        next.parentX(), next.parentY());
+                bpmnModel.addGraphicInfo(shape.elementId(), graphicInfo);
 
-            if (target2D != null) {
-                Collection<java.awt.geom.Point2D> intersections = getIntersections(lastLine, target2D);
-                if (intersections != null && !intersections.isEmpty()) {
-                    java.awt.geom.Point2D intersection = intersections.iterator().next();
-                    graphicInfoList.add(createGraphicInfo(intersection.getX(), intersection.getY()));
+                shapeMap.put(shape.resourceId(), shape);
+
+                for (EditorResource outgoing : shape.outgoing()) {
+                    if (outgoing != null && outgoing.resourceId() != null) {
+                        sourceRefMap.put(outgoing.resourceId(), shape);
+                    }
+                }
+
+                // as in readShapeDI, children of collapsed sub-processes are relative to the canvas
+                if (STENCIL_COLLAPSED_SUB_PROCESS.equals(shape.stencilId())) {
+                    pushEditorShapes(stack, shape, 0, 0, next.depth() + 1);
                 } else {
-                    graphicInfoList.add(createGraphicInfo(lastLine.getX2(), lastLine.getY2()));
+                    pushEditorShapes(stack, shape, graphicInfo.getX(), graphicInfo.getY(), next.depth() + 1);
                 }
             }
+        }
 
-            bpmnModel.addFlowGraphicInfoList(edgeId, graphicInfoList);
+        Map<String, EditorShape> edgeMap = new HashMap<>();
+        Deque<EditorShape> edgeStack = new ArrayDeque<>();
+        canvas.childShapes().reversed().forEach(edgeStack::push);
+
+        while (!edgeStack.isEmpty()) {
+            EditorShape shape = edgeStack.pop();
+            if (isEdgeContainer(shape.stencilId())) {
+                shape.childShapes().reversed().forEach(edgeStack::push);
+            } else if (shape.isEdge()) {
+                budget.countEdge(shape.resourceId(), shape.dockers().size());
+                edgeMap.put(shape.elementId(), shape);
+            }
+        }
+
+        Map<String, EdgeDI> edgeDIMap = new LinkedHashMap<>();
+        for (Map.Entry<String, EditorShape> edge : edgeMap.entrySet()) {
+            budget.checkpoint(edge.getValue().resourceId());
+
+            EditorShape sourceRef = sourceRefMap.get(edge.getValue().resourceId());
+            if (sourceRef == null) {
+                LOG.info("Skipping edge {} because source ref is null", edge.getKey());
+                continue;
+            }
+
+            EditorShape targetRef = edge.getValue().targetId() == null
+                    ? null
+                    : shapeMap.get(edge.getValue().targetId());
+            if (targetRef == null) {
+                LOG.info("Skipping edge {} because target ref is null", edge.getKey());
+                continue;
+            }
+
+            edgeDIMap.put(edge.getKey(), createEdgeDI(
+                    edge.getValue().dockers(),
+                    bpmnModel.getGraphicInfo(sourceRef.elementId()),
+                    sourceRef.stencilId(),
+                    bpmnModel.getGraphicInfo(targetRef.elementId()),
+                    targetRef.stencilId()));
+        }
+        applyEdgeDI(edgeDIMap, bpmnModel);
+    }
+
+    private static void applyEdgeDI(final Map<String, EdgeDI> edgeDIMap, final BpmnModel bpmnModel) {
+        edgeDIMap.forEach((edgeId, edgeDI) -> {
+            bpmnModel.addEdgeInfo(edgeId, edgeDI.edgeInfo());
+            bpmnModel.addFlowGraphicInfoList(edgeId, edgeDI.waypoints());
+        });
+    }
+
+    /**
+     * Synchronization point of pipelined conversion: waits for the edge diagram interchange being computed in
+     * background, if any, and adds it to the given model.
+     */
+    private static void joinEdgeDI(final EdgeDITask edgeDI, final BpmnModel bpmnModel) {
+        if (edgeDI == null) {
+            return;
+        }
+
+        try {
+            applyEdgeDI(edgeDI.join(), bpmnModel);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new FlowableException("Could not compute edge diagram interchange", e.getCause());
         }
     }
 
@@ -656,6 +1084,25 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
         return gatewayShape;
     }
 
+    /**
+     * @return graphic info of a shape, given its bounds relative to the parent shape and the parent offset
+     */
+    private static GraphicInfo createShapeGraphicInfo(
+            final double upperLeftX,
+            final double upperLeftY,
+            final double lowerRightX,
+            final double lowerRightY,
+            final double parentX,
+            final double parentY) {
+
+        GraphicInfo graphicInfo = new GraphicInfo();
+        graphicInfo.setX(upperLeftX + parentX);
+        graphicInfo.setY(upperLeftY + parentY);
+        graphicInfo.setWidth(lowerRightX - graphicInfo.getX() + parentX);
+        graphicInfo.setHeight(lowerRightY - graphicInfo.getY() + parentY);
+        return graphicInfo;
+    }
+
     private static GraphicInfo createGraphicInfo(final double x, final double y) {
         GraphicInfo graphicInfo = new GraphicInfo();
         graphicInfo.setX(x);
@@ -663,11 +1110,220 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
         return graphicInfo;
     }
 
+    private static void convertProcessPropertiesToJson(
+            final BpmnModel model,
+            final Process mainProcess,
+            final ObjectNode propertiesNode) {
+
+        if (StringUtils.isNotEmpty(mainProcess.getDocumentation())) {
+            propertiesNode.put(PROPERTY_DOCUMENTATION, mainProcess.getDocumentation());
+        }
+        if (!mainProcess.isExecutable()) {
+            propertiesNode.put(PROPERTY_IS_EXECUTABLE, "false");
+        }
+        if (StringUtils.isNoneEmpty(model.getTargetNamespace())) {
+            propertiesNode.put(PROPERTY_PROCESS_NAMESPACE, model.getTargetNamespace());
+        }
+        if (CollectionUtils.isNotEmpty(mainProcess.getCandidateStarterGroups())) {
+            propertiesNode.put(
+                    PROPERTY_PROCESS_POTENTIALSTARTERGROUP,
+                    String.join(",", mainProcess.getCandidateStarterGroups()));
+        }
+        if (CollectionUtils.isNotEmpty(mainProcess.getCandidateStarterUsers())) {
+            propertiesNode.put(
+                    PROPERTY_PROCESS_POTENTIALSTARTERUSER,
+                    String.join(",", mainProcess.getCandidateStarterUsers()));
+        }
+
+        if (mainProcess.getExtensionElements().containsKey("historyLevel")) {
+            List<ExtensionElement> historyExtensionElements = mainProcess.getExtensionElements().get("historyLevel");
+            if (historyExtensionElements != null && !historyExtensionElements.isEmpty()) {
+                String historyLevel = historyExtensionElements.get(0).getElementText();
+                if (StringUtils.isNotEmpty(historyLevel)) {
+                    propertiesNode.put(PROPERTY_PROCESS_HISTORYLEVEL, historyLevel);
+                }
+            }
+        }
+
+        propertiesNode.put(
+                PROPERTY_IS_EAGER_EXECUTION_FETCHING,
+                Boolean.valueOf(mainProcess.isEnableEagerExecutionTreeFetching()));
+
+        BpmnJsonConverterUtil.convertMessagesToJson(model.getMessages(), propertiesNode);
+
+        BpmnJsonConverterUtil.convertListenersToJson(mainProcess.getExecutionListeners(), true, propertiesNode);
+        BpmnJsonConverterUtil.convertEventListenersToJson(mainProcess.getEventListeners(), propertiesNode);
+        BpmnJsonConverterUtil.convertSignalDefinitionsToJson(model, propertiesNode);
+        BpmnJsonConverterUtil.convertMessagesToJson(model, propertiesNode);
+        BpmnJsonConverterUtil.convertEscalationDefinitionsToJson(model, propertiesNode);
+
+        if (CollectionUtils.isNotEmpty(mainProcess.getDataObjects())) {
+            BpmnJsonConverterUtil.convertDataPropertiesToJson(mainProcess.getDataObjects(), propertiesNode);
+        }
+    }
+
+    /**
+     * Same as {@link #warmUp(int)}, with {@link #DEFAULT_WARM_UP_ITERATIONS} iterations.
+     */
+    public void warmUp() {
+        warmUp(DEFAULT_WARM_UP_ITERATIONS);
+    }
+
+    /**
+     * Converts a built-in representative model to JSON and back for the given number of times, so that classes are
+     * loaded and the hot path is compiled before actual traffic arrives; meant to be invoked at application startup.
+     * Default options are used, so that the expression catalog, canonicalizer and limits configured for this converter
+     * are left untouched.
+     *
+     * @param iterations number of round trips
+     */
+    public void warmUp(final int iterations) {
+        BpmnJsonConverterWarmUp.run(this, iterations);
+    }
+
     public ObjectNode convertToJson(final BpmnModel model) {
         return convertToJson(model, new StandaloneBpmnConverterContext());
     }
 
+    public ObjectNode convertToJson(
+            final BpmnModel model,
+            final BpmnJsonConverterContext converterContext,
+            final BpmnJsonConverterOptions options) {
+
+        return options == this.options
+                ? convertToJson(model, converterContext)
+                : new BpmnJsonConverter(options).convertToJson(model, converterContext);
+    }
+
+    /**
+     * Same as {@link #convertToJson(BpmnModel, BpmnJsonConverterContext, BpmnJsonConverterOptions)}, with the result
+     * encoded as per {@link BpmnJsonConverterOptions#getEditorFormat()}.
+     *
+     * @param model model to convert
+     * @param converterContext converter context
+     * @param options conversion options
+     * @return encoded editor model
+     */
+    public byte[] convertToBytes(
+            final BpmnModel model,
+            final BpmnJsonConverterContext converterContext,
+            final BpmnJsonConverterOptions options) {
+
+        return BpmnJsonConverterUtil.mapper(options.getEditorFormat()).
+                writeValueAsBytes(convertToJson(model, converterContext, options));
+    }
+
+    /**
+     * Exports only the shapes and flows intersecting the given viewport, together with the shapes at both ends of
+     * each flow, their enclosing pools, lanes and sub-processes, and the content of collapsed sub-processes; canvas
+     * bounds are the same as for the full export. The {@code outgoing} list of an exported shape can still reference
+     * flows that were not exported.
+     *
+     * @param model model to convert
+     * @param converterContext converter context
+     * @param spatialIndex spatial index built for the given model, reusable across viewports
+     * @param viewport rectangle to export, in absolute diagram coordinates
+     * @return editor JSON for the given viewport
+     */
+    public ObjectNode convertToJson(
+            final BpmnModel model,
+            final BpmnJsonConverterContext converterContext,
+            final BpmnSpatialIndex spatialIndex,
+            final GraphicInfo viewport) {
+
+        return new BpmnJsonConverter(options, visibleIds(model, spatialIndex, viewport)).
+                doConvertToJson(model, converterContext);
+    }
+
     public ObjectNode convertToJson(final BpmnModel model, final BpmnJsonConverterContext converterContext) {
+        // conversion state is kept by a dedicated instance, so that this one can be shared
+        return new BpmnJsonConverter(options, visibleIds).doConvertToJson(model, converterContext);
+    }
+
+    /**
+     * Same as {@link #convertToJson(BpmnModel, BpmnJsonConverterContext, BpmnJsonConverterOptions)}, with the editor
+     * model written to the given generator as it is produced: for models without pools, each top-level shape is
+     * converted, written and released in turn, so that the whole editor model is never held in memory; models with
+     * pools are converted first, then written.
+     *
+     * @param model model to convert
+     * @param converterContext converter context
+     * @param options conversion options
+     * @param generator where the editor model is written, not closed
+     */
+    public void writeJson(
+            final BpmnModel model,
+            final BpmnJsonConverterContext converterContext,
+            final BpmnJsonConverterOptions options,
+            final JsonGenerator generator) {
+
+        new BpmnJsonConverter(options, visibleIds).doWriteJson(model, converterContext, generator);
+    }
+
+    private void doWriteJson(
+            final BpmnModel model,
+            final BpmnJsonConverterContext converterContext,
+            final JsonGenerator generator) {
+
+        if (hasPoolDI(model)) {
+            generator.writeTree(doConvertToJson(model, converterContext));
+            return;
+        }
+
+        ObjectNode modelNode = createCanvasNode(model);
+        if (options.isCompact()) {
+            BpmnJsonCompactor.compact(modelNode, options.getCoordinatePrecision());
+        }
+
+        generator.writeStartObject();
+        for (Map.Entry<String, JsonNode> property : modelNode.properties()) {
+            generator.writeName(property.getKey());
+            generator.writeTree(property.getValue());
+        }
+        generator.writeName(EDITOR_CHILD_SHAPES);
+        generator.writeStartArray();
+
+        Process process = model.getMainProcess();
+        for (FlowElement flowElement : process.getFlowElements()) {
+            writeShapes(generator, shapesArrayNode -> processFlowElement(
+                    flowElement, process, model, shapesArrayNode, converterContext, 0.0, 0.0));
+        }
+        writeShapes(generator, shapesArrayNode -> processArtifacts(
+                converterContext, process, model, shapesArrayNode, 0.0, 0.0));
+        writeShapes(generator, shapesArrayNode -> processMessageFlows(model, shapesArrayNode, converterContext));
+
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Converts a top-level element, with all its nested children, then writes and releases the resulting shapes.
+     */
+    private void writeShapes(final JsonGenerator generator, final Consumer<ArrayNode> conversion) {
+        ArrayNode shapesArrayNode = JSON_MAPPER.createArrayNode();
+        runContainers(() -> conversion.accept(shapesArrayNode));
+
+        for (JsonNode shapeNode : shapesArrayNode) {
+            if (options.isCompact()) {
+                BpmnJsonCompactor.compact((ObjectNode) shapeNode, options.getCoordinatePrecision());
+            }
+            generator.writeTree(shapeNode);
+        }
+    }
+
+    private static boolean hasPoolDI(final BpmnModel model) {
+        for (Pool pool : model.getPools()) {
+            if (model.getGraphicInfo(pool.getId()) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return canvas node, with bounds, stencil and main process properties, but no child shapes yet
+     */
+    private ObjectNode createCanvasNode(final BpmnModel model) {
         ObjectNode modelNode = JSON_MAPPER.createObjectNode();
         double maxX = 0.0;
         double maxY = 0.0;
@@ -703,8 +1359,6 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
         stencilsetNode.put("url", "../editor/stencilsets/bpmn2.0/bpmn2.0.json");
         modelNode.set("stencilset", stencilsetNode);
 
-        ArrayNode shapesArrayNode = JSON_MAPPER.createArrayNode();
-
         Process mainProcess;
         if (!model.getPools().isEmpty()) {
             mainProcess = model.getProcess(model.getPools().get(0).getId());
@@ -719,69 +1373,23 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
         if (StringUtils.isNotEmpty(mainProcess.getName())) {
             propertiesNode.put(PROPERTY_NAME, mainProcess.getName());
         }
-        if (StringUtils.isNotEmpty(mainProcess.getDocumentation())) {
-            propertiesNode.put(PROPERTY_DOCUMENTATION, mainProcess.getDocumentation());
-        }
-        if (!mainProcess.isExecutable()) {
-            propertiesNode.put(PROPERTY_IS_EXECUTABLE, "false");
-        }
-        if (StringUtils.isNoneEmpty(model.getTargetNamespace())) {
-            propertiesNode.put(PROPERTY_PROCESS_NAMESPACE, model.getTargetNamespace());
-        }
-        if (CollectionUtils.isNotEmpty(mainProcess.getCandidateStarterGroups())) {
-            propertiesNode.put(
-                    PROPERTY_PROCESS_POTENTIALSTARTERGROUP,
-                    String.join(",", mainProcess.getCandidateStarterGroups()));
-        }
-        if (CollectionUtils.isNotEmpty(mainProcess.getCandidateStarterUsers())) {
-            propertiesNode.put(
-                    PROPERTY_PROCESS_POTENTIALSTARTERUSER,
-                    String.join(",", mainProcess.getCandidateStarterUsers()));
-        }
-
-        if (mainProcess.getExtensionElements().containsKey("historyLevel")) {
-            List<ExtensionElement> historyExtensionElements = mainProcess.getExtensionElements().get("historyLevel");
-            if (historyExtensionElements != null && !historyExtensionElements.isEmpty()) {
-                String historyLevel = historyExtensionElements.get(0).getElementText();
-                if (StringUtils.isNotEmpty(historyLevel)) {
-                    propertiesNode.put(PROPERTY_PROCESS_HISTORYLEVEL, historyLevel);
-                }
-            }
-        }
-
-        propertiesNode.put(
-                PROPERTY_IS_EAGER_EXECUTION_FETCHING,
-                Boolean.valueOf(mainProcess.isEnableEagerExecutionTreeFetching()));
-
-        BpmnJsonConverterUtil.convertMessagesToJson(model.getMessages(), propertiesNode);
-
-        BpmnJsonConverterUtil.convertListenersToJson(mainProcess.getExecutionListeners(), true, propertiesNode);
-        BpmnJsonConverterUtil.convertEventListenersToJson(mainProcess.getEventListeners(), propertiesNode);
-        BpmnJsonConverterUtil.convertSignalDefinitionsToJson(model, propertiesNode);
-        BpmnJsonConverterUtil.convertMessagesToJson(model, propertiesNode);
-        BpmnJsonConverterUtil.convertEscalationDefinitionsToJson(model, propertiesNode);
-
-        if (CollectionUtils.isNotEmpty(mainProcess.getDataObjects())) {
-            BpmnJsonConverterUtil.convertDataPropertiesToJson(mainProcess.getDataObjects(), propertiesNode);
+        if (!options.isLightweightExport()) {
+            convertProcessPropertiesToJson(model, mainProcess, propertiesNode);
+            BpmnJsonConverterUtil.retainViewerProperties(options, propertiesNode);
         }
 
         modelNode.set(EDITOR_SHAPE_PROPERTIES, propertiesNode);
+        return modelNode;
+    }
 
-        boolean poolHasDI = false;
-        if (!model.getPools().isEmpty()) {
-            for (Pool pool : model.getPools()) {
-                GraphicInfo graphicInfo = model.getGraphicInfo(pool.getId());
-                if (graphicInfo != null) {
-                    poolHasDI = true;
-                    break;
-                }
-            }
-        }
+    private ObjectNode doConvertToJson(final BpmnModel model, final BpmnJsonConverterContext converterContext) {
+        ObjectNode modelNode = createCanvasNode(model);
+        ArrayNode shapesArrayNode = JSON_MAPPER.createArrayNode();
 
-        if (!model.getPools().isEmpty() && poolHasDI) {
+        if (hasPoolDI(model)) {
             for (Pool pool : model.getPools()) {
                 GraphicInfo poolGraphicInfo = model.getGraphicInfo(pool.getId());
-                if (poolGraphicInfo == null) {
+                if (poolGraphicInfo == null || !isVisible(pool)) {
                     continue;
                 }
                 ObjectNode poolNode = BpmnJsonConverterUtil.createChildShape(pool.getId(), STENCIL_POOL,
@@ -798,6 +1406,7 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
                 if (StringUtils.isNotEmpty(pool.getName())) {
                     poolPropertiesNode.put(PROPERTY_NAME, pool.getName());
                 }
+                BpmnJsonConverterUtil.retainViewerProperties(options, poolPropertiesNode);
                 poolNode.set(EDITOR_SHAPE_PROPERTIES, poolPropertiesNode);
 
                 ArrayNode laneShapesArrayNode = JSON_MAPPER.createArrayNode();
@@ -811,7 +1420,7 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
                     Map<String, ArrayNode> laneMap = new HashMap<>();
                     for (Lane lane : process.getLanes()) {
                         GraphicInfo laneGraphicInfo = model.getGraphicInfo(lane.getId());
-                        if (laneGraphicInfo == null) {
+                        if (laneGraphicInfo == null || !isVisible(lane)) {
                             continue;
                         }
                         ObjectNode laneNode = BpmnJsonConverterUtil.createChildShape(lane.getId(), STENCIL_LANE,
@@ -825,6 +1434,7 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
                         if (StringUtils.isNotEmpty(lane.getName())) {
                             lanePropertiesNode.put(PROPERTY_NAME, lane.getName());
                         }
+                        BpmnJsonConverterUtil.retainViewerProperties(options, lanePropertiesNode);
                         laneNode.set(EDITOR_SHAPE_PROPERTIES, lanePropertiesNode);
 
                         ArrayNode elementShapesArrayNode = JSON_MAPPER.createArrayNode();
@@ -878,9 +1488,18 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
         processMessageFlows(model, shapesArrayNode, converterContext);
 
         modelNode.set(EDITOR_CHILD_SHAPES, shapesArrayNode);
+
+        if (options.isCompact()) {
+            BpmnJsonCompactor.compact(modelNode, options.getCoordinatePrecision());
+        }
         return modelNode;
     }
 
+    @Override
+    public BpmnJsonConverterOptions getOptions() {
+        return options;
+    }
+
     @Override
     public void processFlowElements(
             final FlowElementsContainer container,
@@ -890,12 +1509,37 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
             final double subProcessX,
             final double subProcessY) {
 
-        for (FlowElement flowElement : container.getFlowElements()) {
-            processFlowElement(
-                    flowElement, container, model, shapesArrayNode, converterContext, subProcessX, subProcessY);
+        runContainers(() -> {
+            for (FlowElement flowElement : container.getFlowElements()) {
+                processFlowElement(
+                        flowElement, container, model, shapesArrayNode, converterContext, subProcessX, subProcessY);
+            }
+
+            processArtifacts(converterContext, container, model, shapesArrayNode, subProcessX, subProcessY);
+        });
+    }
+
+    private void runContainers(final Runnable task) {
+        // sub-process converters call back to processFlowElements for their children: these are queued and converted
+        // after the enclosing container, so that the call stack does not grow with the nesting depth
+        pendingContainers.add(task);
+        if (processingContainers) {
+            return;
         }
 
-        processArtifacts(converterContext, container, model, shapesArrayNode, subProcessX, subProcessY);
+        processingContainers = true;
+        try {
+            while (!pendingContainers.isEmpty()) {
+                pendingContainers.poll().run();
+            }
+        } finally {
+            processingContainers = false;
+            pendingContainers.clear();
+        }
+    }
+
+    private boolean isVisible(final BaseElement element) {
+        return visibleIds == null || visibleIds.contains(element.getId());
     }
 
     private void processFlowElement(
@@ -907,6 +1551,10 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
             final double containerX,
             final double containerY) {
 
+        if (!isVisible(flowElement)) {
+            return;
+        }
+
         Optional.ofNullable(JSON_CONVERTERS.get(flowElement.getClass())).ifPresent(converter -> {
             try {
                 BaseBpmnJsonConverter converterInstance = converter.getDeclaredConstructor().newInstance();
@@ -927,8 +1575,8 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
             final double containerX,
             final double containerY) {
 
-        container.getArtifacts().forEach(artifact -> Optional.ofNullable(JSON_CONVERTERS.get(artifact.getClass())).
-                ifPresent(converter -> {
+        container.getArtifacts().stream().filter(this::isVisible).forEach(artifact -> Optional.ofNullable(
+                JSON_CONVERTERS.get(artifact.getClass())).ifPresent(converter -> {
                     try {
                         converter.getDeclaredConstructor().newInstance().convertToJson(
                                 converterContext,
@@ -951,6 +1599,9 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
             final BpmnJsonConverterContext converterCOntext) {
 
         for (MessageFlow messageFlow : model.getMessageFlows().values()) {
+            if (!isVisible(messageFlow)) {
+                continue;
+            }
             MessageFlowJsonConverter jsonConverter = new MessageFlowJsonConverter();
             jsonConverter.convertToJson(converterCOntext, messageFlow, this, model, null, shapesArrayNode, 0.0, 0.0);
         }
@@ -961,23 +1612,133 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
     }
 
     public BpmnModel convertToBpmnModel(final JsonNode modelNode, final BpmnJsonConverterContext converterContext) {
+        return convertToBpmnModel(modelNode, converterContext, options);
+    }
+
+    public BpmnModel convertToBpmnModel(
+            final JsonNode modelNode,
+            final BpmnJsonConverterContext converterContext,
+            final BpmnJsonConverterOptions options) {
+
+        // conversion state is kept by a dedicated instance, so that this one can be shared
+        BpmnModel bpmnModel = new BpmnJsonConverter(options).doConvertToBpmnModel(modelNode, converterContext);
+        if (options.getCanonicalizer() != null) {
+            options.getCanonicalizer().canonicalize(bpmnModel);
+        }
+        if (options.getExpressionCatalog() != null) {
+            options.getExpressionCatalog().collect(bpmnModel);
+        }
+        return bpmnModel;
+    }
+
+    /**
+     * Same as {@link #convertToBpmnModel(JsonNode, BpmnJsonConverterContext, BpmnJsonConverterOptions)}, with the
+     * input size checked against {@link BpmnJsonConverterLimits#getMaxInputBytes()} before parsing; input is decoded
+     * as per {@link BpmnJsonConverterOptions#getEditorFormat()}.
+     *
+     * @param modelJson encoded editor model
+     * @param converterContext converter context
+     * @param options conversion options
+     * @return BPMN model
+     */
+    public BpmnModel convertToBpmnModel(
+            final byte[] modelJson,
+            final BpmnJsonConverterContext converterContext,
+            final BpmnJsonConverterOptions options) {
+
+        new BpmnJsonConversionBudget(options.getLimits()).checkInputBytes(modelJson.length);
+        return convertToBpmnModel(
+                BpmnJsonConverterUtil.mapper(options.getEditorFormat()).readTree(modelJson), converterContext, options);
+    }
+
+    public BpmnModel readDiagramInterchange(final byte[] modelJson) {
+        return readDiagramInterchange(modelJson, options);
+    }
+
+    /**
+     * Reads only the diagram interchange of the given editor model - shape graphic info, edge waypoints and dockers,
+     * by element id - as needed to render, index or compare layouts; the returned model holds no process.
+     * <p>
+     * The input is bound to {@link EditorShape} records straight from the token stream, skipping all stencil
+     * properties but {@code overrideid}, rather than into the tree needed by semantic conversion; the same geometry as
+     * {@link #convertToBpmnModel(byte[], BpmnJsonConverterContext, BpmnJsonConverterOptions)} applies. Limits are
+     * checked as per {@link BpmnJsonConverterLimits}, while nesting is further bounded by the
+     * {@code StreamReadConstraints} of the parser, as records are bound recursively.
+     *
+     * @param modelJson encoded editor model
+     * @param options conversion options, for limits and editor format
+     * @return BPMN model with diagram interchange only
+     */
+    public BpmnModel readDiagramInterchange(final byte[] modelJson, final BpmnJsonConverterOptions options) {
+        BpmnJsonConversionBudget budget = new BpmnJsonConversionBudget(options.getLimits());
+        budget.checkInputBytes(modelJson.length);
+
+        EditorShape canvas = BpmnJsonConverterUtil.editorShapeReader(options.getEditorFormat()).readValue(modelJson);
+
+        BpmnModel bpmnModel = new BpmnModel();
+        readEditorShapeDI(canvas, bpmnModel, budget);
+        return bpmnModel;
+    }
+
+    private BpmnModel doConvertToBpmnModel(final JsonNode modelNode, final BpmnJsonConverterContext converterContext) {
+        budget = new BpmnJsonConversionBudget(options.getLimits());
+
         BpmnModel bpmnModel = new BpmnModel();
 
         bpmnModel.setTargetNamespace("http://flowable.org/test");
         bpmnModel.setExporter("Flowable Open Source Modeler");
         bpmnModel.setExporterVersion(getClass().getPackage().getImplementationVersion());
         Map<String, JsonNode> shapeMap = new HashMap<>();
-        Map<String, JsonNode> sourceRefMap = new HashMap<>();
         Map<String, JsonNode> edgeMap = new HashMap<>();
-        Map<String, List<JsonNode>> sourceAndTargetMap = new HashMap<>();
+        EdgeDITask edgeDI = null;
+
+        if (options.isDiagramInterchange()) {
+            Map<String, JsonNode> sourceRefMap = new HashMap<>();
+            Map<String, EdgeWithEnds> edgeEndsMap = new HashMap<>();
 
-        readShapeDI(modelNode, 0, 0, shapeMap, sourceRefMap, bpmnModel);
-        filterAllEdges(modelNode, edgeMap, sourceAndTargetMap, shapeMap, sourceRefMap);
-        readEdgeDI(edgeMap, sourceAndTargetMap, bpmnModel);
+            readShapeDI(modelNode, 0, 0, shapeMap, sourceRefMap, bpmnModel, budget);
+            filterAllEdges(modelNode, edgeMap, edgeEndsMap, shapeMap, sourceRefMap, budget);
+            if (options.getPipelineExecutor() == null) {
+                applyEdgeDI(readEdgeDI(edgeMap, edgeEndsMap, bpmnModel::getGraphicInfo, budget), bpmnModel);
+            } else {
+                // shape graphic info is complete by now and only read from here on, and no stencil converter reads
+                // edge DI: waypoints are computed while stencils are converted, then joined before returning
+                edgeDI = new EdgeDITask(() -> readEdgeDI(edgeMap, edgeEndsMap, bpmnModel::getGraphicInfo, budget));
+                try {
+                    options.getPipelineExecutor().execute(edgeDI);
+                } catch (RejectedExecutionException e) {
+                    // computed by this thread when joining
+                    LOG.debug("Pipeline executor rejected edge diagram interchange", e);
+                }
+            }
+        } else {
+            // shapes and edges are still needed by the stencil converters and for default flows
+            readShapes(modelNode, shapeMap, bpmnModel, budget);
+            filterAllEdges(modelNode, edgeMap, null, null, null, budget);
+        }
+
+        try {
+            return convertShapes(modelNode, converterContext, bpmnModel, shapeMap, edgeMap, edgeDI);
+        } finally {
+            // not needed anymore when conversion failed before joining
+            if (edgeDI != null) {
+                edgeDI.cancel();
+            }
+        }
+    }
+
+    private BpmnModel convertShapes(
+            final JsonNode modelNode,
+            final BpmnJsonConverterContext converterContext,
+            final BpmnModel bpmnModel,
+            final Map<String, JsonNode> shapeMap,
+            final Map<String, JsonNode> edgeMap,
+            final EdgeDITask edgeDI) {
 
         ArrayNode shapesArrayNode = (ArrayNode) modelNode.get(EDITOR_CHILD_SHAPES);
 
         if (shapesArrayNode == null || shapesArrayNode.size() == 0) {
+            joinEdgeDI(edgeDI, bpmnModel);
             return bpmnModel;
         }
 
@@ -1212,15 +1973,13 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
         // sequence flows are now all on root level
         Map<String, SubProcess> subShapesMap = new HashMap<>();
         for (Process process : bpmnModel.getProcesses()) {
-            for (FlowElement flowElement : process.findFlowElementsOfType(SubProcess.class)) {
-                SubProcess subProcess = (SubProcess) flowElement;
+            for (SubProcess subProcess : findFlowElementsOfType(process, SubProcess.class)) {
                 fillSubShapes(subShapesMap, subProcess);
             }
 
             if (!subShapesMap.isEmpty()) {
                 List<String> removeSubFlowsList = new ArrayList<>();
-                for (FlowElement flowElement : process.findFlowElementsOfType(SequenceFlow.class)) {
-                    SequenceFlow sequenceFlow = (SequenceFlow) flowElement;
+                for (SequenceFlow sequenceFlow : findFlowElementsOfType(process, SequenceFlow.class)) {
                     if (subShapesMap.containsKey(sequenceFlow.getSourceRef())) {
                         SubProcess subProcess = subShapesMap.get(sequenceFlow.getSourceRef());
                         if (subProcess.getFlowElement(sequenceFlow.getId()) == null) {
@@ -1256,7 +2015,7 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
         // post handling of process elements
         for (Process process : bpmnModel.getProcesses()) {
             postProcessElements(
-                    process, process.getFlowElements(), edgeMap, bpmnModel, allFlowMap, gatewayWithOrderList);
+                    process, process.getFlowElements(), edgeMap, bpmnModel, allFlowMap, gatewayWithOrderList, budget);
         }
 
         // sort the sequence flows
@@ -1278,6 +2037,7 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
             gateway.getExtensionElements().remove("EDITOR_FLOW_ORDER");
         }
 
+        joinEdgeDI(edgeDI, bpmnModel);
         return bpmnModel;
     }
 
@@ -1290,13 +2050,83 @@ public class BpmnJsonConverter implements EditorJsonConstants, StencilConstants,
             final BpmnJsonConverterContext converterContext,
             final BpmnModel bpmnModel) {
 
+        runJsonShapes(() -> convertJsonShapes(
+                shapesArrayNode, modelNode, parentElement, shapeMap, converterContext, bpmnModel));
+    }
+
+    @Override
+    public void processJsonChildElements(
+            final JsonNode shapesArrayNode,
+            final JsonNode modelNode,
+            final BaseElement parentElement,
+            final Map<String, JsonNode> shapeMap,
+            final BpmnJsonConverterContext converterContext,
+            final BpmnModel bpmnModel,
+            final Runnable afterChildren) {
+
+        processJsonElements(shapesArrayNode, modelNode, parentElement, shapeMap, converterContext, bpmnModel);
+        runJsonShapes(() -> {
+            try {
+                afterChildren.run();
+            } catch (BpmnJsonConversionLimitException e) {
+                // the whole conversion is to be aborted
+                throw e;
+            } catch (RuntimeException e) {
+                LOG.error("Error completing {}", parentElement.getId(), e);
+            }
+        });
+    }
+
+    /**
+     * Sub-process converters call back here for their children: these are converted once the enclosing shape is
+     * done, together with their post-steps, so that the call stack does not grow with the nesting depth; the work stack
+     * keeps depth-first, document order.
+     */
+    private void runJsonShapes(final Runnable task) {
+        if (processingJsonShapes) {
+            queuedJsonShapes.add(task);
+            return;
+        }
+
+        processingJsonShapes = true;
+        try {
+            pendingJsonShapes.push(task);
+            while (!pendingJsonShapes.isEmpty()) {
+                pendingJsonShapes.pop().run();
+                for (int i = queuedJsonShapes.size() - 1; i >= 0; i--) {
+                    pendingJsonShapes.push(queuedJsonShapes.get(i));
+                }
+                queuedJsonShapes.clear();
+            }
+        } finally {
+            processingJsonShapes = false;
+            pendingJsonShapes.clear();
+            queuedJsonShapes.clear();
+        }
+    }
+
+    private void convertJsonShapes(
+            final JsonNode shapesArrayNode,
+            final JsonNode modelNode,
+            final BaseElement parentElement,
+            final Map<String, JsonNode> shapeMap,
+            final BpmnJsonConverterContext converterContext,
+            final BpmnModel bpmnModel) {
+
         for (JsonNode shapeNode : shapesArrayNode) {
+            if (budget != null) {
+                budget.checkpoint(shapeNode);
+            }
+
             String stencilId = BpmnJsonConverterUtil.getStencilId(shapeNode);
             Class<? extends BaseBpmnJsonConverter> converter = BPMN_CONVERTERS.get(stencilId);
             try {
                 BaseBpmnJsonConverter converterInstance = converter.getDeclaredConstructor().newInstance();
                 converterInstance.convertToBpmnModel(
                         shapeNode, modelNode, this, parentElement, shapeMap, bpmnModel, converterContext);
+            } catch (BpmnJsonConversionLimitException e) {
+                // raised by nested shapes, the whole conversion is to be aborted
+                throw e;
             } catch (Exception e) {
                 LOG.error("Error converting {}", BpmnJsonConverterUtil.getStencilId(shapeNode), e);
             }
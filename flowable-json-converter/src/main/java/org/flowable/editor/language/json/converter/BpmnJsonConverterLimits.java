@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.time.Duration;
+
+/**
+ * Resource budget for a single {@code convertToBpmnModel} invocation; a fresh instance sets no limit.
+ * Breaching any limit aborts the conversion with {@link BpmnJsonConversionLimitException}.
+ */
+public class BpmnJsonConverterLimits {
+
+    private int maxElements = Integer.MAX_VALUE;
+
+    private int maxNestingDepth = Integer.MAX_VALUE;
+
+    private long maxInputBytes = Long.MAX_VALUE;
+
+    private int maxEdges = Integer.MAX_VALUE;
+
+    private int maxDockersPerEdge = Integer.MAX_VALUE;
+
+    private Duration timeout;
+
+    private BpmnJsonConversionCancellation cancellation;
+
+    /**
+     * @return maximum number of shapes, sequence flows and associations excluded
+     */
+    public int getMaxElements() {
+        return maxElements;
+    }
+
+    public BpmnJsonConverterLimits setMaxElements(final int maxElements) {
+        this.maxElements = maxElements;
+        return this;
+    }
+
+    /**
+     * @return maximum nesting depth of shapes, where shapes directly on the canvas have depth 1
+     */
+    public int getMaxNestingDepth() {
+        return maxNestingDepth;
+    }
+
+    public BpmnJsonConverterLimits setMaxNestingDepth(final int maxNestingDepth) {
+        this.maxNestingDepth = maxNestingDepth;
+        return this;
+    }
+
+    /**
+     * Only enforced when the model is given as raw bytes.
+     *
+     * @return maximum size of the JSON input
+     */
+    public long getMaxInputBytes() {
+        return maxInputBytes;
+    }
+
+    public BpmnJsonConverterLimits setMaxInputBytes(final long maxInputBytes) {
+        this.maxInputBytes = maxInputBytes;
+        return this;
+    }
+
+    /**
+     * @return maximum number of sequence flows and associations
+     */
+    public int getMaxEdges() {
+        return maxEdges;
+    }
+
+    public BpmnJsonConverterLimits setMaxEdges(final int maxEdges) {
+        this.maxEdges = maxEdges;
+        return this;
+    }
+
+    public int getMaxDockersPerEdge() {
+        return maxDockersPerEdge;
+    }
+
+    public BpmnJsonConverterLimits setMaxDockersPerEdge(final int maxDockersPerEdge) {
+        this.maxDockersPerEdge = maxDockersPerEdge;
+        return this;
+    }
+
+    /**
+     * @return maximum wall-clock time, or {@code null} for none
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public BpmnJsonConverterLimits setTimeout(final Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * @return token checked while converting, or {@code null} for none
+     */
+    public BpmnJsonConversionCancellation getCancellation() {
+        return cancellation;
+    }
+
+    public BpmnJsonConverterLimits setCancellation(final BpmnJsonConversionCancellation cancellation) {
+        this.cancellation = cancellation;
+        return this;
+    }
+}
@@ -0,0 +1,260 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.flowable.editor.constants.StencilConstants;
+
+/**
+ * Per-conversion settings for {@link BpmnJsonConverter}; a fresh instance carries the default behavior.
+ */
+public class BpmnJsonConverterOptions {
+
+    /**
+     * What {@code convertToJson} emits for each shape.
+     */
+    public enum ExportProfile {
+        /**
+         * All the properties needed to edit the model.
+         */
+        FULL,
+        /**
+         * Only bounds, stencil, ids, names and connections, plus the whitelisted viewer properties.
+         */
+        VIEWER
+    }
+
+    /**
+     * Encoding of the editor model, for the entry points reading or writing bytes.
+     */
+    public enum EditorFormat {
+        /**
+         * Textual JSON, as handled by the modeler.
+         */
+        JSON,
+        /**
+         * Binary Smile encoding of the same tree, for storage and transport.
+         */
+        SMILE
+    }
+
+    /**
+     * @return options for deploy-only conversions, where diagram interchange is not needed
+     */
+    public static BpmnJsonConverterOptions executableOnly() {
+        return new BpmnJsonConverterOptions().setDiagramInterchange(false);
+    }
+
+    /**
+     * @param coordinatePrecision number of decimal digits kept for coordinates
+     * @return options for exports meant for storage or transport, rather than for the modeler to edit
+     */
+    public static BpmnJsonConverterOptions compact(final int coordinatePrecision) {
+        return new BpmnJsonConverterOptions().setCompact(true).setCoordinatePrecision(coordinatePrecision);
+    }
+
+    /**
+     * @param viewerProperties additional properties to be exported, besides ids and names
+     * @return options for read-only viewers, only needing to draw shapes, names and flows
+     */
+    public static BpmnJsonConverterOptions viewer(final String... viewerProperties) {
+        return new BpmnJsonConverterOptions().
+                setExportProfile(ExportProfile.VIEWER).
+                setViewerProperties(Set.of(viewerProperties));
+    }
+
+    private boolean diagramInterchange = true;
+
+    private ExportProfile exportProfile = ExportProfile.FULL;
+
+    private final Set<String> viewerProperties = new HashSet<>();
+
+    private Set<String> retainedViewerProperties = retainedViewerProperties(Set.of());
+
+    private BpmnJsonConverterLimits limits = new BpmnJsonConverterLimits();
+
+    private EditorFormat editorFormat = EditorFormat.JSON;
+
+    private boolean compact;
+
+    private int coordinatePrecision = 2;
+
+    private BpmnModelCanonicalizer canonicalizer;
+
+    private BpmnExpressionCatalog expressionCatalog;
+
+    private Executor pipelineExecutor;
+
+    /**
+     * When {@code false}, {@code convertToBpmnModel} does not generate {@code GraphicInfo} and {@code BpmnDiEdge}
+     * instances, except for the minimal graphic info required to flag collapsed sub-processes.
+     *
+     * @return whether diagram interchange information is generated
+     */
+    public boolean isDiagramInterchange() {
+        return diagramInterchange;
+    }
+
+    public BpmnJsonConverterOptions setDiagramInterchange(final boolean diagramInterchange) {
+        this.diagramInterchange = diagramInterchange;
+        return this;
+    }
+
+    public ExportProfile getExportProfile() {
+        return exportProfile;
+    }
+
+    public BpmnJsonConverterOptions setExportProfile(final ExportProfile exportProfile) {
+        this.exportProfile = exportProfile;
+        return this;
+    }
+
+    private static Set<String> retainedViewerProperties(final Collection<String> viewerProperties) {
+        Set<String> retained = new HashSet<>(viewerProperties);
+        retained.add(StencilConstants.PROPERTY_OVERRIDE_ID);
+        retained.add(StencilConstants.PROPERTY_NAME);
+        retained.add(StencilConstants.PROPERTY_PROCESS_ID);
+        retained.add(StencilConstants.PROPERTY_SEQUENCEFLOW_DEFAULT);
+        return Set.copyOf(retained);
+    }
+
+    /**
+     * Only meaningful with {@link ExportProfile#VIEWER}.
+     *
+     * @return properties to be exported besides ids and names, not modifiable
+     */
+    public Set<String> getViewerProperties() {
+        return Collections.unmodifiableSet(viewerProperties);
+    }
+
+    public BpmnJsonConverterOptions setViewerProperties(final Collection<String> viewerProperties) {
+        this.viewerProperties.clear();
+        this.viewerProperties.addAll(viewerProperties);
+        this.retainedViewerProperties = retainedViewerProperties(viewerProperties);
+        return this;
+    }
+
+    /**
+     * @return properties kept by {@link ExportProfile#VIEWER}: ids, names, default flow markers and the viewer
+     * properties
+     */
+    public Set<String> getRetainedViewerProperties() {
+        return retainedViewerProperties;
+    }
+
+    public BpmnJsonConverterLimits getLimits() {
+        return limits;
+    }
+
+    public BpmnJsonConverterOptions setLimits(final BpmnJsonConverterLimits limits) {
+        this.limits = limits;
+        return this;
+    }
+
+    public EditorFormat getEditorFormat() {
+        return editorFormat;
+    }
+
+    public BpmnJsonConverterOptions setEditorFormat(final EditorFormat editorFormat) {
+        this.editorFormat = editorFormat;
+        return this;
+    }
+
+    /**
+     * When {@code true}, {@code convertToJson} omits the properties holding the value which {@code convertToBpmnModel}
+     * assumes when missing, such as unset flags and empty listener containers, and rounds coordinates to
+     * {@link #getCoordinatePrecision()} decimal digits.
+     *
+     * @return whether compact editor JSON is generated
+     */
+    public boolean isCompact() {
+        return compact;
+    }
+
+    public BpmnJsonConverterOptions setCompact(final boolean compact) {
+        this.compact = compact;
+        return this;
+    }
+
+    /**
+     * Only meaningful when {@link #isCompact()}.
+     *
+     * @return number of decimal digits kept for bounds and dockers coordinates
+     */
+    public int getCoordinatePrecision() {
+        return coordinatePrecision;
+    }
+
+    public BpmnJsonConverterOptions setCoordinatePrecision(final int coordinatePrecision) {
+        this.coordinatePrecision = coordinatePrecision;
+        return this;
+    }
+
+    /**
+     * Set the same instance on the options used for a batch of conversions, to share strings and structures across
+     * all the resulting models.
+     *
+     * @return canonicalizer applied to each model produced by {@code convertToBpmnModel}, if any
+     */
+    public BpmnModelCanonicalizer getCanonicalizer() {
+        return canonicalizer;
+    }
+
+    public BpmnJsonConverterOptions setCanonicalizer(final BpmnModelCanonicalizer canonicalizer) {
+        this.canonicalizer = canonicalizer;
+        return this;
+    }
+
+    /**
+     * @return catalog collecting the expressions of each model produced by {@code convertToBpmnModel}, if any
+     */
+    public BpmnExpressionCatalog getExpressionCatalog() {
+        return expressionCatalog;
+    }
+
+    public BpmnJsonConverterOptions setExpressionCatalog(final BpmnExpressionCatalog expressionCatalog) {
+        this.expressionCatalog = expressionCatalog;
+        return this;
+    }
+
+    /**
+     * When set, {@code convertToBpmnModel} computes edge waypoints and dockers on this executor while stencils are
+     * converted, rather than beforehand; shape diagram interchange is still read upfront, and edge diagram interchange
+     * is joined into the model before returning. Pays off on edge-heavy models.
+     * <p>
+     * A dedicated executor is recommended over the one running the conversions: when the edge task has not started by
+     * the time it is joined, as the executor is saturated or rejects it, the converting thread computes it itself, so
+     * that no conversion waits on a queued task, but the overlap is lost.
+     *
+     * @return executor for the diagram interchange of edges, if any
+     */
+    public Executor getPipelineExecutor() {
+        return pipelineExecutor;
+    }
+
+    public BpmnJsonConverterOptions setPipelineExecutor(final Executor pipelineExecutor) {
+        this.pipelineExecutor = pipelineExecutor;
+        return this;
+    }
+
+    /**
+     * @return whether stencil-specific properties can be skipped altogether while exporting
+     */
+    public boolean isLightweightExport() {
+        return exportProfile == ExportProfile.VIEWER && viewerProperties.isEmpty();
+    }
+}
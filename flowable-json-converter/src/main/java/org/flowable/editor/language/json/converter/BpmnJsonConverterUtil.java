@@ -12,8 +12,10 @@
  */
 package org.flowable.editor.language.json.converter;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.BaseElement;
@@ -40,15 +42,22 @@ import org.flowable.bpmn.model.ValuedDataObject;
 import org.flowable.editor.constants.EditorJsonConstants;
 import org.flowable.editor.constants.StencilConstants;
 import org.flowable.editor.language.json.converter.util.CollectionUtils;
+import org.flowable.editor.language.json.model.EditorShape;
 import org.joda.time.DateTime;
 import org.joda.time.format.DateTimeFormatter;
 import org.joda.time.format.ISODateTimeFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.dataformat.smile.SmileFactory;
+import tools.jackson.dataformat.smile.SmileMapper;
+import tools.jackson.dataformat.smile.SmileWriteFeature;
 
 /**
  * @author Tijs Rademakers
@@ -59,7 +68,57 @@ public final class BpmnJsonConverterUtil implements EditorJsonConstants, Stencil
 
     private static final DateTimeFormatter DATE_TIME_FORMATTER = ISODateTimeFormat.dateTimeParser();
 
-    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().findAndAddModules().build();
+    /**
+     * No module discovery, as only the tree model and plain records are used; created eagerly, as needed by any
+     * conversion.
+     */
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().
+            nodeFactory(BpmnJsonNodeFactory.INSTANCE).
+            build();
+
+    /**
+     * @return mapper shared by all converters
+     */
+    public static JsonMapper jsonMapper() {
+        return JSON_MAPPER;
+    }
+
+    /**
+     * Initialized on first access, as only needed for {@link BpmnJsonConverterOptions.EditorFormat#SMILE}; property
+     * names and short string values, such as stencil ids, are written once and back-referenced afterwards.
+     */
+    private static final class SmileMapperHolder {
+
+        private static final SmileMapper INSTANCE = SmileMapper.builder(SmileFactory.builder().
+                enable(SmileWriteFeature.CHECK_SHARED_NAMES).
+                enable(SmileWriteFeature.CHECK_SHARED_STRING_VALUES).
+                build()).
+                nodeFactory(BpmnJsonNodeFactory.INSTANCE).
+                build();
+    }
+
+    /**
+     * @return Smile mapper shared by all converters
+     */
+    public static SmileMapper smileMapper() {
+        return SmileMapperHolder.INSTANCE;
+    }
+
+    /**
+     * @param format editor model format
+     * @return mapper shared by all converters for the given format
+     */
+    public static ObjectMapper mapper(final BpmnJsonConverterOptions.EditorFormat format) {
+        return format == BpmnJsonConverterOptions.EditorFormat.SMILE ? smileMapper() : jsonMapper();
+    }
+
+    /**
+     * @param format editor model format
+     * @return reader binding a whole editor model to {@link EditorShape} records, skipping what is not modeled there
+     */
+    public static ObjectReader editorShapeReader(final BpmnJsonConverterOptions.EditorFormat format) {
+        return mapper(format).readerFor(EditorShape.class).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
 
     public static ObjectNode createChildShape(
             final String id,
@@ -68,12 +127,13 @@ public final class BpmnJsonConverterUtil implements EditorJsonConstants, Stencil
             final double lowerRightY,
             final double upperLeftX, final double upperLeftY) {
 
-        ObjectNode shapeNode = JSON_MAPPER.createObjectNode();
+        // bounds, resourceId, childShapes, stencil, properties, outgoing, and dockers and target for edges
+        ObjectNode shapeNode = BpmnJsonNodeFactory.INSTANCE.objectNode(8);
         shapeNode.set(EDITOR_BOUNDS, createBoundsNode(lowerRightX, lowerRightY, upperLeftX, upperLeftY));
         shapeNode.put(EDITOR_SHAPE_ID, id);
         ArrayNode shapesArrayNode = JSON_MAPPER.createArrayNode();
         shapeNode.set(EDITOR_CHILD_SHAPES, shapesArrayNode);
-        ObjectNode stencilNode = JSON_MAPPER.createObjectNode();
+        ObjectNode stencilNode = BpmnJsonNodeFactory.INSTANCE.objectNode(1);
         stencilNode.put(EDITOR_STENCIL_ID, type);
         shapeNode.set(EDITOR_STENCIL, stencilNode);
         return shapeNode;
@@ -85,21 +145,21 @@ public final class BpmnJsonConverterUtil implements EditorJsonConstants, Stencil
             final double upperLeftX,
             final double upperLeftY) {
 
-        ObjectNode boundsNode = JSON_MAPPER.createObjectNode();
+        ObjectNode boundsNode = BpmnJsonNodeFactory.INSTANCE.objectNode(2);
         boundsNode.set(EDITOR_BOUNDS_LOWER_RIGHT, createPositionNode(lowerRightX, lowerRightY));
         boundsNode.set(EDITOR_BOUNDS_UPPER_LEFT, createPositionNode(upperLeftX, upperLeftY));
         return boundsNode;
     }
 
     public static ObjectNode createPositionNode(final double x, final double y) {
-        ObjectNode positionNode = JSON_MAPPER.createObjectNode();
+        ObjectNode positionNode = BpmnJsonNodeFactory.INSTANCE.objectNode(2);
         positionNode.put(EDITOR_BOUNDS_X, x);
         positionNode.put(EDITOR_BOUNDS_Y, y);
         return positionNode;
     }
 
     public static ObjectNode createResourceNode(final String id) {
-        ObjectNode resourceNode = JSON_MAPPER.createObjectNode();
+        ObjectNode resourceNode = BpmnJsonNodeFactory.INSTANCE.objectNode(1);
         resourceNode.put(EDITOR_SHAPE_ID, id);
         return resourceNode;
     }
@@ -113,15 +173,43 @@ public final class BpmnJsonConverterUtil implements EditorJsonConstants, Stencil
         return stencilId;
     }
 
+    /**
+     * @param objectNode editor shape
+     * @return element id of the given shape, as per {@link #getElementId(String, String)}
+     */
     public static String getElementId(final JsonNode objectNode) {
-        String elementId;
-        if (StringUtils.isNotEmpty(getPropertyValueAsString(PROPERTY_OVERRIDE_ID, objectNode))) {
-            elementId = getPropertyValueAsString(PROPERTY_OVERRIDE_ID, objectNode).trim();
-        } else {
-            elementId = objectNode.get(EDITOR_SHAPE_ID).asString();
+        return getElementId(
+                getPropertyValueAsString(PROPERTY_OVERRIDE_ID, objectNode),
+                objectNode.get(EDITOR_SHAPE_ID).asString());
+    }
+
+    /**
+     * Element id rule shared by all readers of editor shapes: the {@code overrideid} property, trimmed, unless empty or
+     * {@code "null"}, as written by the editor for cleared values; the shape {@code resourceId} otherwise.
+     *
+     * @param overrideId {@code overrideid} property, if any
+     * @param resourceId shape {@code resourceId}
+     * @return element id
+     */
+    public static String getElementId(final String overrideId, final String resourceId) {
+        return StringUtils.isNotEmpty(overrideId) && !"null".equalsIgnoreCase(overrideId)
+                ? overrideId.trim()
+                : resourceId;
+    }
+
+    /**
+     * With {@link BpmnJsonConverterOptions.ExportProfile#VIEWER}, removes from the given properties all but ids, names,
+     * default flow markers and the whitelisted viewer properties.
+     *
+     * @param options conversion options
+     * @param propertiesNode shape properties
+     */
+    public static void retainViewerProperties(final BpmnJsonConverterOptions options, final ObjectNode propertiesNode) {
+        if (options.getExportProfile() != BpmnJsonConverterOptions.ExportProfile.VIEWER) {
+            return;
         }
 
-        return elementId;
+        propertiesNode.retain(options.getRetainedViewerProperties());
     }
 
     public static void convertMessagesToJson(final Collection<Message> messages, final ObjectNode propertiesNode) {
@@ -526,33 +614,49 @@ public final class BpmnJsonConverterUtil implements EditorJsonConstants, Stencil
     }
 
     public static String lookForSourceRef(final String flowId, final JsonNode childShapesNode) {
-        if (childShapesNode == null) {
-            return null;
+        JsonNode sourceNode = lookForOutgoingOwner(flowId, childShapesNode);
+        return sourceNode == null ? null : BpmnJsonConverterUtil.getElementId(sourceNode);
+    }
+
+    /**
+     * Pushes the given child shapes so that they are popped in document order, for depth-first walks which do not
+     * grow the call stack with the nesting depth.
+     *
+     * @param stack work stack
+     * @param childShapesNode child shapes, may be {@code null}
+     */
+    public static void pushChildShapes(final Deque<JsonNode> stack, final JsonNode childShapesNode) {
+        if (childShapesNode != null) {
+            for (int i = childShapesNode.size() - 1; i >= 0; i--) {
+                stack.push(childShapesNode.get(i));
+            }
         }
+    }
 
-        String sourceRef = null;
-        for (JsonNode childNode : childShapesNode) {
+    /**
+     * @param resourceId resource id to look for
+     * @param childShapesNode child shapes, nested shapes are looked into as well
+     * @return first shape, in document order, having the given resource id among its outgoing references
+     */
+    public static JsonNode lookForOutgoingOwner(final String resourceId, final JsonNode childShapesNode) {
+        Deque<JsonNode> stack = new ArrayDeque<>();
+        pushChildShapes(stack, childShapesNode);
+
+        while (!stack.isEmpty()) {
+            JsonNode childNode = stack.pop();
             JsonNode outgoingNode = childNode.get("outgoing");
-            if (outgoingNode != null && outgoingNode.size() > 0) {
+            if (outgoingNode != null) {
                 for (JsonNode outgoingChildNode : outgoingNode) {
                     JsonNode resourceNode = outgoingChildNode.get(EDITOR_SHAPE_ID);
-                    if (resourceNode != null && flowId.equals(resourceNode.asString())) {
-                        sourceRef = BpmnJsonConverterUtil.getElementId(childNode);
-                        break;
+                    if (resourceNode != null && resourceId.equals(resourceNode.asString())) {
+                        return childNode;
                     }
                 }
-
-                if (sourceRef != null) {
-                    break;
-                }
-            }
-            sourceRef = lookForSourceRef(flowId, childNode.get(EDITOR_CHILD_SHAPES));
-            if (sourceRef != null) {
-                break;
             }
+            pushChildShapes(stack, childNode.get(EDITOR_CHILD_SHAPES));
         }
 
-        return sourceRef;
+        return null;
     }
 
     public static List<ValuedDataObject> convertJsonToDataProperties(
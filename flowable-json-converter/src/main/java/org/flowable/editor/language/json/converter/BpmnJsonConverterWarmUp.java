@@ -0,0 +1,181 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.util.List;
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.BoundaryEvent;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.EndEvent;
+import org.flowable.bpmn.model.ExclusiveGateway;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowElementsContainer;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.bpmn.model.ImplementationType;
+import org.flowable.bpmn.model.MultiInstanceLoopCharacteristics;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.ScriptTask;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.ServiceTask;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.SubProcess;
+import org.flowable.bpmn.model.TimerEventDefinition;
+import org.flowable.bpmn.model.UserTask;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Built-in representative model, converted back and forth by {@link BpmnJsonConverter#warmUp(int)} so that class
+ * loading, static initialization and JIT compilation of the hot path happen before the first real conversion.
+ */
+final class BpmnJsonConverterWarmUp {
+
+    private static final double TASK_WIDTH = 100;
+
+    private static final double TASK_HEIGHT = 80;
+
+    private static final double EVENT_SIZE = 30;
+
+    private static final double GATEWAY_SIZE = 40;
+
+    private static GraphicInfo graphicInfo(final double x, final double y, final double width, final double height) {
+        GraphicInfo graphicInfo = new GraphicInfo();
+        graphicInfo.setX(x);
+        graphicInfo.setY(y);
+        graphicInfo.setWidth(width);
+        graphicInfo.setHeight(height);
+        return graphicInfo;
+    }
+
+    private static <T extends FlowElement> T add(
+            final BpmnModel model,
+            final FlowElementsContainer container,
+            final T flowElement,
+            final String id,
+            final GraphicInfo graphicInfo) {
+
+        flowElement.setId(id);
+        flowElement.setName(id);
+        container.addFlowElement(flowElement);
+        model.addGraphicInfo(id, graphicInfo);
+        return flowElement;
+    }
+
+    private static SequenceFlow connect(
+            final BpmnModel model,
+            final FlowElementsContainer container,
+            final FlowNode source,
+            final FlowNode target) {
+
+        SequenceFlow sequenceFlow = new SequenceFlow(source.getId(), target.getId());
+        sequenceFlow.setId(source.getId() + '-' + target.getId());
+        container.addFlowElement(sequenceFlow);
+        source.getOutgoingFlows().add(sequenceFlow);
+        target.getIncomingFlows().add(sequenceFlow);
+
+        GraphicInfo sourceInfo = model.getGraphicInfo(source.getId());
+        GraphicInfo targetInfo = model.getGraphicInfo(target.getId());
+        model.addFlowGraphicInfoList(sequenceFlow.getId(), List.of(
+                graphicInfo(
+                        sourceInfo.getX() + sourceInfo.getWidth(),
+                        sourceInfo.getY() + sourceInfo.getHeight() / 2, 0, 0),
+                graphicInfo(targetInfo.getX(), targetInfo.getY() + targetInfo.getHeight() / 2, 0, 0)));
+        return sequenceFlow;
+    }
+
+    /**
+     * @return model with events, tasks, a gateway, a boundary event, a multi-instance activity and a sub-process
+     */
+    static BpmnModel createModel() {
+        BpmnModel model = new BpmnModel();
+        Process process = new Process();
+        process.setId("warmUp");
+        process.setName("Warm-up");
+        model.addProcess(process);
+
+        StartEvent start = add(model, process, new StartEvent(), "start", graphicInfo(0, 100, EVENT_SIZE, EVENT_SIZE));
+
+        UserTask userTask = add(model, process, new UserTask(), "userTask", graphicInfo(
+                100, 75, TASK_WIDTH, TASK_HEIGHT));
+        userTask.setAssignee("${initiator}");
+        userTask.setFormKey("warmUpForm");
+
+        BoundaryEvent timer = add(model, process, new BoundaryEvent(), "timer", graphicInfo(
+                185, 140, EVENT_SIZE, EVENT_SIZE));
+        TimerEventDefinition timerDefinition = new TimerEventDefinition();
+        timerDefinition.setTimeDuration("PT1H");
+        timer.addEventDefinition(timerDefinition);
+        attach(timer, userTask);
+
+        ExclusiveGateway gateway = add(model, process, new ExclusiveGateway(), "gateway", graphicInfo(
+                250, 95, GATEWAY_SIZE, GATEWAY_SIZE));
+
+        ServiceTask serviceTask = add(model, process, new ServiceTask(), "serviceTask", graphicInfo(
+                350, 0, TASK_WIDTH, TASK_HEIGHT));
+        serviceTask.setImplementationType(ImplementationType.IMPLEMENTATION_TYPE_DELEGATEEXPRESSION);
+        serviceTask.setImplementation("${warmUpDelegate}");
+        MultiInstanceLoopCharacteristics loop = new MultiInstanceLoopCharacteristics();
+        loop.setInputDataItem("${items}");
+        loop.setElementVariable("item");
+        serviceTask.setLoopCharacteristics(loop);
+
+        SubProcess subProcess = add(model, process, new SubProcess(), "subProcess", graphicInfo(
+                350, 150, 300, 150));
+        StartEvent subStart = add(model, subProcess, new StartEvent(), "subStart", graphicInfo(
+                370, 210, EVENT_SIZE, EVENT_SIZE));
+        ScriptTask scriptTask = add(model, subProcess, new ScriptTask(), "scriptTask", graphicInfo(
+                440, 185, TASK_WIDTH, TASK_HEIGHT));
+        scriptTask.setScriptFormat("groovy");
+        scriptTask.setScript("execution.setVariable('warm', true)");
+        EndEvent subEnd = add(model, subProcess, new EndEvent(), "subEnd", graphicInfo(
+                590, 210, EVENT_SIZE, EVENT_SIZE));
+
+        EndEvent end = add(model, process, new EndEvent(), "end", graphicInfo(700, 100, EVENT_SIZE, EVENT_SIZE));
+
+        connect(model, process, start, userTask);
+        connect(model, process, userTask, gateway);
+        connect(model, process, gateway, serviceTask).setConditionExpression("${approved}");
+        gateway.setDefaultFlow(connect(model, process, gateway, subProcess).getId());
+        connect(model, process, serviceTask, end);
+        connect(model, process, subProcess, end);
+        connect(model, process, timer, end);
+        connect(model, subProcess, subStart, scriptTask);
+        connect(model, subProcess, scriptTask, subEnd);
+
+        return model;
+    }
+
+    private static void attach(final BoundaryEvent boundaryEvent, final Activity activity) {
+        boundaryEvent.setAttachedToRef(activity);
+        boundaryEvent.setAttachedToRefId(activity.getId());
+        activity.getBoundaryEvents().add(boundaryEvent);
+    }
+
+    /**
+     * Converts with default options rather than the ones of the given converter: the built-in model is not to reach
+     * the shared expression catalog or canonicalizer, nor to count against the configured limits.
+     */
+    static void run(final BpmnJsonConverter converter, final int iterations) {
+        BpmnModel model = createModel();
+        BpmnJsonConverterContext converterContext = new StandaloneBpmnConverterContext();
+        BpmnJsonConverterOptions options = new BpmnJsonConverterOptions();
+        for (int i = 0; i < iterations; i++) {
+            ObjectNode modelNode = converter.convertToJson(model, converterContext, options);
+            converter.convertToBpmnModel(modelNode, converterContext, options);
+        }
+    }
+
+    private BpmnJsonConverterWarmUp() {
+        // private constructor for static utility class
+    }
+}
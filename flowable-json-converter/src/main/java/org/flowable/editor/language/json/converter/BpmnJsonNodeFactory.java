@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.util.LinkedHashMap;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Node factory of the shared mappers, also creating object nodes sized for the fixed-shape structures of editor JSON
+ * (bounds, positions, dockers, resources, stencils), rather than with the default map capacity.
+ */
+public class BpmnJsonNodeFactory extends JsonNodeFactory {
+
+    private static final long serialVersionUID = 4318623034157632187L;
+
+    public static final BpmnJsonNodeFactory INSTANCE = new BpmnJsonNodeFactory();
+
+    /**
+     * @param expectedSize number of properties to be set
+     * @return object node whose backing map holds the given number of properties without resizing
+     */
+    public ObjectNode objectNode(final int expectedSize) {
+        return new ObjectNode(this, LinkedHashMap.newLinkedHashMap(expectedSize));
+    }
+}
@@ -0,0 +1,231 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.editor.constants.EditorJsonConstants;
+import org.flowable.editor.constants.StencilConstants;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.StreamReadFeature;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Rewrites editor models, as saved by any modeler version, into canonical form: properties stored as JSON-encoded
+ * strings (possibly more than once) are decoded, placeholder form and decision references are dropped and object keys
+ * are sorted, so that conversion no longer needs to parse nested JSON.
+ * <p>
+ * Only the values that {@link BpmnJsonConverter} itself decodes via
+ * {@link BpmnJsonConverterUtil#validateIfNodeIsTextual(JsonNode)} are touched, thus a normalized model converts to the
+ * same {@link org.flowable.bpmn.model.BpmnModel} as the original one. Instances are thread-safe.
+ */
+public class BpmnJsonNormalizer implements EditorJsonConstants, StencilConstants {
+
+    /**
+     * Properties decoded by the converter when found as strings.
+     */
+    private static final Set<String> ENCODED_PROPERTIES = Set.of(
+            PROPERTY_EXECUTION_LISTENERS,
+            PROPERTY_TASK_LISTENERS,
+            PROPERTY_EVENT_LISTENERS,
+            PROPERTY_MESSAGE_DEFINITIONS,
+            PROPERTY_SIGNAL_DEFINITIONS,
+            PROPERTY_ESCALATION_DEFINITIONS,
+            PROPERTY_FORM_PROPERTIES,
+            PROPERTY_SEQUENCEFLOW_ORDER,
+            PROPERTY_CALLACTIVITY_IN,
+            PROPERTY_CALLACTIVITY_OUT,
+            PROPERTY_EVENT_REGISTRY_IN_PARAMETERS,
+            PROPERTY_EVENT_REGISTRY_OUT_PARAMETERS,
+            PROPERTY_EVENT_REGISTRY_CORRELATION_PARAMETERS);
+
+    /**
+     * Listener properties whose inner list is decoded as well by the converter.
+     */
+    private static final Map<String, String> ENCODED_LISTS = Map.of(
+            PROPERTY_EXECUTION_LISTENERS, "executionListeners",
+            PROPERTY_TASK_LISTENERS, "taskListeners",
+            PROPERTY_EVENT_LISTENERS, PROPERTY_EVENTLISTENER_VALUE);
+
+    /**
+     * Listener properties whose inner list items are decoded as well by the converter.
+     */
+    private static final Set<String> ENCODED_ITEMS = Set.of(PROPERTY_EXECUTION_LISTENERS, PROPERTY_TASK_LISTENERS);
+
+    private static final Set<String> REFERENCE_PROPERTIES = Set.of(
+            PROPERTY_FORM_REFERENCE,
+            PROPERTY_DECISIONTABLE_REFERENCE,
+            PROPERTY_DECISIONSERVICE_REFERENCE);
+
+    /**
+     * Node still to be copied, and where its copy goes.
+     */
+    private record Pending(JsonNode source, boolean shape, Consumer<JsonNode> target) {
+    }
+
+    /**
+     * Same outcome as {@link BpmnJsonConverterUtil#validateIfNodeIsTextual(JsonNode)}, without logging values which
+     * are not JSON.
+     */
+    private static JsonNode decode(final JsonNode node) {
+        JsonNode decoded = node;
+        while (decoded != null && decoded.isString() && StringUtils.isNotEmpty(decoded.asString())) {
+            try {
+                decoded = BpmnJsonConverterUtil.jsonMapper().readTree(decoded.asString());
+            } catch (JacksonException e) {
+                // plain string, kept as is
+                break;
+            }
+        }
+        return decoded;
+    }
+
+    /**
+     * @return whether the given reference is ignored by the converter, as left by older modelers when unset
+     */
+    private static boolean isPlaceholderReference(final JsonNode reference) {
+        if (reference == null || reference.isNull()) {
+            return true;
+        }
+        if (reference.isString()) {
+            return StringUtils.isEmpty(reference.asString()) || "null".equalsIgnoreCase(reference.asString());
+        }
+        return reference.isObject() && !reference.has("id");
+    }
+
+    private static void pushItems(
+            final Deque<Pending> stack,
+            final JsonNode source,
+            final ArrayNode target,
+            final boolean shapes) {
+
+        for (int i = 0; i < source.size(); i++) {
+            target.addNull();
+            int index = i;
+            stack.push(new Pending(source.get(i), shapes, copy -> target.set(index, copy)));
+        }
+    }
+
+    private static List<Map.Entry<String, JsonNode>> sorted(final JsonNode objectNode) {
+        List<Map.Entry<String, JsonNode>> entries = new ArrayList<>(objectNode.properties());
+        entries.sort(Map.Entry.comparingByKey());
+        return entries;
+    }
+
+    private final ObjectReader reader;
+
+    private final ObjectWriter writer;
+
+    public BpmnJsonNormalizer() {
+        this(BpmnJsonConverterOptions.EditorFormat.JSON);
+    }
+
+    public BpmnJsonNormalizer(final BpmnJsonConverterOptions.EditorFormat format) {
+        this.reader = BpmnJsonConverterUtil.mapper(format).reader().without(StreamReadFeature.AUTO_CLOSE_SOURCE);
+        this.writer = BpmnJsonConverterUtil.mapper(format).writer().without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+    }
+
+    private JsonNode canonical(final JsonNode node, final boolean shape) {
+        JsonNode[] result = new JsonNode[1];
+
+        // copies are attached to their parent first, with a placeholder for each child in canonical position, and
+        // filled later: nesting depth only grows the stack, not the call stack
+        Deque<Pending> stack = new ArrayDeque<>();
+        stack.push(new Pending(node, shape, value -> result[0] = value));
+        while (!stack.isEmpty()) {
+            Pending next = stack.pop();
+            JsonNode source = next.source();
+
+            if (source.isArray()) {
+                ArrayNode arrayNode = BpmnJsonConverterUtil.jsonMapper().createArrayNode();
+                next.target().accept(arrayNode);
+                pushItems(stack, source, arrayNode, false);
+            } else if (source.isObject()) {
+                ObjectNode objectNode = BpmnJsonConverterUtil.jsonMapper().createObjectNode();
+                next.target().accept(objectNode);
+
+                for (Map.Entry<String, JsonNode> entry : sorted(source)) {
+                    String name = entry.getKey();
+                    JsonNode value = entry.getValue();
+                    if (next.shape() && EDITOR_SHAPE_PROPERTIES.equals(name) && value.isObject()) {
+                        objectNode.set(name, canonicalProperties(value));
+                    } else if (next.shape() && EDITOR_CHILD_SHAPES.equals(name) && value.isArray()) {
+                        pushItems(stack, value, objectNode.putArray(name), true);
+                    } else {
+                        objectNode.putNull(name);
+                        stack.push(new Pending(value, false, copy -> objectNode.set(name, copy)));
+                    }
+                }
+            } else {
+                next.target().accept(source);
+            }
+        }
+        return result[0];
+    }
+
+    private ObjectNode canonicalProperties(final JsonNode propertiesNode) {
+        ObjectNode objectNode = BpmnJsonConverterUtil.jsonMapper().createObjectNode();
+        for (Map.Entry<String, JsonNode> entry : sorted(propertiesNode)) {
+            String name = entry.getKey();
+            if (REFERENCE_PROPERTIES.contains(name) && isPlaceholderReference(entry.getValue())) {
+                continue;
+            }
+
+            JsonNode value = ENCODED_PROPERTIES.contains(name) ? decode(entry.getValue()) : entry.getValue();
+            String listName = ENCODED_LISTS.get(name);
+            if (listName != null && value instanceof ObjectNode listenersNode && listenersNode.has(listName)) {
+                ObjectNode decodedNode = listenersNode.deepCopy();
+                JsonNode listNode = decode(listenersNode.get(listName));
+                if (ENCODED_ITEMS.contains(name) && listNode instanceof ArrayNode arrayNode) {
+                    ArrayNode itemsNode = BpmnJsonConverterUtil.jsonMapper().createArrayNode();
+                    arrayNode.forEach(item -> itemsNode.add(decode(item)));
+                    listNode = itemsNode;
+                }
+                decodedNode.set(listName, listNode);
+                value = decodedNode;
+            }
+
+            objectNode.set(name, canonical(value, false));
+        }
+        return objectNode;
+    }
+
+    /**
+     * @param modelNode editor model, not modified
+     * @return canonical copy of the given editor model
+     */
+    public JsonNode normalize(final JsonNode modelNode) {
+        return canonical(modelNode, true);
+    }
+
+    /**
+     * @param in editor model, encoded as per the format given at construction, not closed
+     * @param out where the canonical editor model is written, in the same format, flushed but not closed
+     */
+    public void normalize(final InputStream in, final OutputStream out) {
+        writer.writeValue(out, normalize(reader.readTree(in)));
+    }
+}
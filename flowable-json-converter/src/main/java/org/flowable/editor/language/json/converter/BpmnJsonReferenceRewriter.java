@@ -0,0 +1,257 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.flowable.editor.constants.EditorJsonConstants;
+import org.flowable.editor.constants.StencilConstants;
+import org.flowable.editor.language.json.converter.util.JsonConverterUtil;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.StreamReadFeature;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.core.TokenStreamContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * Rewrites the references held by editor models to forms, decision tables, decision services and called processes,
+ * according to id and key mappings, token by token: no tree is built and everything else is copied through as read.
+ * <p>
+ * The properties looked at are the same as per {@link JsonConverterUtil} reference lookups and by
+ * {@link CallActivityJsonConverter}; as these are only found on the matching stencils, the stencil itself is not
+ * checked. References stored as JSON-encoded strings are copied through unchanged, as the converter ignores them.
+ * Called elements are only rewritten as keys when their {@code callactivitycalledelementtype} is not {@code id}; as
+ * the type is usually written after the called element, the rest of the properties object is read ahead in that case.
+ * <p>
+ * Mappings are to be set before sharing the instance, which is thread-safe afterwards.
+ */
+public class BpmnJsonReferenceRewriter implements EditorJsonConstants, StencilConstants {
+
+    public enum ReferenceType {
+        FORM(PROPERTY_FORM_REFERENCE),
+        DECISION_TABLE(PROPERTY_DECISIONTABLE_REFERENCE),
+        DECISION_SERVICE(PROPERTY_DECISIONSERVICE_REFERENCE),
+        /**
+         * Process called by call activities, referenced by key only.
+         */
+        PROCESS(PROPERTY_CALLACTIVITY_CALLEDELEMENT);
+
+        private final String property;
+
+        ReferenceType(final String property) {
+            this.property = property;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+    }
+
+    private static final Map<String, ReferenceType> BY_PROPERTY = new HashMap<>();
+
+    static {
+        for (ReferenceType type : ReferenceType.values()) {
+            BY_PROPERTY.put(type.getProperty(), type);
+        }
+    }
+
+    static final String CALLED_ELEMENT_TYPE_ID = "id";
+
+    private static String name(final TokenStreamContext context) {
+        return context == null ? null : context.currentName();
+    }
+
+    /**
+     * @param parser parser positioned on a string value
+     * @return whether the parser is positioned on the called element type of a call activity
+     */
+    static boolean isCalledElementType(final JsonParser parser) {
+        return PROPERTY_CALLACTIVITY_CALLEDELEMENTTYPE.equals(parser.currentName())
+                && EDITOR_SHAPE_PROPERTIES.equals(name(parser.streamReadContext().getParent()));
+    }
+
+    private static boolean isCalledById(final JsonNode calledElementType) {
+        return calledElementType != null && calledElementType.isString()
+                && CALLED_ELEMENT_TYPE_ID.equals(calledElementType.asString());
+    }
+
+    private final Map<ReferenceType, Map<String, String>> idMappings = new EnumMap<>(ReferenceType.class);
+
+    private final Map<ReferenceType, Map<String, String>> keyMappings = new EnumMap<>(ReferenceType.class);
+
+    private final ObjectReader reader;
+
+    private final ObjectWriter writer;
+
+    public BpmnJsonReferenceRewriter() {
+        this(BpmnJsonConverterOptions.EditorFormat.JSON);
+    }
+
+    public BpmnJsonReferenceRewriter(final BpmnJsonConverterOptions.EditorFormat format) {
+        this.reader = BpmnJsonConverterUtil.mapper(format).reader().without(StreamReadFeature.AUTO_CLOSE_SOURCE);
+        this.writer = BpmnJsonConverterUtil.mapper(format).writer().without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Not applicable to {@link ReferenceType#PROCESS}, whose references only carry the key.
+     */
+    public BpmnJsonReferenceRewriter mapId(final ReferenceType type, final String from, final String to) {
+        idMappings.computeIfAbsent(type, k -> new HashMap<>()).put(from, to);
+        return this;
+    }
+
+    public BpmnJsonReferenceRewriter mapKey(final ReferenceType type, final String from, final String to) {
+        keyMappings.computeIfAbsent(type, k -> new HashMap<>()).put(from, to);
+        return this;
+    }
+
+    /**
+     * Reference id or key found at the current parser position.
+     *
+     * @param type reference type
+     * @param key whether the string value is the reference key, rather than its id
+     */
+    record ReferenceField(ReferenceType type, boolean key) {
+    }
+
+    /**
+     * @param parser parser positioned on a string value
+     * @return reference id or key found at the current parser position, if any
+     */
+    static ReferenceField referenceField(final JsonParser parser) {
+        TokenStreamContext context = parser.streamReadContext();
+        String name = parser.currentName();
+
+        // "callactivitycalledelement": "..." directly under "properties"
+        ReferenceType type = BY_PROPERTY.get(name);
+        if (type == ReferenceType.PROCESS && EDITOR_SHAPE_PROPERTIES.equals(name(context.getParent()))) {
+            return new ReferenceField(type, true);
+        }
+
+        // "formreference": { "id": "...", "key": "..." } under "properties"
+        if (context.inObject() && context.getParent() != null) {
+            type = BY_PROPERTY.get(name(context.getParent()));
+            if (type != null && type != ReferenceType.PROCESS
+                    && EDITOR_SHAPE_PROPERTIES.equals(name(context.getParent().getParent()))) {
+
+                if ("id".equals(name)) {
+                    return new ReferenceField(type, false);
+                }
+                if ("key".equals(name)) {
+                    return new ReferenceField(type, true);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Map<String, String> mappingFor(final ReferenceField field) {
+        if (field == null) {
+            return null;
+        }
+        return field.key() ? keyMappings.get(field.type()) : idMappings.get(field.type());
+    }
+
+    /**
+     * Writes the called element the parser is positioned on, reading ahead the rest of its properties object to find
+     * the called element type.
+     *
+     * @return whether the called element was rewritten
+     */
+    private static boolean writeCalledElement(
+            final JsonParser parser,
+            final JsonGenerator generator,
+            final String mapped) {
+
+        String calledElement = parser.getString();
+        Map<String, JsonNode> following = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            following.put(name, parser.readValueAsTree());
+        }
+
+        boolean rewrite = !isCalledById(following.get(PROPERTY_CALLACTIVITY_CALLEDELEMENTTYPE));
+        generator.writeString(rewrite ? mapped : calledElement);
+        for (Map.Entry<String, JsonNode> entry : following.entrySet()) {
+            generator.writeName(entry.getKey());
+            generator.writeTree(entry.getValue());
+        }
+        generator.writeEndObject();
+        return rewrite;
+    }
+
+    /**
+     * @param in editor model, encoded as per the format given at construction, not closed
+     * @param out where the rewritten editor model is written, in the same format, flushed but not closed
+     * @return number of references rewritten
+     */
+    public int rewrite(final InputStream in, final OutputStream out) {
+        int rewritten = 0;
+        try (JsonParser parser = reader.createParser(in); JsonGenerator generator = writer.createGenerator(out)) {
+            // called element type found so far in the current properties object
+            String calledElementType = null;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_OBJECT && EDITOR_SHAPE_PROPERTIES.equals(parser.currentName())) {
+                    calledElementType = null;
+                } else if (token == JsonToken.VALUE_STRING && isCalledElementType(parser)) {
+                    calledElementType = parser.getString();
+                }
+
+                ReferenceField field = token == JsonToken.VALUE_STRING ? referenceField(parser) : null;
+                Map<String, String> mapping = mappingFor(field);
+                String mapped = mapping == null ? null : mapping.get(parser.getString());
+                if (mapped != null && field.type() == ReferenceType.PROCESS) {
+                    if (calledElementType == null) {
+                        if (writeCalledElement(parser, generator, mapped)) {
+                            rewritten++;
+                        }
+                        continue;
+                    }
+                    if (CALLED_ELEMENT_TYPE_ID.equals(calledElementType)) {
+                        mapped = null;
+                    }
+                }
+
+                if (mapped == null) {
+                    generator.copyCurrentEventExact(parser);
+                } else {
+                    generator.writeString(mapped);
+                    rewritten++;
+                }
+            }
+        }
+        return rewritten;
+    }
+
+    /**
+     * @param json editor model, encoded as per the format given at construction
+     * @return rewritten editor model, in the same format
+     */
+    public byte[] rewrite(final byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        rewrite(new ByteArrayInputStream(json), out);
+        return out.toByteArray();
+    }
+}
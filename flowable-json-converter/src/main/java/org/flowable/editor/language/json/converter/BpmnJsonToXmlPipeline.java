@@ -0,0 +1,165 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.common.engine.api.FlowableException;
+import tools.jackson.core.StreamReadFeature;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Converts editor JSON to BPMN 2.0 XML written to an output stream, as needed for deployment; the fingerprint of the
+ * editor model is returned, and conversion is skipped altogether when matching the one of the previous deployment:
+ * only the semantic hash is compared when diagram interchange is not generated, both hashes otherwise.
+ * <p>
+ * Use {@link BpmnJsonConverterOptions#executableOnly()} when the target does not need diagram interchange, for the XML
+ * not to carry it either. Instances are thread-safe, provided that the given converter context is.
+ */
+public class BpmnJsonToXmlPipeline {
+
+    /**
+     * Fails as soon as more than {@link BpmnJsonConverterLimits#getMaxInputBytes()} bytes are read.
+     */
+    private static final class BoundedInputStream extends FilterInputStream {
+
+        private final BpmnJsonConversionBudget budget;
+
+        private long bytesRead;
+
+        private BoundedInputStream(final InputStream in, final BpmnJsonConversionBudget budget) {
+            super(in);
+            this.budget = budget;
+        }
+
+        private int count(final int bytes) {
+            if (bytes > 0) {
+                bytesRead += bytes;
+                budget.checkInputBytes(bytesRead);
+            }
+            return bytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int next = super.read();
+            if (next >= 0) {
+                count(1);
+            }
+            return next;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int off, final int len) throws IOException {
+            return count(super.read(bytes, off, len));
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            long skipped = super.skip(n);
+            bytesRead += skipped;
+            budget.checkInputBytes(bytesRead);
+            return skipped;
+        }
+
+        @Override
+        public void close() {
+            // the underlying stream is not closed
+        }
+    }
+
+    private final BpmnJsonConverter converter;
+
+    private final BpmnJsonConverterContext converterContext;
+
+    private final BpmnJsonConverterOptions options;
+
+    public BpmnJsonToXmlPipeline(
+            final BpmnJsonConverter converter,
+            final BpmnJsonConverterContext converterContext,
+            final BpmnJsonConverterOptions options) {
+
+        this.converter = converter;
+        this.converterContext = converterContext;
+        this.options = options;
+    }
+
+    private boolean isUnchanged(final BpmnModelFingerprint fingerprint, final BpmnModelFingerprint previous) {
+        if (previous == null) {
+            return false;
+        }
+        return options.isDiagramInterchange()
+                ? fingerprint.equals(previous)
+                : fingerprint.semanticHash().equals(previous.semanticHash());
+    }
+
+    private BpmnModelFingerprint convert(
+            final JsonNode modelNode,
+            final OutputStream xml,
+            final BpmnModelFingerprint previous) {
+
+        BpmnModelFingerprint fingerprint = BpmnModelFingerprint.of(modelNode);
+        if (isUnchanged(fingerprint, previous)) {
+            return fingerprint;
+        }
+
+        byte[] xmlBytes = new BpmnXMLConverter().convertToXML(
+                converter.convertToBpmnModel(modelNode, converterContext, options));
+        try {
+            xml.write(xmlBytes);
+            xml.flush();
+        } catch (IOException e) {
+            throw new FlowableException("Could not write BPMN XML", e);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * @param json editor model, encoded as per {@link BpmnJsonConverterOptions#getEditorFormat()}; size is checked
+     * against {@link BpmnJsonConverterLimits#getMaxInputBytes()} before parsing
+     * @param xml where BPMN XML is written, flushed but not closed
+     * @param previous fingerprint of the previous deployment, if any
+     * @return fingerprint of the given editor model; nothing is written when matching the given one
+     */
+    public BpmnModelFingerprint convert(
+            final byte[] json,
+            final OutputStream xml,
+            final BpmnModelFingerprint previous) {
+
+        new BpmnJsonConversionBudget(options.getLimits()).checkInputBytes(json.length);
+        return convert(BpmnJsonConverterUtil.mapper(options.getEditorFormat()).readTree(json), xml, previous);
+    }
+
+    /**
+     * @param json editor model, encoded as per {@link BpmnJsonConverterOptions#getEditorFormat()}, not closed; size
+     * is checked against {@link BpmnJsonConverterLimits#getMaxInputBytes()} while parsing
+     * @param xml where BPMN XML is written, flushed but not closed
+     * @param previous fingerprint of the previous deployment, if any
+     * @return fingerprint of the given editor model; nothing is written when matching the given one
+     */
+    public BpmnModelFingerprint convert(
+            final InputStream json,
+            final OutputStream xml,
+            final BpmnModelFingerprint previous) {
+
+        return convert(
+                BpmnJsonConverterUtil.mapper(options.getEditorFormat()).reader().
+                        without(StreamReadFeature.AUTO_CLOSE_SOURCE).
+                        readTree(new BoundedInputStream(json, new BpmnJsonConversionBudget(options.getLimits()))),
+                xml,
+                previous);
+    }
+}
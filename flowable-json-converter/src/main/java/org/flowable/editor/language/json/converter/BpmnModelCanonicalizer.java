@@ -0,0 +1,346 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.flowable.bpmn.model.BaseElement;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.ConditionalEventDefinition;
+import org.flowable.bpmn.model.ErrorEventDefinition;
+import org.flowable.bpmn.model.EscalationEventDefinition;
+import org.flowable.bpmn.model.Event;
+import org.flowable.bpmn.model.EventDefinition;
+import org.flowable.bpmn.model.EventListener;
+import org.flowable.bpmn.model.ExtensionAttribute;
+import org.flowable.bpmn.model.ExtensionElement;
+import org.flowable.bpmn.model.FieldExtension;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowableListener;
+import org.flowable.bpmn.model.FormProperty;
+import org.flowable.bpmn.model.FormValue;
+import org.flowable.bpmn.model.Message;
+import org.flowable.bpmn.model.MessageEventDefinition;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.Signal;
+import org.flowable.bpmn.model.SignalEventDefinition;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.SubProcess;
+import org.flowable.bpmn.model.TaskWithFieldExtensions;
+import org.flowable.bpmn.model.TimerEventDefinition;
+import org.flowable.bpmn.model.UserTask;
+
+/**
+ * Reduces the memory footprint of converted models by replacing equal strings found in listeners, field extensions,
+ * form properties, event definitions, messages, signals and extension elements or attributes with a single instance;
+ * when {@link #isShareStructures()}, equal field extensions and form values are shared as well.
+ * <p>
+ * The same instance can be used for a whole batch of models, for sharing across them, also from concurrent
+ * conversions; when used via {@link BpmnJsonConverterOptions#setCanonicalizer(BpmnModelCanonicalizer)}, each model is
+ * canonicalized right after conversion. Once {@link #getMaxEntries()} distinct values are known, new values are left
+ * as they are; {@link #clear()} starts over.
+ */
+public class BpmnModelCanonicalizer {
+
+    /**
+     * Approximate size of a {@code String} with its backing array, excluding content.
+     */
+    private static final long STRING_OVERHEAD = 40;
+
+    /**
+     * Approximate shallow size of a {@code BaseElement} instance, including empty maps for extension elements and
+     * attributes.
+     */
+    private static final long ELEMENT_OVERHEAD = 160;
+
+    public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    private record FieldExtensionKey(String fieldName, String stringValue, String expression) {
+    }
+
+    private record FormValueKey(String id, String name) {
+    }
+
+    private static boolean isPlain(final BaseElement element) {
+        return element.getId() == null
+                && element.getExtensionElements().isEmpty()
+                && element.getAttributes().isEmpty();
+    }
+
+    private final boolean shareStructures;
+
+    private final int maxEntries;
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+    private final Map<FieldExtensionKey, FieldExtension> fieldExtensions = new ConcurrentHashMap<>();
+
+    private final Map<FormValueKey, FormValue> formValues = new ConcurrentHashMap<>();
+
+    private final LongAdder savedBytes = new LongAdder();
+
+    public BpmnModelCanonicalizer() {
+        this(false);
+    }
+
+    /**
+     * @param shareStructures whether equal field extensions and form values shall be shared, rather than only their
+     * strings; models must then be treated as read-only
+     */
+    public BpmnModelCanonicalizer(final boolean shareStructures) {
+        this(shareStructures, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param shareStructures whether equal field extensions and form values shall be shared, rather than only their
+     * strings; models must then be treated as read-only
+     * @param maxEntries maximum number of distinct strings, and of distinct shared structures, to keep
+     */
+    public BpmnModelCanonicalizer(final boolean shareStructures, final int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries must not be negative: " + maxEntries);
+        }
+        this.shareStructures = shareStructures;
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean isShareStructures() {
+        return shareStructures;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * @return approximate number of bytes saved by all the invocations of {@link #canonicalize(BpmnModel)} so far
+     */
+    public long getSavedBytes() {
+        return savedBytes.sum();
+    }
+
+    /**
+     * Forgets all the values seen so far; models already canonicalized are left untouched.
+     */
+    public void clear() {
+        strings.clear();
+        fieldExtensions.clear();
+        formValues.clear();
+    }
+
+    /**
+     * @param model model to canonicalize, modified in place
+     * @return approximate number of bytes saved for the given model
+     */
+    public long canonicalize(final BpmnModel model) {
+        Pass pass = new Pass();
+
+        model.setTargetNamespace(pass.string(model.getTargetNamespace()));
+        model.getNamespaces().replaceAll((prefix, namespace) -> pass.string(namespace));
+
+        for (Message message : model.getMessages()) {
+            pass.element(message);
+            message.setId(pass.string(message.getId()));
+            message.setName(pass.string(message.getName()));
+            message.setItemRef(pass.string(message.getItemRef()));
+        }
+        for (Signal signal : model.getSignals()) {
+            pass.element(signal);
+            signal.setId(pass.string(signal.getId()));
+            signal.setName(pass.string(signal.getName()));
+            signal.setScope(pass.string(signal.getScope()));
+        }
+
+        for (Process process : model.getProcesses()) {
+            pass.element(process);
+            process.getExecutionListeners().forEach(pass::listener);
+            for (EventListener eventListener : process.getEventListeners()) {
+                eventListener.setEvents(pass.string(eventListener.getEvents()));
+                eventListener.setImplementationType(pass.string(eventListener.getImplementationType()));
+                eventListener.setImplementation(pass.string(eventListener.getImplementation()));
+                eventListener.setEntityType(pass.string(eventListener.getEntityType()));
+            }
+
+            Deque<FlowElement> stack = new ArrayDeque<>(process.getFlowElements());
+            while (!stack.isEmpty()) {
+                FlowElement flowElement = stack.pop();
+
+                pass.element(flowElement);
+                flowElement.getExecutionListeners().forEach(pass::listener);
+
+                if (flowElement instanceof UserTask userTask) {
+                    userTask.getTaskListeners().forEach(pass::listener);
+                    userTask.getFormProperties().forEach(pass::formProperty);
+                } else if (flowElement instanceof TaskWithFieldExtensions task) {
+                    pass.fieldExtensions(task.getFieldExtensions());
+                } else if (flowElement instanceof SubProcess subProcess) {
+                    stack.addAll(subProcess.getFlowElements());
+                }
+
+                if (flowElement instanceof StartEvent startEvent) {
+                    startEvent.getFormProperties().forEach(pass::formProperty);
+                }
+                if (flowElement instanceof Event event) {
+                    event.getEventDefinitions().forEach(pass::eventDefinition);
+                }
+            }
+        }
+
+        savedBytes.add(pass.saved);
+        return pass.saved;
+    }
+
+    /**
+     * Canonicalization of a single model, keeping track of the bytes saved.
+     */
+    private final class Pass {
+
+        private long saved;
+
+        private String string(final String value) {
+            if (value == null) {
+                return null;
+            }
+
+            String canonical = strings.get(value);
+            if (canonical == null) {
+                if (strings.size() >= maxEntries) {
+                    return value;
+                }
+                canonical = strings.putIfAbsent(value, value);
+                if (canonical == null) {
+                    return value;
+                }
+            }
+            if (canonical != value) {
+                saved += STRING_OVERHEAD + value.length();
+            }
+            return canonical;
+        }
+
+        private <K, V> V shared(final Map<K, V> shared, final K key, final V value) {
+            V canonical = shared.get(key);
+            if (canonical == null) {
+                if (shared.size() >= maxEntries) {
+                    return value;
+                }
+                canonical = shared.putIfAbsent(key, value);
+                if (canonical == null) {
+                    return value;
+                }
+            }
+            if (canonical != value) {
+                saved += ELEMENT_OVERHEAD;
+            }
+            return canonical;
+        }
+
+        private void element(final BaseElement element) {
+            element.getAttributes().values().forEach(attributes -> attributes.forEach(this::attribute));
+
+            Deque<ExtensionElement> stack = new ArrayDeque<>();
+            element.getExtensionElements().values().forEach(stack::addAll);
+            while (!stack.isEmpty()) {
+                ExtensionElement extensionElement = stack.pop();
+                extensionElement.setName(string(extensionElement.getName()));
+                extensionElement.setNamespace(string(extensionElement.getNamespace()));
+                extensionElement.setNamespacePrefix(string(extensionElement.getNamespacePrefix()));
+                extensionElement.setElementText(string(extensionElement.getElementText()));
+                extensionElement.getAttributes().values().
+                        forEach(attributes -> attributes.forEach(this::attribute));
+                extensionElement.getChildElements().values().forEach(stack::addAll);
+            }
+        }
+
+        private void attribute(final ExtensionAttribute attribute) {
+            attribute.setName(string(attribute.getName()));
+            attribute.setNamespace(string(attribute.getNamespace()));
+            attribute.setNamespacePrefix(string(attribute.getNamespacePrefix()));
+            attribute.setValue(string(attribute.getValue()));
+        }
+
+        private void listener(final FlowableListener listener) {
+            listener.setEvent(string(listener.getEvent()));
+            listener.setImplementationType(string(listener.getImplementationType()));
+            listener.setImplementation(string(listener.getImplementation()));
+            listener.setOnTransaction(string(listener.getOnTransaction()));
+            fieldExtensions(listener.getFieldExtensions());
+        }
+
+        private void eventDefinition(final EventDefinition eventDefinition) {
+            element(eventDefinition);
+
+            if (eventDefinition instanceof MessageEventDefinition message) {
+                message.setMessageRef(string(message.getMessageRef()));
+                message.setMessageExpression(string(message.getMessageExpression()));
+            } else if (eventDefinition instanceof SignalEventDefinition signal) {
+                signal.setSignalRef(string(signal.getSignalRef()));
+                signal.setSignalExpression(string(signal.getSignalExpression()));
+            } else if (eventDefinition instanceof TimerEventDefinition timer) {
+                timer.setTimeDate(string(timer.getTimeDate()));
+                timer.setTimeDuration(string(timer.getTimeDuration()));
+                timer.setTimeCycle(string(timer.getTimeCycle()));
+                timer.setEndDate(string(timer.getEndDate()));
+                timer.setCalendarName(string(timer.getCalendarName()));
+            } else if (eventDefinition instanceof ErrorEventDefinition error) {
+                error.setErrorCode(string(error.getErrorCode()));
+            } else if (eventDefinition instanceof EscalationEventDefinition escalation) {
+                escalation.setEscalationCode(string(escalation.getEscalationCode()));
+            } else if (eventDefinition instanceof ConditionalEventDefinition conditional) {
+                conditional.setConditionExpression(string(conditional.getConditionExpression()));
+            }
+        }
+
+        private void fieldExtensions(final List<FieldExtension> fields) {
+            for (ListIterator<FieldExtension> itor = fields.listIterator(); itor.hasNext();) {
+                FieldExtension field = itor.next();
+                field.setFieldName(string(field.getFieldName()));
+                field.setStringValue(string(field.getStringValue()));
+                field.setExpression(string(field.getExpression()));
+
+                if (shareStructures && isPlain(field)) {
+                    itor.set(shared(fieldExtensions,
+                            new FieldExtensionKey(field.getFieldName(), field.getStringValue(), field.getExpression()),
+                            field));
+                }
+            }
+        }
+
+        private void formProperty(final FormProperty formProperty) {
+            formProperty.setId(string(formProperty.getId()));
+            formProperty.setName(string(formProperty.getName()));
+            formProperty.setType(string(formProperty.getType()));
+            formProperty.setVariable(string(formProperty.getVariable()));
+            formProperty.setExpression(string(formProperty.getExpression()));
+            formProperty.setDefaultExpression(string(formProperty.getDefaultExpression()));
+            formProperty.setDatePattern(string(formProperty.getDatePattern()));
+
+            for (ListIterator<FormValue> itor = formProperty.getFormValues().listIterator(); itor.hasNext();) {
+                FormValue formValue = itor.next();
+                formValue.setId(string(formValue.getId()));
+                formValue.setName(string(formValue.getName()));
+
+                if (shareStructures
+                        && formValue.getExtensionElements().isEmpty() && formValue.getAttributes().isEmpty()) {
+
+                    itor.set(shared(formValues, new FormValueKey(formValue.getId(), formValue.getName()), formValue));
+                }
+            }
+        }
+    }
+}
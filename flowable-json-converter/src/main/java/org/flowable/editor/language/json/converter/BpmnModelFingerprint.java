@@ -0,0 +1,173 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.editor.constants.EditorJsonConstants;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Stable hashes of an editor model, telling semantic changes from layout-only ones: the semantic hash ignores bounds
+ * and dockers, the layout hash only considers them.
+ * <p>
+ * Both are insensitive to the order of shapes and of object properties, and to properties holding JSON encoded as
+ * text; {@code null} and empty string properties are considered the same as missing.
+ *
+ * @param semanticHash hash of everything but layout
+ * @param layoutHash hash of shape bounds and edge dockers
+ */
+public record BpmnModelFingerprint(String semanticHash, String layoutHash) implements EditorJsonConstants {
+
+    private static final Set<String> LAYOUT = Set.of(EDITOR_BOUNDS, EDITOR_DOCKERS);
+
+    /**
+     * Editor metadata, not affecting the model.
+     */
+    private static final Set<String> IGNORED = Set.of(EDITOR_CHILD_SHAPES, "stencilset", "ssextensions");
+
+    private record ShapeWithParent(JsonNode shape, String parentId) {
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new FlowableException("SHA-256 not available", e);
+        }
+    }
+
+    private static void update(final MessageDigest digest, final char tag, final String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) tag);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private static boolean isUnset(final JsonNode valueNode) {
+        return valueNode.isNull() || (valueNode.isString() && valueNode.asString().isEmpty());
+    }
+
+    /**
+     * @return the JSON value held by the given text node, if any
+     */
+    private static JsonNode decodeTextual(final JsonNode valueNode) {
+        String text = valueNode.asString().trim();
+        if (text.startsWith("{") || text.startsWith("[")) {
+            try {
+                return BpmnJsonConverterUtil.jsonMapper().readTree(text);
+            } catch (JacksonException e) {
+                // not JSON after all
+            }
+        }
+        return null;
+    }
+
+    private static void updateValue(final MessageDigest digest, final JsonNode valueNode) {
+        if (valueNode.isObject()) {
+            List<Map.Entry<String, JsonNode>> properties = new ArrayList<>(valueNode.properties());
+            properties.sort(Map.Entry.comparingByKey());
+
+            digest.update((byte) '{');
+            for (Map.Entry<String, JsonNode> property : properties) {
+                if (!isUnset(property.getValue())) {
+                    update(digest, 'k', property.getKey());
+                    updateValue(digest, property.getValue());
+                }
+            }
+            digest.update((byte) '}');
+        } else if (valueNode.isArray()) {
+            digest.update((byte) '[');
+            valueNode.forEach(item -> updateValue(digest, item));
+            digest.update((byte) ']');
+        } else if (valueNode.isString()) {
+            JsonNode decoded = decodeTextual(valueNode);
+            if (decoded == null) {
+                update(digest, 's', valueNode.asString());
+            } else {
+                updateValue(digest, decoded);
+            }
+        } else if (valueNode.isNumber()) {
+            update(digest, 'n', valueNode.decimalValue().stripTrailingZeros().toPlainString());
+        } else if (valueNode.isBoolean()) {
+            update(digest, 'b', valueNode.asString());
+        } else {
+            digest.update((byte) 'z');
+        }
+    }
+
+    private static byte[] shapeDigest(final JsonNode shapeNode, final String parentId, final boolean layout) {
+        MessageDigest digest = digest();
+        update(digest, 'p', parentId);
+
+        List<Map.Entry<String, JsonNode>> properties = new ArrayList<>(shapeNode.properties());
+        properties.sort(Map.Entry.comparingByKey());
+        for (Map.Entry<String, JsonNode> property : properties) {
+            String key = property.getKey();
+            if (EDITOR_SHAPE_ID.equals(key)
+                    || (!IGNORED.contains(key) && LAYOUT.contains(key) == layout && !isUnset(property.getValue()))) {
+
+                update(digest, 'k', key);
+                updateValue(digest, property.getValue());
+            }
+        }
+        return digest.digest();
+    }
+
+    private static String combine(final List<byte[]> digests) {
+        digests.sort(Arrays::compare);
+
+        MessageDigest digest = digest();
+        digests.forEach(digest::update);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * @param modelNode editor JSON
+     * @return fingerprint of the given editor model
+     */
+    public static BpmnModelFingerprint of(final JsonNode modelNode) {
+        List<byte[]> semantic = new ArrayList<>();
+        List<byte[]> layout = new ArrayList<>();
+
+        Deque<ShapeWithParent> stack = new ArrayDeque<>();
+        stack.push(new ShapeWithParent(modelNode, ""));
+        while (!stack.isEmpty()) {
+            ShapeWithParent next = stack.pop();
+
+            semantic.add(shapeDigest(next.shape(), next.parentId(), false));
+            layout.add(shapeDigest(next.shape(), next.parentId(), true));
+
+            JsonNode resourceIdNode = next.shape().get(EDITOR_SHAPE_ID);
+            String resourceId = resourceIdNode == null ? "" : resourceIdNode.asString();
+            JsonNode childShapesNode = next.shape().get(EDITOR_CHILD_SHAPES);
+            if (childShapesNode != null) {
+                childShapesNode.forEach(childShapeNode -> stack.push(new ShapeWithParent(childShapeNode, resourceId)));
+            }
+        }
+
+        return new BpmnModelFingerprint(combine(semantic), combine(layout));
+    }
+}
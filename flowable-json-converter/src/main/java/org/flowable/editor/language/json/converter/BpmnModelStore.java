@@ -0,0 +1,329 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.api.FlowableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Append-only file of converted models, for fast reload after restart: each entry holds the BPMN 2.0 XML of the
+ * {@link BpmnModel} obtained from {@link BpmnJsonConverter#convertToBpmnModel}, hence semantics and diagram
+ * interchange, in the serialized form that Flowable reads natively. When opened, only the entry headers are scanned
+ * to build the id index; each model is read on first access straight from its memory-mapped entry, without editor
+ * JSON conversion, then kept in memory.
+ * <p>
+ * The file header records the versions of this converter and of the Flowable BPMN converter; when not running from
+ * released jars, the timestamps of the class files are recorded instead. Files written with different versions, or a
+ * different file format, are discarded when opening, so that {@link #get(String, Supplier)} rebuilds entries from
+ * source; later entries for the same id supersede earlier ones.
+ */
+public class BpmnModelStore implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BpmnModelStore.class);
+
+    private static final int MAGIC = 0x424D5331;
+
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * Largest entry, as written by a single buffer.
+     */
+    private static final int MAX_ENTRY_BYTES = Integer.MAX_VALUE - 16;
+
+    private static final String STORE_VERSION = version(BpmnJsonConverter.class) + '/'
+            + version(BpmnXMLConverter.class);
+
+    private record Entry(long offset, int length) {
+    }
+
+    private record Cached(Entry entry, BpmnModel model) {
+    }
+
+    /**
+     * Reads a buffer, without copying it.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(len, buffer.remaining());
+            buffer.get(bytes, off, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    private static String version(final Class<?> clazz) {
+        String version = clazz.getPackage().getImplementationVersion();
+        if (version != null) {
+            return version;
+        }
+
+        // not running from a released jar: the class file changes with each build
+        URL classFile = clazz.getResource(clazz.getSimpleName() + ".class");
+        if (classFile != null) {
+            try {
+                long lastModified = classFile.openConnection().getLastModified();
+                if (lastModified > 0) {
+                    return "dev-" + lastModified;
+                }
+            } catch (IOException e) {
+                LOG.debug("Could not read timestamp of {}", classFile, e);
+            }
+        }
+
+        // no way to tell builds apart: never reuse entries
+        return "dev-" + UUID.randomUUID();
+    }
+
+    private static ByteBuffer header() {
+        byte[] version = STORE_VERSION.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 3 + version.length);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(version.length).put(version).flip();
+        return header;
+    }
+
+    private final BpmnJsonConverter converter;
+
+    private final BpmnJsonConverterContext converterContext;
+
+    private final BpmnJsonConverterOptions options;
+
+    private final FileChannel channel;
+
+    private final Map<String, Entry> index = new ConcurrentHashMap<>();
+
+    private final Map<String, Cached> models = new ConcurrentHashMap<>();
+
+    private long size;
+
+    /**
+     * @param file store file, created if missing
+     * @param converter converter for the stored models
+     * @param converterContext converter context
+     * @param options conversion options
+     */
+    public BpmnModelStore(
+            final Path file,
+            final BpmnJsonConverter converter,
+            final BpmnJsonConverterContext converterContext,
+            final BpmnJsonConverterOptions options) {
+
+        this.converter = converter;
+        this.converterContext = converterContext;
+        this.options = options;
+        try {
+            this.channel = FileChannel.open(
+                    file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            load(file);
+        } catch (IOException e) {
+            throw new FlowableException("Could not open model store " + file, e);
+        }
+    }
+
+    private ByteBuffer read(final long position, final int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                return null;
+            }
+        }
+        return buffer.flip();
+    }
+
+    private void load(final Path file) throws IOException {
+        size = channel.size();
+
+        ByteBuffer expected = header();
+        ByteBuffer actual = size < expected.remaining() ? null : read(0, expected.remaining());
+        if (!expected.equals(actual)) {
+            if (size > 0) {
+                LOG.info("Discarding model store {}, written by a different converter version", file);
+            }
+            channel.truncate(0);
+            channel.write(expected, 0);
+            size = channel.size();
+            return;
+        }
+
+        // entry: id length, id, payload length, payload
+        long position = expected.capacity();
+        while (position + Integer.BYTES <= size) {
+            int idLength = read(position, Integer.BYTES).getInt();
+            long payloadOffset = position + Integer.BYTES + idLength + Integer.BYTES;
+            if (idLength < 0 || payloadOffset > size) {
+                break;
+            }
+            int payloadLength = read(payloadOffset - Integer.BYTES, Integer.BYTES).getInt();
+            if (payloadLength < 0 || payloadOffset + payloadLength > size) {
+                break;
+            }
+
+            ByteBuffer id = read(position + Integer.BYTES, idLength);
+            index.put(StandardCharsets.UTF_8.decode(id).toString(), new Entry(payloadOffset, payloadLength));
+
+            position = payloadOffset + payloadLength;
+        }
+
+        if (position < size) {
+            LOG.warn("Truncating model store {} after incomplete entry at {}", file, position);
+            channel.truncate(position);
+            size = position;
+        }
+    }
+
+    public Set<String> ids() {
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    public boolean contains(final String id) {
+        return index.containsKey(id);
+    }
+
+    /**
+     * Converts and appends the given editor model, superseding any previous entry for the same id.
+     *
+     * @param id model id
+     * @param modelNode editor model
+     * @return converted model
+     */
+    public BpmnModel put(final String id, final JsonNode modelNode) {
+        BpmnModel model = converter.convertToBpmnModel(modelNode, converterContext, options);
+        put(id, model);
+        return model;
+    }
+
+    /**
+     * Appends the given model, superseding any previous entry for the same id.
+     *
+     * @param id model id
+     * @param model converted model
+     */
+    public void put(final String id, final BpmnModel model) {
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        byte[] payload = new BpmnXMLConverter().convertToXML(model);
+        if ((long) idBytes.length + payload.length > MAX_ENTRY_BYTES) {
+            throw new FlowableException("Model " + id + " is too large to be stored: " + payload.length + " bytes");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 2 + idBytes.length + payload.length);
+        buffer.putInt(idBytes.length).put(idBytes).putInt(payload.length).put(payload).flip();
+
+        Entry entry;
+        synchronized (this) {
+            try {
+                long offset = size;
+                while (buffer.hasRemaining()) {
+                    offset += channel.write(buffer, offset);
+                }
+            } catch (IOException e) {
+                throw new FlowableException("Could not store model " + id, e);
+            }
+
+            entry = new Entry(size + Integer.BYTES * 2 + idBytes.length, payload.length);
+            size += buffer.limit();
+            index.put(id, entry);
+        }
+        models.put(id, new Cached(entry, model));
+    }
+
+    private BpmnModel decode(final Entry entry) {
+        ByteBuffer payload;
+        try {
+            payload = channel.map(FileChannel.MapMode.READ_ONLY, entry.offset(), entry.length());
+        } catch (IOException e) {
+            throw new FlowableException("Could not map model store", e);
+        }
+        return BpmnXmlToJsonPipeline.read(new ByteBufferInputStream(payload));
+    }
+
+    /**
+     * @param id model id
+     * @return stored model, read on first access; {@code null} if not stored
+     */
+    public BpmnModel get(final String id) {
+        Entry entry = index.get(id);
+        if (entry == null) {
+            return null;
+        }
+
+        Cached cached = models.get(id);
+        if (cached != null && cached.entry().equals(entry)) {
+            return cached.model();
+        }
+
+        // read outside of any lock; concurrent readers of the same entry may both read it, the last one is kept
+        BpmnModel model = decode(entry);
+        models.compute(id, (k, current) -> current != null && !entry.equals(index.get(id))
+                ? current
+                : new Cached(entry, model));
+        return model;
+    }
+
+    /**
+     * @param id model id
+     * @param source editor model to convert and store if none is available for the given id, as not stored yet or
+     * stale
+     * @return stored model, read on first access
+     */
+    public BpmnModel get(final String id, final Supplier<JsonNode> source) {
+        BpmnModel model = get(id);
+        return model == null ? put(id, source.get()) : model;
+    }
+
+    @Override
+    public void close() throws IOException {
+        models.clear();
+        channel.close();
+    }
+}
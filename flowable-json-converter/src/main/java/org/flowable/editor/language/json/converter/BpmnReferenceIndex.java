@@ -0,0 +1,424 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.editor.constants.EditorJsonConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.StreamReadFeature;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * Inverted index from referenced forms, decisions and called processes to the ids of the editor models referencing
+ * them, for impact analysis without scanning all models.
+ * <p>
+ * References are extracted by a streaming pass over each saved model, matching the same properties as
+ * {@link BpmnJsonReferenceRewriter}; the index is kept in memory and persisted as an append-only file of per-model
+ * entries, replayed when opening and rewritten by {@link #compact()}.
+ */
+public class BpmnReferenceIndex implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BpmnReferenceIndex.class);
+
+    private static final int MAGIC = 0x42524931;
+
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Reference count of the entries recording model removal.
+     */
+    private static final int REMOVED = -1;
+
+    private static final BpmnJsonReferenceRewriter.ReferenceType[] TYPES =
+            BpmnJsonReferenceRewriter.ReferenceType.values();
+
+    /**
+     * Reference from an editor model.
+     *
+     * @param type reference type
+     * @param key whether value is the key of the referenced model, rather than its id
+     * @param value referenced id or key
+     */
+    public record Reference(BpmnJsonReferenceRewriter.ReferenceType type, boolean key, String value) {
+    }
+
+    private static ByteBuffer header() {
+        return ByteBuffer.allocate(Integer.BYTES * 2).putInt(MAGIC).putInt(FORMAT_VERSION).flip();
+    }
+
+    private static ByteBuffer entry(final String modelId, final Set<Reference> references) {
+        byte[] idBytes = modelId.getBytes(StandardCharsets.UTF_8);
+        byte[][] values = new byte[references == null ? 0 : references.size()][];
+        int length = Integer.BYTES * 2 + idBytes.length;
+        int i = 0;
+        if (references != null) {
+            for (Reference reference : references) {
+                values[i] = reference.value().getBytes(StandardCharsets.UTF_8);
+                length += 2 + Integer.BYTES + values[i].length;
+                i++;
+            }
+        }
+
+        // entry: id length, id, reference count; for each reference: type, key flag, value length, value
+        ByteBuffer entry = ByteBuffer.allocate(length);
+        entry.putInt(idBytes.length).put(idBytes).putInt(references == null ? REMOVED : references.size());
+        i = 0;
+        if (references != null) {
+            for (Reference reference : references) {
+                entry.put((byte) reference.type().ordinal()).put((byte) (reference.key() ? 1 : 0)).
+                        putInt(values[i].length).put(values[i]);
+                i++;
+            }
+        }
+        return entry.flip();
+    }
+
+    private final Path file;
+
+    private final ObjectReader reader;
+
+    private final Map<Reference, Set<String>> index = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<Reference>> referencesByModel = new ConcurrentHashMap<>();
+
+    private FileChannel channel;
+
+    private long size;
+
+    /**
+     * @param file index file, created if missing
+     * @param format encoding of the editor models given to {@link #update(String, InputStream)}
+     */
+    public BpmnReferenceIndex(final Path file, final BpmnJsonConverterOptions.EditorFormat format) {
+        this.file = file;
+        this.reader = BpmnJsonConverterUtil.mapper(format).reader().without(StreamReadFeature.AUTO_CLOSE_SOURCE);
+        try {
+            this.channel = FileChannel.open(
+                    file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            load();
+        } catch (IOException e) {
+            throw new FlowableException("Could not open reference index " + file, e);
+        }
+    }
+
+    public BpmnReferenceIndex(final Path file) {
+        this(file, BpmnJsonConverterOptions.EditorFormat.JSON);
+    }
+
+    private void load() throws IOException {
+        size = channel.size();
+        ByteBuffer expected = header();
+        if (size == 0) {
+            channel.write(expected, 0);
+            size = channel.size();
+            return;
+        }
+
+        ByteBuffer actual = ByteBuffer.allocate(expected.remaining());
+        while (actual.hasRemaining()) {
+            if (channel.read(actual, actual.position()) < 0) {
+                break;
+            }
+        }
+        if (!actual.flip().equals(expected)) {
+            throw new FlowableException("Not a reference index, or written with a different format: " + file);
+        }
+
+        // not closed, as it would close the channel; entries are checked against size before reading
+        long position = expected.remaining();
+        DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Channels.newInputStream(channel.position(position))));
+        while (position < size) {
+            long next = replay(in, position);
+            if (next < 0) {
+                break;
+            }
+            position = next;
+        }
+
+        if (position < size) {
+            LOG.warn("Truncating reference index {} after incomplete entry at {}", file, position);
+            channel.truncate(position);
+            size = position;
+        }
+    }
+
+    /**
+     * @param in stream positioned at the given start
+     * @return position after the entry read, or {@code -1} if the entry is incomplete
+     */
+    private long replay(final DataInputStream in, final long start) throws IOException {
+        long position = start;
+        if (position + Integer.BYTES > size) {
+            return -1;
+        }
+        int idLength = in.readInt();
+        position += Integer.BYTES;
+        if (idLength < 0 || position + idLength + Integer.BYTES > size) {
+            return -1;
+        }
+        byte[] idBytes = new byte[idLength];
+        in.readFully(idBytes);
+        position += idLength;
+        int count = in.readInt();
+        position += Integer.BYTES;
+        if (count < REMOVED) {
+            return -1;
+        }
+
+        Set<Reference> references = count == REMOVED ? null : new HashSet<>(count);
+        for (int i = 0; i < count; i++) {
+            if (position + 2 + Integer.BYTES > size) {
+                return -1;
+            }
+            int type = in.readByte();
+            boolean key = in.readByte() == 1;
+            int valueLength = in.readInt();
+            position += 2 + Integer.BYTES;
+            if (type < 0 || type >= TYPES.length || valueLength < 0 || position + valueLength > size) {
+                return -1;
+            }
+            byte[] value = new byte[valueLength];
+            in.readFully(value);
+            position += valueLength;
+            references.add(new Reference(TYPES[type], key, new String(value, StandardCharsets.UTF_8)));
+        }
+
+        apply(new String(idBytes, StandardCharsets.UTF_8), references);
+        return position;
+    }
+
+    private void apply(final String modelId, final Set<Reference> references) {
+        Set<Reference> previous = references == null
+                ? referencesByModel.remove(modelId)
+                : referencesByModel.put(modelId, references);
+        if (previous != null) {
+            for (Reference reference : previous) {
+                index.computeIfPresent(reference, (k, modelIds) -> {
+                    modelIds.remove(modelId);
+                    return modelIds.isEmpty() ? null : modelIds;
+                });
+            }
+        }
+        if (references != null) {
+            for (Reference reference : references) {
+                index.computeIfAbsent(reference, k -> ConcurrentHashMap.newKeySet()).add(modelId);
+            }
+        }
+    }
+
+    private void append(final String modelId, final Set<Reference> references) {
+        ByteBuffer entry = entry(modelId, references);
+        try {
+            long offset = size;
+            while (entry.hasRemaining()) {
+                offset += channel.write(entry, offset);
+            }
+        } catch (IOException e) {
+            throw new FlowableException("Could not index model " + modelId, e);
+        }
+        size += entry.limit();
+    }
+
+    /**
+     * @param json editor model, encoded as per the format given at construction, not closed
+     * @return references found in the given editor model
+     */
+    public Set<Reference> extract(final InputStream json) {
+        Set<Reference> references = new HashSet<>();
+        try (JsonParser parser = reader.createParser(json)) {
+            // as the called element type can come after the called element, the latter is held until the type is
+            // found or the next properties object starts
+            String calledElementType = null;
+            String calledElement = null;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_OBJECT && EditorJsonConstants.EDITOR_SHAPE_PROPERTIES.equals(
+                        parser.currentName())) {
+
+                    addCalledElement(references, calledElement, calledElementType);
+                    calledElementType = null;
+                    calledElement = null;
+                } else if (token == JsonToken.VALUE_STRING) {
+                    if (BpmnJsonReferenceRewriter.isCalledElementType(parser)) {
+                        calledElementType = parser.getString();
+                        addCalledElement(references, calledElement, calledElementType);
+                        calledElement = null;
+                        continue;
+                    }
+
+                    BpmnJsonReferenceRewriter.ReferenceField field = BpmnJsonReferenceRewriter.referenceField(parser);
+                    if (field != null && !parser.getString().isEmpty()) {
+                        if (field.type() != BpmnJsonReferenceRewriter.ReferenceType.PROCESS) {
+                            references.add(new Reference(field.type(), field.key(), parser.getString()));
+                        } else if (calledElementType == null) {
+                            calledElement = parser.getString();
+                        } else {
+                            addCalledElement(references, parser.getString(), calledElementType);
+                        }
+                    }
+                }
+            }
+            addCalledElement(references, calledElement, calledElementType);
+        }
+        return references;
+    }
+
+    /**
+     * Called processes are referenced by key, unless the called element type says otherwise.
+     */
+    private static void addCalledElement(
+            final Set<Reference> references,
+            final String calledElement,
+            final String calledElementType) {
+
+        if (calledElement != null) {
+            references.add(new Reference(
+                    BpmnJsonReferenceRewriter.ReferenceType.PROCESS,
+                    !BpmnJsonReferenceRewriter.CALLED_ELEMENT_TYPE_ID.equals(calledElementType),
+                    calledElement));
+        }
+    }
+
+    /**
+     * Replaces the references indexed for the given model with the ones found in its editor model, as just saved.
+     *
+     * @param modelId model id
+     * @param json editor model, encoded as per the format given at construction, not closed
+     */
+    public void update(final String modelId, final InputStream json) {
+        Set<Reference> references = extract(json);
+        synchronized (this) {
+            if (!references.equals(referencesByModel.get(modelId))) {
+                append(modelId, references);
+                apply(modelId, references);
+            }
+        }
+    }
+
+    public void update(final String modelId, final byte[] json) {
+        update(modelId, new ByteArrayInputStream(json));
+    }
+
+    public synchronized void remove(final String modelId) {
+        if (referencesByModel.containsKey(modelId)) {
+            append(modelId, null);
+            apply(modelId, null);
+        }
+    }
+
+    /**
+     * @param type reference type
+     * @param id referenced model id
+     * @return ids of the models referencing the given one by id
+     */
+    public Set<String> findById(final BpmnJsonReferenceRewriter.ReferenceType type, final String id) {
+        return find(new Reference(type, false, id));
+    }
+
+    /**
+     * @param type reference type
+     * @param key referenced model key
+     * @return ids of the models referencing the given one by key
+     */
+    public Set<String> findByKey(final BpmnJsonReferenceRewriter.ReferenceType type, final String key) {
+        return find(new Reference(type, true, key));
+    }
+
+    private Set<String> find(final Reference reference) {
+        Set<String> modelIds = index.get(reference);
+        return modelIds == null ? Set.of() : Collections.unmodifiableSet(modelIds);
+    }
+
+    /**
+     * @param modelId model id
+     * @return references indexed for the given model
+     */
+    public Set<Reference> referencesOf(final String modelId) {
+        return Collections.unmodifiableSet(referencesByModel.getOrDefault(modelId, Set.of()));
+    }
+
+    public Set<String> modelIds() {
+        return Collections.unmodifiableSet(referencesByModel.keySet());
+    }
+
+    /**
+     * Rewrites the index file with a single entry per indexed model, dropping superseded and removal entries.
+     */
+    public synchronized void compact() {
+        Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+            ByteBuffer header = header();
+            while (header.hasRemaining()) {
+                out.write(header);
+            }
+            for (Map.Entry<String, Set<Reference>> model : referencesByModel.entrySet()) {
+                ByteBuffer entry = entry(model.getKey(), model.getValue());
+                while (entry.hasRemaining()) {
+                    out.write(entry);
+                }
+            }
+            out.force(true);
+        } catch (IOException e) {
+            throw new FlowableException("Could not compact reference index " + file, e);
+        }
+
+        try {
+            channel.close();
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new FlowableException("Could not replace reference index " + file, e);
+        } finally {
+            // either the compacted file or, if not moved, the previous one
+            reopen();
+        }
+    }
+
+    private void reopen() {
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            size = channel.size();
+        } catch (IOException e) {
+            throw new FlowableException("Could not reopen reference index " + file, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
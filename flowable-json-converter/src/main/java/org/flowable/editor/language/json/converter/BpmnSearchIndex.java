@@ -0,0 +1,338 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.editor.constants.EditorJsonConstants;
+import org.flowable.editor.constants.StencilConstants;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.StreamReadFeature;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * In-process inverted index over the searchable properties of a corpus of editor models: element names, service task
+ * implementations, scripts, sequence flow conditions and listener implementations.
+ * <p>
+ * Fields are extracted per shape by a single streaming pass over each model, without building a tree; values are
+ * split into lower-case terms, which can be looked up exactly or by prefix. Listeners stored as JSON-encoded strings
+ * are not looked into, use {@link BpmnJsonNormalizer} beforehand to have them indexed too. Instances are thread-safe.
+ */
+public class BpmnSearchIndex implements EditorJsonConstants, StencilConstants {
+
+    public enum Field {
+        NAME,
+        SERVICE_CLASS,
+        SERVICE_EXPRESSION,
+        DELEGATE_EXPRESSION,
+        SCRIPT,
+        CONDITION,
+        LISTENER_CLASS,
+        LISTENER_EXPRESSION,
+        LISTENER_DELEGATE_EXPRESSION
+    }
+
+    /**
+     * Element matching a search.
+     *
+     * @param modelId id of the model holding the element
+     * @param elementId element id, as per {@link BpmnJsonConverterUtil#getElementId(tools.jackson.databind.JsonNode)}
+     * @param stencilId element stencil
+     * @param field field matching the search
+     */
+    public record Hit(String modelId, String elementId, String stencilId, Field field) {
+    }
+
+    /**
+     * Fields by path under shape properties, array levels omitted.
+     */
+    private static final Map<String, Field> FIELDS = new HashMap<>();
+
+    static {
+        FIELDS.put(PROPERTY_NAME, Field.NAME);
+        FIELDS.put(PROPERTY_SERVICETASK_CLASS, Field.SERVICE_CLASS);
+        FIELDS.put(PROPERTY_SERVICETASK_EXPRESSION, Field.SERVICE_EXPRESSION);
+        FIELDS.put(PROPERTY_SERVICETASK_DELEGATE_EXPRESSION, Field.DELEGATE_EXPRESSION);
+        FIELDS.put(PROPERTY_SCRIPT_TEXT, Field.SCRIPT);
+        FIELDS.put(PROPERTY_SEQUENCEFLOW_CONDITION, Field.CONDITION);
+        FIELDS.put(PROPERTY_SEQUENCEFLOW_CONDITION + ".expression.staticValue", Field.CONDITION);
+
+        for (String listeners : List.of(
+                PROPERTY_EXECUTION_LISTENERS + ".executionListeners.",
+                PROPERTY_TASK_LISTENERS + ".taskListeners.")) {
+
+            FIELDS.put(listeners + PROPERTY_LISTENER_CLASS_NAME, Field.LISTENER_CLASS);
+            FIELDS.put(listeners + PROPERTY_LISTENER_EXPRESSION, Field.LISTENER_EXPRESSION);
+            FIELDS.put(listeners + PROPERTY_LISTENER_DELEGATE_EXPRESSION, Field.LISTENER_DELEGATE_EXPRESSION);
+        }
+        String eventListeners = PROPERTY_EVENT_LISTENERS + '.' + PROPERTY_EVENTLISTENER_VALUE + '.';
+        FIELDS.put(eventListeners + PROPERTY_EVENTLISTENER_CLASS_NAME, Field.LISTENER_CLASS);
+        FIELDS.put(eventListeners + PROPERTY_EVENTLISTENER_DELEGATE_EXPRESSION, Field.LISTENER_DELEGATE_EXPRESSION);
+    }
+
+    /**
+     * Shape being read, with its fields collected until its end, as resource and stencil ids may come last.
+     */
+    private static final class Shape {
+
+        private String resourceId;
+
+        private String overrideId;
+
+        private String stencilId;
+
+        private final Map<Field, List<String>> values = new EnumMap<>(Field.class);
+    }
+
+    /**
+     * Open object or array.
+     *
+     * @param name property name holding this container, {@code null} for array items and root
+     * @param array whether this container is an array
+     * @param shape shape this container is, or belongs to as stencil or properties, if any
+     * @param path path under shape properties, {@code null} if not within shape properties
+     */
+    private record Frame(String name, boolean array, Shape shape, String path) {
+
+        boolean isShape() {
+            return shape != null && path == null && !EDITOR_STENCIL.equals(name);
+        }
+    }
+
+    static List<String> terms(final String text) {
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean termChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (termChar && start < 0) {
+                start = i;
+            } else if (!termChar && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static String path(final String parentPath, final String name) {
+        if (name == null) {
+            return parentPath;
+        }
+        return parentPath.isEmpty() ? name : parentPath + '.' + name;
+    }
+
+    private final ObjectReader reader;
+
+    private final NavigableMap<String, Set<Hit>> index = new ConcurrentSkipListMap<>();
+
+    private final Map<String, Set<String>> termsByModel = new ConcurrentHashMap<>();
+
+    public BpmnSearchIndex() {
+        this(BpmnJsonConverterOptions.EditorFormat.JSON);
+    }
+
+    /**
+     * @param format encoding of the editor models given to {@link #update(String, InputStream)}
+     */
+    public BpmnSearchIndex(final BpmnJsonConverterOptions.EditorFormat format) {
+        this.reader = BpmnJsonConverterUtil.mapper(format).reader().without(StreamReadFeature.AUTO_CLOSE_SOURCE);
+    }
+
+    private static Frame open(final Frame parent, final String name, final boolean array) {
+        if (parent == null) {
+            return new Frame(name, array, array ? null : new Shape(), null);
+        }
+        if (parent.path() != null) {
+            return new Frame(name, array, parent.shape(), path(parent.path(), name));
+        }
+        if (!array && parent.array() && EDITOR_CHILD_SHAPES.equals(parent.name())) {
+            return new Frame(name, false, new Shape(), null);
+        }
+        if (!array && parent.isShape() && EDITOR_SHAPE_PROPERTIES.equals(name)) {
+            return new Frame(name, false, parent.shape(), "");
+        }
+        if (!array && parent.isShape() && EDITOR_STENCIL.equals(name)) {
+            return new Frame(name, false, parent.shape(), null);
+        }
+        return new Frame(name, array, null, null);
+    }
+
+    private static void read(final Frame frame, final String name, final String value) {
+        if (frame.path() != null) {
+            String path = path(frame.path(), name);
+            if (PROPERTY_OVERRIDE_ID.equals(path)) {
+                frame.shape().overrideId = value;
+                return;
+            }
+
+            Field field = FIELDS.get(path);
+            if (field != null) {
+                frame.shape().values.computeIfAbsent(field, k -> new ArrayList<>()).add(value);
+            }
+        } else if (frame.shape() != null) {
+            if (EDITOR_STENCIL.equals(frame.name()) && EDITOR_STENCIL_ID.equals(name)) {
+                frame.shape().stencilId = value;
+            } else if (frame.isShape() && EDITOR_SHAPE_ID.equals(name)) {
+                frame.shape().resourceId = value;
+            }
+        }
+    }
+
+    private static void collect(final String modelId, final Shape shape, final Map<String, Set<Hit>> hits) {
+        String elementId = StringUtils.isNotEmpty(shape.overrideId) ? shape.overrideId.trim() : shape.resourceId;
+        shape.values.forEach((field, values) -> {
+            Hit hit = new Hit(modelId, elementId, shape.stencilId, field);
+            values.forEach(value -> terms(value).forEach(term -> hits.computeIfAbsent(term, k -> new HashSet<>()).
+                    add(hit)));
+        });
+    }
+
+    /**
+     * @param modelId model id
+     * @param json editor model, encoded as per the format given at construction, not closed
+     * @return hits by term for the given model
+     */
+    private Map<String, Set<Hit>> extract(final String modelId, final InputStream json) {
+        Map<String, Set<Hit>> hits = new HashMap<>();
+        Deque<Frame> stack = new ArrayDeque<>();
+        try (JsonParser parser = reader.createParser(json)) {
+            String name = null;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.PROPERTY_NAME) {
+                    name = parser.currentName();
+                } else if (token.isStructStart()) {
+                    Frame parent = stack.peek();
+                    String containerName = parent == null || parent.array() ? null : name;
+                    stack.push(open(parent, containerName, token == JsonToken.START_ARRAY));
+                } else if (token.isStructEnd()) {
+                    Frame frame = stack.pop();
+                    if (frame.isShape()) {
+                        collect(modelId, frame.shape(), hits);
+                    }
+                } else if (token == JsonToken.VALUE_STRING && !stack.isEmpty()) {
+                    Frame frame = stack.peek();
+                    read(frame, frame.array() ? null : name, parser.getString());
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Replaces what was indexed for the given model with the fields found in its editor model, as just saved.
+     *
+     * @param modelId model id
+     * @param json editor model, encoded as per the format given at construction, not closed
+     */
+    public void update(final String modelId, final InputStream json) {
+        Map<String, Set<Hit>> hits = extract(modelId, json);
+        synchronized (this) {
+            remove(modelId);
+            hits.forEach((term, termHits) -> index.computeIfAbsent(term, k -> ConcurrentHashMap.newKeySet()).
+                    addAll(termHits));
+            termsByModel.put(modelId, Set.copyOf(hits.keySet()));
+        }
+    }
+
+    public void update(final String modelId, final byte[] json) {
+        update(modelId, new ByteArrayInputStream(json));
+    }
+
+    public synchronized void remove(final String modelId) {
+        Set<String> terms = termsByModel.remove(modelId);
+        if (terms != null) {
+            terms.forEach(term -> index.computeIfPresent(term, (k, hits) -> {
+                hits.removeIf(hit -> hit.modelId().equals(modelId));
+                return hits.isEmpty() ? null : hits;
+            }));
+        }
+    }
+
+    private static Set<Hit> filter(final Collection<Hit> hits, final Field... fields) {
+        Set<Hit> result = new HashSet<>();
+        Set<Field> allowed = fields.length == 0 ? EnumSet.allOf(Field.class) : EnumSet.copyOf(Arrays.asList(fields));
+        for (Hit hit : hits) {
+            if (allowed.contains(hit.field())) {
+                result.add(hit);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param term term to look up, case-insensitive
+     * @param fields fields to consider; all if none given
+     * @return elements holding the given term
+     */
+    public Set<Hit> term(final String term, final Field... fields) {
+        Set<Hit> hits = index.get(term.toLowerCase(Locale.ROOT));
+        return hits == null ? Set.of() : filter(hits, fields);
+    }
+
+    /**
+     * @param prefix term prefix to look up, case-insensitive
+     * @param fields fields to consider; all if none given
+     * @return elements holding any term starting with the given prefix
+     */
+    public Set<Hit> prefix(final String prefix, final Field... fields) {
+        String from = prefix.toLowerCase(Locale.ROOT);
+        List<Hit> hits = new ArrayList<>();
+        index.subMap(from, true, from + Character.MAX_VALUE, false).values().forEach(hits::addAll);
+        return filter(hits, fields);
+    }
+
+    /**
+     * @param text text to search, split into terms as indexed values are
+     * @param fields fields to consider; all if none given
+     * @return elements holding all the terms of the given text, each in the same field
+     */
+    public Set<Hit> search(final String text, final Field... fields) {
+        Set<Hit> result = null;
+        for (String term : terms(text)) {
+            Set<Hit> hits = term(term, fields);
+            if (result == null) {
+                result = hits;
+            } else {
+                result.retainAll(hits);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result == null ? Set.of() : result;
+    }
+
+    public Set<String> modelIds() {
+        return Collections.unmodifiableSet(termsByModel.keySet());
+    }
+}
@@ -0,0 +1,219 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.flowable.bpmn.model.Artifact;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowElementsContainer;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SubProcess;
+
+/**
+ * Uniform grid over the shape bounds and flow waypoints of a {@link BpmnModel}, for finding quickly which elements
+ * intersect a given rectangle; flows are indexed segment by segment.
+ * Elements nested in collapsed sub-processes are not indexed, as their coordinates refer to the canvas of the
+ * collapsed sub-process rather than to the diagram; they are reachable via {@link #getCollapsedContent(String)}.
+ * The index is a snapshot: it needs to be rebuilt when the diagram interchange information of the model changes.
+ */
+public class BpmnSpatialIndex {
+
+    public static final double DEFAULT_CELL_SIZE = 512.0;
+
+    private record Scope(FlowElementsContainer container, String collapsedSubProcessId) {
+    }
+
+    private record Entry(String id, double minX, double minY, double maxX, double maxY) {
+
+        boolean intersects(final double x1, final double y1, final double x2, final double y2) {
+            return minX <= x2 && maxX >= x1 && minY <= y2 && maxY >= y1;
+        }
+    }
+
+    private static long cellKey(final int cellX, final int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xffffffffL);
+    }
+
+    private final double cellSize;
+
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+
+    /**
+     * Ids of the elements nested in each collapsed sub-process, at any depth.
+     */
+    private final Map<String, Set<String>> collapsedContent = new HashMap<>();
+
+    private int minCellX = Integer.MAX_VALUE;
+
+    private int minCellY = Integer.MAX_VALUE;
+
+    private int maxCellX = Integer.MIN_VALUE;
+
+    private int maxCellY = Integer.MIN_VALUE;
+
+    public BpmnSpatialIndex(final BpmnModel model) {
+        this(model, DEFAULT_CELL_SIZE);
+    }
+
+    public BpmnSpatialIndex(final BpmnModel model, final double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+
+        Set<String> hidden = collectCollapsedContent(model);
+
+        model.getLocationMap().forEach((id, graphicInfo) -> {
+            if (!hidden.contains(id)) {
+                add(new Entry(
+                        id,
+                        graphicInfo.getX(),
+                        graphicInfo.getY(),
+                        graphicInfo.getX() + graphicInfo.getWidth(),
+                        graphicInfo.getY() + graphicInfo.getHeight()));
+            }
+        });
+
+        model.getFlowLocationMap().forEach((id, waypoints) -> {
+            if (hidden.contains(id)) {
+                return;
+            }
+            for (int i = 0; i < waypoints.size() - 1; i++) {
+                GraphicInfo from = waypoints.get(i);
+                GraphicInfo to = waypoints.get(i + 1);
+                add(new Entry(
+                        id,
+                        Math.min(from.getX(), to.getX()),
+                        Math.min(from.getY(), to.getY()),
+                        Math.max(from.getX(), to.getX()),
+                        Math.max(from.getY(), to.getY())));
+            }
+        });
+    }
+
+    private static boolean isCollapsed(final BpmnModel model, final SubProcess subProcess) {
+        GraphicInfo graphicInfo = model.getGraphicInfo(subProcess.getId());
+        return graphicInfo != null && Boolean.FALSE.equals(graphicInfo.getExpanded());
+    }
+
+    /**
+     * Walks all containers, registering the content of each collapsed sub-process under the outermost collapsed one.
+     *
+     * @return ids of all elements nested in collapsed sub-processes
+     */
+    private Set<String> collectCollapsedContent(final BpmnModel model) {
+        Set<String> hidden = new HashSet<>();
+        Deque<Scope> stack = new ArrayDeque<>();
+        for (Process process : model.getProcesses()) {
+            stack.push(new Scope(process, null));
+        }
+
+        while (!stack.isEmpty()) {
+            Scope scope = stack.pop();
+            Set<String> content = scope.collapsedSubProcessId() == null
+                    ? null
+                    : collapsedContent.computeIfAbsent(scope.collapsedSubProcessId(), k -> new HashSet<>());
+
+            for (FlowElement flowElement : scope.container().getFlowElements()) {
+                if (content != null) {
+                    content.add(flowElement.getId());
+                }
+                if (flowElement instanceof SubProcess subProcess) {
+                    stack.push(new Scope(subProcess, scope.collapsedSubProcessId() == null
+                            && isCollapsed(model, subProcess) ? subProcess.getId() : scope.collapsedSubProcessId()));
+                }
+            }
+            if (content != null) {
+                for (Artifact artifact : scope.container().getArtifacts()) {
+                    content.add(artifact.getId());
+                }
+            }
+        }
+
+        collapsedContent.values().forEach(hidden::addAll);
+        return hidden;
+    }
+
+    /**
+     * @param subProcessId collapsed sub-process id
+     * @return ids of the elements nested in the given sub-process, at any depth, if collapsed; empty otherwise
+     */
+    public Set<String> getCollapsedContent(final String subProcessId) {
+        return collapsedContent.getOrDefault(subProcessId, Set.of());
+    }
+
+    private int cell(final double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private void add(final Entry entry) {
+        minCellX = Math.min(minCellX, cell(entry.minX()));
+        minCellY = Math.min(minCellY, cell(entry.minY()));
+        maxCellX = Math.max(maxCellX, cell(entry.maxX()));
+        maxCellY = Math.max(maxCellY, cell(entry.maxY()));
+
+        for (int cellX = cell(entry.minX()); cellX <= cell(entry.maxX()); cellX++) {
+            for (int cellY = cell(entry.minY()); cellY <= cell(entry.maxY()); cellY++) {
+                cells.computeIfAbsent(cellKey(cellX, cellY), k -> new ArrayList<>()).add(entry);
+            }
+        }
+    }
+
+    /**
+     * @param viewport rectangle, in absolute diagram coordinates
+     * @return ids of shapes and flows intersecting the given rectangle
+     */
+    public Set<String> query(final GraphicInfo viewport) {
+        return query(viewport.getX(), viewport.getY(), viewport.getWidth(), viewport.getHeight());
+    }
+
+    /**
+     * @param x left of the rectangle, in absolute diagram coordinates
+     * @param y top of the rectangle, in absolute diagram coordinates
+     * @param width width of the rectangle
+     * @param height height of the rectangle
+     * @return ids of shapes and flows intersecting the given rectangle
+     */
+    public Set<String> query(final double x, final double y, final double width, final double height) {
+        double maxX = x + width;
+        double maxY = y + height;
+
+        // only scan the cells actually populated, whatever the size of the rectangle
+        Set<String> result = new LinkedHashSet<>();
+        int toCellX = Math.min(cell(maxX), maxCellX);
+        int toCellY = Math.min(cell(maxY), maxCellY);
+        for (int cellX = Math.max(cell(x), minCellX); cellX <= toCellX; cellX++) {
+            for (int cellY = Math.max(cell(y), minCellY); cellY <= toCellY; cellY++) {
+                List<Entry> entries = cells.get(cellKey(cellX, cellY));
+                if (entries != null) {
+                    for (Entry entry : entries) {
+                        if (entry.intersects(x, y, maxX, maxY)) {
+                            result.add(entry.id());
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.api.FlowableException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * Converts BPMN 2.0 XML to editor JSON written to an output stream, as needed to open a deployed definition in the
+ * modeler: XML is read via StAX into a {@link BpmnModel}, which the stencil converters need, then the editor model is
+ * written by a generator of the shared mapper for {@link BpmnJsonConverterOptions#getEditorFormat()} as it is
+ * produced, via {@link BpmnJsonConverter#writeJson}; for models without pools, the editor model tree is never built as
+ * a whole, only one top-level shape at a time.
+ * <p>
+ * Instances are thread-safe, provided that the given converter context is.
+ */
+public class BpmnXmlToJsonPipeline {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = xmlInputFactory();
+
+    private static XMLInputFactory xmlInputFactory() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
+
+    private final BpmnJsonConverter converter;
+
+    private final BpmnJsonConverterContext converterContext;
+
+    private final BpmnJsonConverterOptions options;
+
+    private final ObjectWriter writer;
+
+    public BpmnXmlToJsonPipeline(
+            final BpmnJsonConverter converter,
+            final BpmnJsonConverterContext converterContext,
+            final BpmnJsonConverterOptions options) {
+
+        this.converter = converter;
+        this.converterContext = converterContext;
+        this.options = options;
+        this.writer = BpmnJsonConverterUtil.mapper(options.getEditorFormat()).writer().
+                without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * @param xml BPMN 2.0 XML, not closed
+     * @return BPMN model
+     */
+    static BpmnModel read(final InputStream xml) {
+        XMLStreamReader xtr = null;
+        try {
+            xtr = XML_INPUT_FACTORY.createXMLStreamReader(xml);
+            return new BpmnXMLConverter().convertToBpmnModel(xtr);
+        } catch (XMLStreamException e) {
+            throw new FlowableException("Could not read BPMN XML", e);
+        } finally {
+            if (xtr != null) {
+                try {
+                    xtr.close();
+                } catch (XMLStreamException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    /**
+     * @param xml BPMN 2.0 XML, not closed
+     * @param out where editor model is written, flushed but not closed
+     */
+    public void convert(final InputStream xml, final OutputStream out) {
+        BpmnModel model = read(xml);
+        try (JsonGenerator generator = writer.createGenerator(out)) {
+            converter.writeJson(model, converterContext, options, generator);
+        }
+    }
+
+    /**
+     * @param xml BPMN 2.0 XML
+     * @param out where editor model is written, flushed but not closed
+     */
+    public void convert(final byte[] xml, final OutputStream out) {
+        convert(new ByteArrayInputStream(xml), out);
+    }
+}
@@ -12,9 +12,6 @@
  */
 package org.flowable.editor.language.json.converter;
 
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsBoolean;
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsList;
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsString;
 
 import java.util.Map;
 import org.flowable.bpmn.model.BaseElement;
@@ -77,11 +74,11 @@ public class BusinessRuleTaskJsonConverter extends BaseBpmnJsonConverter {
             final BpmnJsonConverterContext converterContext) {
 
         BusinessRuleTask task = new BusinessRuleTask();
-        task.setClassName(getPropertyValueAsString(PROPERTY_RULETASK_CLASS, elementNode));
-        task.setInputVariables(getPropertyValueAsList(PROPERTY_RULETASK_VARIABLES_INPUT, elementNode));
-        task.setResultVariableName(getPropertyValueAsString(PROPERTY_RULETASK_RESULT, elementNode));
-        task.setRuleNames(getPropertyValueAsList(PROPERTY_RULETASK_RULES, elementNode));
-        task.setExclude(getPropertyValueAsBoolean(PROPERTY_RULETASK_EXCLUDE, elementNode));
+        task.setClassName(shape(elementNode).getString(PROPERTY_RULETASK_CLASS));
+        task.setInputVariables(shape(elementNode).getList(PROPERTY_RULETASK_VARIABLES_INPUT));
+        task.setResultVariableName(shape(elementNode).getString(PROPERTY_RULETASK_RESULT));
+        task.setRuleNames(shape(elementNode).getList(PROPERTY_RULETASK_RULES));
+        task.setExclude(shape(elementNode).getBoolean(PROPERTY_RULETASK_EXCLUDE));
         return task;
     }
 }
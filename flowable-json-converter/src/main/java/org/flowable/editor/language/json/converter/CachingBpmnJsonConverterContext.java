@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Converter context memoizing the lookups of a delegate context, so that forms, decisions and processes shared by
+ * several models are resolved once; meant to span a single batch of conversions, as changes to the referenced models
+ * are not seen afterwards. Instances are thread-safe, provided that the delegate context is.
+ */
+public class CachingBpmnJsonConverterContext implements BpmnJsonConverterContext {
+
+    private final BpmnJsonConverterContext delegate;
+
+    private final Map<String, CompletableFuture<Optional<Object>>> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder lookups = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    public CachingBpmnJsonConverterContext(final BpmnJsonConverterContext delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * The delegate context is invoked outside of any map operation, as it may be slow - typically querying the model
+     * repository - or even look up through this context; concurrent lookups of the same value wait for the first one
+     * instead of invoking the delegate again. Failed lookups are not memoized.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T lookup(final String kind, final String value, final Function<String, T> resolver) {
+        lookups.increment();
+
+        String key = kind + ':' + value;
+        CompletableFuture<Optional<Object>> cached = cache.get(key);
+        if (cached == null) {
+            CompletableFuture<Optional<Object>> resolving = new CompletableFuture<>();
+            cached = cache.putIfAbsent(key, resolving);
+            if (cached == null) {
+                misses.increment();
+                try {
+                    resolving.complete(Optional.ofNullable(resolver.apply(value)));
+                } catch (RuntimeException | Error e) {
+                    cache.remove(key, resolving);
+                    resolving.completeExceptionally(e);
+                    throw e;
+                }
+                cached = resolving;
+            }
+        }
+
+        try {
+            return (T) cached.join().orElse(null);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return lookups performed so far
+     */
+    public long getLookups() {
+        return lookups.sum();
+    }
+
+    /**
+     * @return lookups performed so far which were forwarded to the delegate context
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public String getFormModelKeyForFormModelId(final String formModelId) {
+        return lookup("formKey", formModelId, delegate::getFormModelKeyForFormModelId);
+    }
+
+    @Override
+    public Map<String, String> getFormModelInfoForFormModelKey(final String formModelKey) {
+        return lookup("formInfo", formModelKey, delegate::getFormModelInfoForFormModelKey);
+    }
+
+    @Override
+    public String getProcessModelKeyForProcessModelId(final String processModelId) {
+        return lookup("processKey", processModelId, delegate::getProcessModelKeyForProcessModelId);
+    }
+
+    @Override
+    public Map<String, String> getProcessModelInfoForProcessModelKey(final String processModelKey) {
+        return lookup("processInfo", processModelKey, delegate::getProcessModelInfoForProcessModelKey);
+    }
+
+    @Override
+    public String getDecisionTableModelKeyForDecisionTableModelId(final String decisionTableModelId) {
+        return lookup("decisionTableKey", decisionTableModelId,
+                delegate::getDecisionTableModelKeyForDecisionTableModelId);
+    }
+
+    @Override
+    public Map<String, String> getDecisionTableModelInfoForDecisionTableModelKey(final String decisionTableModelKey) {
+        return lookup("decisionTableInfo", decisionTableModelKey,
+                delegate::getDecisionTableModelInfoForDecisionTableModelKey);
+    }
+
+    @Override
+    public String getDecisionServiceModelKeyForDecisionServiceModelId(final String decisionServiceModelId) {
+        return lookup("decisionServiceKey", decisionServiceModelId,
+                delegate::getDecisionServiceModelKeyForDecisionServiceModelId);
+    }
+
+    @Override
+    public Map<String, String> getDecisionServiceModelInfoForDecisionServiceModelKey(
+            final String decisionServiceModelKey) {
+
+        return lookup("decisionServiceInfo", decisionServiceModelKey,
+                delegate::getDecisionServiceModelInfoForDecisionServiceModelKey);
+    }
+}
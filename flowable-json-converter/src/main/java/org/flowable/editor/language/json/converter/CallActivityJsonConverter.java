@@ -14,7 +14,6 @@ package org.flowable.editor.language.json.converter;
 
 import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getProperty;
 import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsBoolean;
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsString;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -156,53 +155,53 @@ public class CallActivityJsonConverter extends BaseBpmnJsonConverter {
             final BpmnJsonConverterContext converterContext) {
 
         CallActivity callActivity = new CallActivity();
-        if (StringUtils.isNotEmpty(getPropertyValueAsString(PROPERTY_CALLACTIVITY_CALLEDELEMENT, elementNode))) {
-            callActivity.setCalledElement(getPropertyValueAsString(PROPERTY_CALLACTIVITY_CALLEDELEMENT, elementNode));
+        if (StringUtils.isNotEmpty(shape(elementNode).getString(PROPERTY_CALLACTIVITY_CALLEDELEMENT))) {
+            callActivity.setCalledElement(shape(elementNode).getString(PROPERTY_CALLACTIVITY_CALLEDELEMENT));
         }
 
-        if (StringUtils.isNotEmpty(getPropertyValueAsString(PROPERTY_CALLACTIVITY_CALLEDELEMENTTYPE, elementNode))) {
+        if (StringUtils.isNotEmpty(shape(elementNode).getString(PROPERTY_CALLACTIVITY_CALLEDELEMENTTYPE))) {
             callActivity.setCalledElementType(
-                    getPropertyValueAsString(PROPERTY_CALLACTIVITY_CALLEDELEMENTTYPE, elementNode));
+                    shape(elementNode).getString(PROPERTY_CALLACTIVITY_CALLEDELEMENTTYPE));
         }
 
-        if (getPropertyValueAsBoolean(PROPERTY_CALLACTIVITY_INHERIT_VARIABLES, elementNode)) {
+        if (shape(elementNode).getBoolean(PROPERTY_CALLACTIVITY_INHERIT_VARIABLES)) {
             callActivity.setInheritVariables(true);
         }
 
-        if (getPropertyValueAsBoolean(PROPERTY_CALLACTIVITY_SAME_DEPLOYMENT, elementNode)) {
+        if (shape(elementNode).getBoolean(PROPERTY_CALLACTIVITY_SAME_DEPLOYMENT)) {
             callActivity.setSameDeployment(true);
         }
 
-        String processInstanceName = getPropertyValueAsString(PROPERTY_CALLACTIVITY_PROCESS_INSTANCE_NAME, elementNode);
+        String processInstanceName = shape(elementNode).getString(PROPERTY_CALLACTIVITY_PROCESS_INSTANCE_NAME);
         if (StringUtils.isNotEmpty(processInstanceName)) {
             callActivity.setProcessInstanceName(processInstanceName);
         }
 
-        String businessKey = getPropertyValueAsString(PROPERTY_CALLACTIVITY_BUSINESS_KEY, elementNode);
+        String businessKey = shape(elementNode).getString(PROPERTY_CALLACTIVITY_BUSINESS_KEY);
         if (StringUtils.isNotEmpty(businessKey)) {
             callActivity.setBusinessKey(businessKey);
         }
 
-        if (getPropertyValueAsBoolean(PROPERTY_CALLACTIVITY_INHERIT_BUSINESS_KEY, elementNode)) {
+        if (shape(elementNode).getBoolean(PROPERTY_CALLACTIVITY_INHERIT_BUSINESS_KEY)) {
             callActivity.setInheritBusinessKey(true);
         }
 
-        if (getPropertyValueAsBoolean(PROPERTY_CALLACTIVITY_USE_LOCALSCOPE_FOR_OUTPARAMETERS, elementNode)) {
+        if (shape(elementNode).getBoolean(PROPERTY_CALLACTIVITY_USE_LOCALSCOPE_FOR_OUTPARAMETERS)) {
             callActivity.setUseLocalScopeForOutParameters(true);
         }
 
-        if (getPropertyValueAsBoolean(PROPERTY_CALLACTIVITY_COMPLETE_ASYNC, elementNode)) {
+        if (shape(elementNode).getBoolean(PROPERTY_CALLACTIVITY_COMPLETE_ASYNC)) {
             callActivity.setCompleteAsync(true);
         }
 
         if (StringUtils.isNotEmpty(
-                getPropertyValueAsString(PROPERTY_CALLACTIVITY_FALLBACK_TO_DEFAULT_TENANT, elementNode))) {
+                shape(elementNode).getString(PROPERTY_CALLACTIVITY_FALLBACK_TO_DEFAULT_TENANT))) {
 
             callActivity.setFallbackToDefaultTenant(getPropertyValueAsBoolean(
                     PROPERTY_CALLACTIVITY_FALLBACK_TO_DEFAULT_TENANT, elementNode));
         }
 
-        String idVariableName = getPropertyValueAsString(PROPERTY_CALLACTIVITY_ID_VARIABLE_NAME, elementNode);
+        String idVariableName = shape(elementNode).getString(PROPERTY_CALLACTIVITY_ID_VARIABLE_NAME);
         if (StringUtils.isNotEmpty(idVariableName)) {
             callActivity.setProcessInstanceIdVariableName(idVariableName);
         }
@@ -12,7 +12,6 @@
  */
 package org.flowable.editor.language.json.converter;
 
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getProperty;
 import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsBoolean;
 
 import java.util.Map;
@@ -78,7 +77,7 @@ public class DecisionTaskJsonConverter extends BaseBpmnJsonConverter {
 
         // when both decision table and decision service reference are present
         // decision services reference will prevail
-        JsonNode decisionTableReferenceNode = getProperty(PROPERTY_DECISIONTABLE_REFERENCE, elementNode);
+        JsonNode decisionTableReferenceNode = shape(elementNode).get(PROPERTY_DECISIONTABLE_REFERENCE);
         if (decisionTableReferenceNode != null
                 && decisionTableReferenceNode.has("id")
                 && !decisionTableReferenceNode.get("id").isNull()) {
@@ -88,7 +87,7 @@ public class DecisionTaskJsonConverter extends BaseBpmnJsonConverter {
             referenceType = REFERENCE_TYPE_DECISION_TABLE;
         }
 
-        JsonNode decisionServiceReferenceNode = getProperty(PROPERTY_DECISIONSERVICE_REFERENCE, elementNode);
+        JsonNode decisionServiceReferenceNode = shape(elementNode).get(PROPERTY_DECISIONSERVICE_REFERENCE);
         if (decisionServiceReferenceNode != null
                 && decisionServiceReferenceNode.has("id")
                 && !decisionServiceReferenceNode.get("id").isNull()) {
@@ -12,7 +12,6 @@
  */
 package org.flowable.editor.language.json.converter;
 
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsString;
 
 import java.util.List;
 import java.util.Map;
@@ -108,12 +107,12 @@ public class EndEventJsonConverter extends BaseBpmnJsonConverter {
         } else if (STENCIL_EVENT_END_TERMINATE.equals(stencilId)) {
             TerminateEventDefinition eventDefinition = new TerminateEventDefinition();
 
-            String terminateAllStringValue = getPropertyValueAsString(PROPERTY_TERMINATE_ALL, elementNode);
+            String terminateAllStringValue = shape(elementNode).getString(PROPERTY_TERMINATE_ALL);
             if (StringUtils.isNotEmpty(terminateAllStringValue)) {
                 eventDefinition.setTerminateAll("true".equals(terminateAllStringValue));
             }
 
-            String terminateMiStringValue = getPropertyValueAsString(PROPERTY_TERMINATE_MULTI_INSTANCE, elementNode);
+            String terminateMiStringValue = shape(elementNode).getString(PROPERTY_TERMINATE_MULTI_INSTANCE);
             if (StringUtils.isNotEmpty(terminateMiStringValue)) {
                 eventDefinition.setTerminateMultiInstance("true".equals(terminateMiStringValue));
             }
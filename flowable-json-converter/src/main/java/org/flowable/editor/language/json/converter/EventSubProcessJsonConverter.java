@@ -59,6 +59,22 @@ public class EventSubProcessJsonConverter extends BaseBpmnJsonConverter {
         SubProcess subProcess = (SubProcess) baseElement;
         propertiesNode.put("activitytype", "Event-Sub-Process");
         propertiesNode.put("subprocesstype", "Embedded");
+        convertChildShapesToJson(subProcess, converterContext);
+    }
+
+    @Override
+    protected void convertElementToViewerJson(
+            final ObjectNode propertiesNode,
+            final BaseElement baseElement,
+            final BpmnJsonConverterContext converterContext) {
+
+        convertChildShapesToJson((SubProcess) baseElement, converterContext);
+    }
+
+    protected void convertChildShapesToJson(
+            final SubProcess subProcess,
+            final BpmnJsonConverterContext converterContext) {
+
         ArrayNode subProcessShapesArrayNode = JSON_MAPPER.createArrayNode();
         GraphicInfo graphicInfo = model.getGraphicInfo(subProcess.getId());
         processor.processFlowElements(subProcess, model, subProcessShapesArrayNode, converterContext,
@@ -75,7 +91,10 @@ public class EventSubProcessJsonConverter extends BaseBpmnJsonConverter {
 
         EventSubProcess subProcess = new EventSubProcess();
         JsonNode childShapesArray = elementNode.get(EDITOR_CHILD_SHAPES);
-        processor.processJsonElements(childShapesArray, modelNode, subProcess, shapeMap, converterContext, model);
+        processor.processJsonChildElements(
+                childShapesArray, modelNode, subProcess, shapeMap, converterContext, model, () -> {
+                    // nothing to do once child shapes are converted
+                });
         return subProcess;
     }
 }
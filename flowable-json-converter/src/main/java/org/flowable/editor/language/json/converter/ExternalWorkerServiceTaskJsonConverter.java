@@ -12,7 +12,6 @@
  */
 package org.flowable.editor.language.json.converter;
 
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsString;
 
 import java.util.Map;
 import org.flowable.bpmn.model.BaseElement;
@@ -72,8 +71,8 @@ public class ExternalWorkerServiceTaskJsonConverter extends BaseBpmnJsonConverte
         ExternalWorkerServiceTask task = new ExternalWorkerServiceTask();
         task.setType(ServiceTask.EXTERNAL_WORKER_TASK);
 
-        task.setSkipExpression(getPropertyValueAsString(PROPERTY_SKIP_EXPRESSION, elementNode));
-        task.setTopic(getPropertyValueAsString(PROPERTY_EXTERNAL_WORKER_JOB_TOPIC, elementNode));
+        task.setSkipExpression(shape(elementNode).getString(PROPERTY_SKIP_EXPRESSION));
+        task.setTopic(shape(elementNode).getString(PROPERTY_EXTERNAL_WORKER_JOB_TOPIC));
         return task;
     }
 }
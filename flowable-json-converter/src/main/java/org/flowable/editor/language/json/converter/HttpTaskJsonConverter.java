@@ -88,7 +88,7 @@ public class HttpTaskJsonConverter extends BaseBpmnJsonConverter {
         addField("saveResponseParametersTransient", PROPERTY_HTTPTASK_SAVE_RESPONSE_TRANSIENT, null, elementNode, task);
         addField("saveResponseVariableAsJson", PROPERTY_HTTPTASK_SAVE_RESPONSE_AS_JSON, null, elementNode, task);
 
-        task.setSkipExpression(getPropertyValueAsString(PROPERTY_SKIP_EXPRESSION, elementNode));
+        task.setSkipExpression(shape(elementNode).getString(PROPERTY_SKIP_EXPRESSION));
         return task;
     }
 }
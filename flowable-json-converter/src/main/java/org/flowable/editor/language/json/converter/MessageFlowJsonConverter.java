@@ -65,28 +65,24 @@ public class MessageFlowJsonConverter extends BaseBpmnJsonConverter {
         MessageFlow messageFlow = (MessageFlow) baseElement;
         ObjectNode flowNode = BpmnJsonConverterUtil.createChildShape(
                 messageFlow.getId(), STENCIL_MESSAGE_FLOW, 172, 212, 128, 212);
-        ArrayNode dockersArrayNode = JSON_MAPPER.createArrayNode();
-        ObjectNode dockNode = JSON_MAPPER.createObjectNode();
-        dockNode.put(EDITOR_BOUNDS_X, model.getGraphicInfo(messageFlow.getSourceRef()).getWidth() / 2.0);
-        dockNode.put(EDITOR_BOUNDS_Y, model.getGraphicInfo(messageFlow.getSourceRef()).getHeight() / 2.0);
-        dockersArrayNode.add(dockNode);
+        ArrayNode dockersArrayNode = BpmnJsonNodeFactory.INSTANCE.arrayNode(
+                Math.max(2, model.getFlowLocationGraphicInfo(messageFlow.getId()).size()));
+        dockersArrayNode.add(BpmnJsonConverterUtil.createPositionNode(
+                model.getGraphicInfo(messageFlow.getSourceRef()).getWidth() / 2.0,
+                model.getGraphicInfo(messageFlow.getSourceRef()).getHeight() / 2.0));
 
         if (model.getFlowLocationGraphicInfo(messageFlow.getId()).size() > 2) {
             for (int i = 1; i < model.getFlowLocationGraphicInfo(messageFlow.getId()).size() - 1; i++) {
                 GraphicInfo graphicInfo = model.getFlowLocationGraphicInfo(messageFlow.getId()).get(i);
-                dockNode = JSON_MAPPER.createObjectNode();
-                dockNode.put(EDITOR_BOUNDS_X, graphicInfo.getX());
-                dockNode.put(EDITOR_BOUNDS_Y, graphicInfo.getY());
-                dockersArrayNode.add(dockNode);
+                dockersArrayNode.add(BpmnJsonConverterUtil.createPositionNode(graphicInfo.getX(), graphicInfo.getY()));
             }
         }
 
-        dockNode = JSON_MAPPER.createObjectNode();
-        dockNode.put(EDITOR_BOUNDS_X, model.getGraphicInfo(messageFlow.getTargetRef()).getWidth() / 2.0);
-        dockNode.put(EDITOR_BOUNDS_Y, model.getGraphicInfo(messageFlow.getTargetRef()).getHeight() / 2.0);
-        dockersArrayNode.add(dockNode);
+        dockersArrayNode.add(BpmnJsonConverterUtil.createPositionNode(
+                model.getGraphicInfo(messageFlow.getTargetRef()).getWidth() / 2.0,
+                model.getGraphicInfo(messageFlow.getTargetRef()).getHeight() / 2.0));
         flowNode.set("dockers", dockersArrayNode);
-        ArrayNode outgoingArrayNode = JSON_MAPPER.createArrayNode();
+        ArrayNode outgoingArrayNode = BpmnJsonNodeFactory.INSTANCE.arrayNode(1);
         outgoingArrayNode.add(BpmnJsonConverterUtil.createResourceNode(messageFlow.getTargetRef()));
         flowNode.set("outgoing", outgoingArrayNode);
         flowNode.set("target", BpmnJsonConverterUtil.createResourceNode(messageFlow.getTargetRef()));
@@ -12,8 +12,6 @@
  */
 package org.flowable.editor.language.json.converter;
 
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsBoolean;
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsString;
 
 import java.util.Map;
 import org.flowable.bpmn.model.BaseElement;
@@ -71,10 +69,10 @@ public class ScriptTaskJsonConverter extends BaseBpmnJsonConverter {
             final BpmnJsonConverterContext converterContext) {
 
         ScriptTask task = new ScriptTask();
-        task.setScriptFormat(getPropertyValueAsString(PROPERTY_SCRIPT_FORMAT, elementNode));
-        task.setScript(getPropertyValueAsString(PROPERTY_SCRIPT_TEXT, elementNode));
-        task.setSkipExpression(getPropertyValueAsString(PROPERTY_SKIP_EXPRESSION, elementNode));
-        task.setAutoStoreVariables(getPropertyValueAsBoolean(PROPERTY_SCRIPT_AUTO_STORE_VARIABLES, elementNode));
+        task.setScriptFormat(shape(elementNode).getString(PROPERTY_SCRIPT_FORMAT));
+        task.setScript(shape(elementNode).getString(PROPERTY_SCRIPT_TEXT));
+        task.setSkipExpression(shape(elementNode).getString(PROPERTY_SKIP_EXPRESSION));
+        task.setAutoStoreVariables(shape(elementNode).getBoolean(PROPERTY_SCRIPT_AUTO_STORE_VARIABLES));
         return task;
     }
 }
@@ -12,7 +12,6 @@
  */
 package org.flowable.editor.language.json.converter;
 
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsBoolean;
 import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsString;
 
 import java.util.Map;
@@ -155,7 +154,7 @@ public class SendEventTaskJsonConverter extends BaseBpmnJsonConverter {
         SendEventServiceTask task = new SendEventServiceTask();
         task.setType(ServiceTask.SEND_EVENT_TASK);
 
-        String eventKey = getPropertyValueAsString(PROPERTY_EVENT_REGISTRY_EVENT_KEY, elementNode);
+        String eventKey = shape(elementNode).getString(PROPERTY_EVENT_REGISTRY_EVENT_KEY);
         if (StringUtils.isNotEmpty(eventKey)) {
             task.setEventType(eventKey);
             addFlowableExtensionElementWithValue("eventName", getPropertyValueAsString(
@@ -171,11 +170,11 @@ public class SendEventTaskJsonConverter extends BaseBpmnJsonConverter {
             addFlowableExtensionElementWithValue("channelDestination", getPropertyValueAsString(
                     PROPERTY_EVENT_REGISTRY_CHANNEL_DESTINATION, elementNode), task);
 
-            String triggerEventKey = getPropertyValueAsString(PROPERTY_EVENT_REGISTRY_TRIGGER_EVENT_KEY, elementNode);
+            String triggerEventKey = shape(elementNode).getString(PROPERTY_EVENT_REGISTRY_TRIGGER_EVENT_KEY);
             if (StringUtils.isNotEmpty(triggerEventKey)) {
                 task.setTriggerEventType(triggerEventKey);
 
-                if (getPropertyValueAsBoolean(PROPERTY_SERVICETASK_TRIGGERABLE, elementNode)) {
+                if (shape(elementNode).getBoolean(PROPERTY_SERVICETASK_TRIGGERABLE)) {
                     task.setTriggerable(true);
                 }
 
@@ -12,8 +12,6 @@
  */
 package org.flowable.editor.language.json.converter;
 
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getProperty;
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsString;
 
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
@@ -73,28 +71,24 @@ public class SequenceFlowJsonConverter extends BaseBpmnJsonConverter {
         SequenceFlow sequenceFlow = (SequenceFlow) baseElement;
         ObjectNode flowNode = BpmnJsonConverterUtil.createChildShape(
                 sequenceFlow.getId(), STENCIL_SEQUENCE_FLOW, 172, 212, 128, 212);
-        ArrayNode dockersArrayNode = JSON_MAPPER.createArrayNode();
-        ObjectNode dockNode = JSON_MAPPER.createObjectNode();
-        dockNode.put(EDITOR_BOUNDS_X, model.getGraphicInfo(sequenceFlow.getSourceRef()).getWidth() / 2.0);
-        dockNode.put(EDITOR_BOUNDS_Y, model.getGraphicInfo(sequenceFlow.getSourceRef()).getHeight() / 2.0);
-        dockersArrayNode.add(dockNode);
+        ArrayNode dockersArrayNode = BpmnJsonNodeFactory.INSTANCE.arrayNode(
+                Math.max(2, model.getFlowLocationGraphicInfo(sequenceFlow.getId()).size()));
+        dockersArrayNode.add(BpmnJsonConverterUtil.createPositionNode(
+                model.getGraphicInfo(sequenceFlow.getSourceRef()).getWidth() / 2.0,
+                model.getGraphicInfo(sequenceFlow.getSourceRef()).getHeight() / 2.0));
 
         if (model.getFlowLocationGraphicInfo(sequenceFlow.getId()).size() > 2) {
             for (int i = 1; i < model.getFlowLocationGraphicInfo(sequenceFlow.getId()).size() - 1; i++) {
                 GraphicInfo graphicInfo = model.getFlowLocationGraphicInfo(sequenceFlow.getId()).get(i);
-                dockNode = JSON_MAPPER.createObjectNode();
-                dockNode.put(EDITOR_BOUNDS_X, graphicInfo.getX());
-                dockNode.put(EDITOR_BOUNDS_Y, graphicInfo.getY());
-                dockersArrayNode.add(dockNode);
+                dockersArrayNode.add(BpmnJsonConverterUtil.createPositionNode(graphicInfo.getX(), graphicInfo.getY()));
             }
         }
 
-        dockNode = JSON_MAPPER.createObjectNode();
-        dockNode.put(EDITOR_BOUNDS_X, model.getGraphicInfo(sequenceFlow.getTargetRef()).getWidth() / 2.0);
-        dockNode.put(EDITOR_BOUNDS_Y, model.getGraphicInfo(sequenceFlow.getTargetRef()).getHeight() / 2.0);
-        dockersArrayNode.add(dockNode);
+        dockersArrayNode.add(BpmnJsonConverterUtil.createPositionNode(
+                model.getGraphicInfo(sequenceFlow.getTargetRef()).getWidth() / 2.0,
+                model.getGraphicInfo(sequenceFlow.getTargetRef()).getHeight() / 2.0));
         flowNode.set("dockers", dockersArrayNode);
-        ArrayNode outgoingArrayNode = JSON_MAPPER.createArrayNode();
+        ArrayNode outgoingArrayNode = BpmnJsonNodeFactory.INSTANCE.arrayNode(1);
         outgoingArrayNode.add(BpmnJsonConverterUtil.createResourceNode(sequenceFlow.getTargetRef()));
         flowNode.set("outgoing", outgoingArrayNode);
         flowNode.set("target", BpmnJsonConverterUtil.createResourceNode(sequenceFlow.getTargetRef()));
@@ -105,11 +99,13 @@ public class SequenceFlowJsonConverter extends BaseBpmnJsonConverter {
             propertiesNode.put(PROPERTY_NAME, sequenceFlow.getName());
         }
 
-        if (StringUtils.isNotEmpty(sequenceFlow.getDocumentation())) {
+        boolean lightweight = processor.getOptions().isLightweightExport();
+
+        if (!lightweight && StringUtils.isNotEmpty(sequenceFlow.getDocumentation())) {
             propertiesNode.put(PROPERTY_DOCUMENTATION, sequenceFlow.getDocumentation());
         }
 
-        if (StringUtils.isNotEmpty(sequenceFlow.getConditionExpression())) {
+        if (!lightweight && StringUtils.isNotEmpty(sequenceFlow.getConditionExpression())) {
             propertiesNode.put(PROPERTY_SEQUENCEFLOW_CONDITION, sequenceFlow.getConditionExpression());
         }
 
@@ -131,12 +127,16 @@ public class SequenceFlowJsonConverter extends BaseBpmnJsonConverter {
             }
         }
 
-        setPropertyValue(PROPERTY_SKIP_EXPRESSION, sequenceFlow.getSkipExpression(), propertiesNode);
+        if (!lightweight) {
+            setPropertyValue(PROPERTY_SKIP_EXPRESSION, sequenceFlow.getSkipExpression(), propertiesNode);
 
-        if (!sequenceFlow.getExecutionListeners().isEmpty()) {
-            BpmnJsonConverterUtil.convertListenersToJson(sequenceFlow.getExecutionListeners(), true, propertiesNode);
+            if (!sequenceFlow.getExecutionListeners().isEmpty()) {
+                BpmnJsonConverterUtil.convertListenersToJson(
+                        sequenceFlow.getExecutionListeners(), true, propertiesNode);
+            }
         }
 
+        BpmnJsonConverterUtil.retainViewerProperties(processor.getOptions(), propertiesNode);
         flowNode.set(EDITOR_SHAPE_PROPERTIES, propertiesNode);
         shapesArrayNode.add(flowNode);
     }
@@ -172,7 +172,7 @@ public class SequenceFlowJsonConverter extends BaseBpmnJsonConverter {
             }
         }
 
-        JsonNode conditionNode = getProperty(PROPERTY_SEQUENCEFLOW_CONDITION, elementNode);
+        JsonNode conditionNode = shape(elementNode).get(PROPERTY_SEQUENCEFLOW_CONDITION);
         if (conditionNode != null) {
             if (conditionNode.isString() && !conditionNode.isNull()) {
                 flow.setConditionExpression(conditionNode.asString());
@@ -199,7 +199,7 @@ public class SequenceFlowJsonConverter extends BaseBpmnJsonConverter {
             }
         }
 
-        flow.setSkipExpression(getPropertyValueAsString(PROPERTY_SKIP_EXPRESSION, elementNode));
+        flow.setSkipExpression(shape(elementNode).getString(PROPERTY_SKIP_EXPRESSION));
 
         return flow;
     }
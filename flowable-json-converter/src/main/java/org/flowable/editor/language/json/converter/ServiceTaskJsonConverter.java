@@ -12,8 +12,6 @@
  */
 package org.flowable.editor.language.json.converter;
 
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getProperty;
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsBoolean;
 import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsString;
 
 import java.util.Map;
@@ -226,32 +224,32 @@ public class ServiceTaskJsonConverter extends BaseBpmnJsonConverter {
             final BpmnJsonConverterContext converterContext) {
 
         ServiceTask task = new ServiceTask();
-        if (StringUtils.isNotEmpty(getPropertyValueAsString(PROPERTY_SERVICETASK_CLASS, elementNode))) {
+        if (StringUtils.isNotEmpty(shape(elementNode).getString(PROPERTY_SERVICETASK_CLASS))) {
             task.setImplementationType(ImplementationType.IMPLEMENTATION_TYPE_CLASS);
-            task.setImplementation(getPropertyValueAsString(PROPERTY_SERVICETASK_CLASS, elementNode));
-        } else if (StringUtils.isNotEmpty(getPropertyValueAsString(PROPERTY_SERVICETASK_EXPRESSION, elementNode))) {
+            task.setImplementation(shape(elementNode).getString(PROPERTY_SERVICETASK_CLASS));
+        } else if (StringUtils.isNotEmpty(shape(elementNode).getString(PROPERTY_SERVICETASK_EXPRESSION))) {
             task.setImplementationType(ImplementationType.IMPLEMENTATION_TYPE_EXPRESSION);
-            task.setImplementation(getPropertyValueAsString(PROPERTY_SERVICETASK_EXPRESSION, elementNode));
+            task.setImplementation(shape(elementNode).getString(PROPERTY_SERVICETASK_EXPRESSION));
         } else if (StringUtils.isNotEmpty(
-                getPropertyValueAsString(PROPERTY_SERVICETASK_DELEGATE_EXPRESSION, elementNode))) {
+                shape(elementNode).getString(PROPERTY_SERVICETASK_DELEGATE_EXPRESSION))) {
 
             task.setImplementationType(ImplementationType.IMPLEMENTATION_TYPE_DELEGATEEXPRESSION);
-            task.setImplementation(getPropertyValueAsString(PROPERTY_SERVICETASK_DELEGATE_EXPRESSION, elementNode));
+            task.setImplementation(shape(elementNode).getString(PROPERTY_SERVICETASK_DELEGATE_EXPRESSION));
         }
 
-        if (getPropertyValueAsBoolean(PROPERTY_SERVICETASK_TRIGGERABLE, elementNode)) {
+        if (shape(elementNode).getBoolean(PROPERTY_SERVICETASK_TRIGGERABLE)) {
             task.setTriggerable(true);
         }
 
-        if (StringUtils.isNotEmpty(getPropertyValueAsString(PROPERTY_SERVICETASK_RESULT_VARIABLE, elementNode))) {
-            task.setResultVariableName(getPropertyValueAsString(PROPERTY_SERVICETASK_RESULT_VARIABLE, elementNode));
+        if (StringUtils.isNotEmpty(shape(elementNode).getString(PROPERTY_SERVICETASK_RESULT_VARIABLE))) {
+            task.setResultVariableName(shape(elementNode).getString(PROPERTY_SERVICETASK_RESULT_VARIABLE));
         }
 
-        if (getPropertyValueAsBoolean(PROPERTY_SERVICETASK_USE_LOCAL_SCOPE_FOR_RESULT_VARIABLE, elementNode)) {
+        if (shape(elementNode).getBoolean(PROPERTY_SERVICETASK_USE_LOCAL_SCOPE_FOR_RESULT_VARIABLE)) {
             task.setUseLocalScopeForResultVariable(true);
         }
 
-        if (getPropertyValueAsBoolean(PROPERTY_SERVICETASK_STORE_TRANSIENT_VARIABLE, elementNode)) {
+        if (shape(elementNode).getBoolean(PROPERTY_SERVICETASK_STORE_TRANSIENT_VARIABLE)) {
             task.setStoreResultVariableAsTransient(true);
         }
 
@@ -262,9 +260,9 @@ public class ServiceTaskJsonConverter extends BaseBpmnJsonConverter {
                     PROPERTY_SERVICETASK_FAILED_JOB_RETRY_TIME_CYCLE, elementNode));
         }
 
-        task.setSkipExpression(getPropertyValueAsString(PROPERTY_SKIP_EXPRESSION, elementNode));
+        task.setSkipExpression(shape(elementNode).getString(PROPERTY_SKIP_EXPRESSION));
 
-        JsonNode fieldsNode = getProperty(PROPERTY_SERVICETASK_FIELDS, elementNode);
+        JsonNode fieldsNode = shape(elementNode).get(PROPERTY_SERVICETASK_FIELDS);
         if (fieldsNode != null) {
             JsonNode itemsArrayNode = fieldsNode.get("fields");
             if (itemsArrayNode != null) {
@@ -293,7 +291,7 @@ public class ServiceTaskJsonConverter extends BaseBpmnJsonConverter {
             }
         }
 
-        JsonNode exceptionsNode = getProperty(PROPERTY_SERVICETASK_EXCEPTIONS, elementNode);
+        JsonNode exceptionsNode = shape(elementNode).get(PROPERTY_SERVICETASK_EXCEPTIONS);
         if (exceptionsNode != null) {
             JsonNode itemsArrayNode = exceptionsNode.get("exceptions");
             if (itemsArrayNode != null) {
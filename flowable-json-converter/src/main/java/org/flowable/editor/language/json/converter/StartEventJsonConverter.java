@@ -12,9 +12,6 @@
  */
 package org.flowable.editor.language.json.converter;
 
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getProperty;
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsBoolean;
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsString;
 
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
@@ -148,14 +145,14 @@ public class StartEventJsonConverter extends BaseBpmnJsonConverter {
             final BpmnJsonConverterContext converterContext) {
 
         StartEvent startEvent = new StartEvent();
-        startEvent.setInitiator(getPropertyValueAsString(PROPERTY_NONE_STARTEVENT_INITIATOR, elementNode));
+        startEvent.setInitiator(shape(elementNode).getString(PROPERTY_NONE_STARTEVENT_INITIATOR));
         String stencilId = BpmnJsonConverterUtil.getStencilId(elementNode);
         if (STENCIL_EVENT_START_NONE.equals(stencilId)) {
-            String formKey = getPropertyValueAsString(PROPERTY_FORMKEY, elementNode);
+            String formKey = shape(elementNode).getString(PROPERTY_FORMKEY);
             if (StringUtils.isNotEmpty(formKey)) {
                 startEvent.setFormKey(formKey);
             } else {
-                JsonNode formReferenceNode = getProperty(PROPERTY_FORM_REFERENCE, elementNode);
+                JsonNode formReferenceNode = shape(elementNode).get(PROPERTY_FORM_REFERENCE);
                 if (formReferenceNode != null && formReferenceNode.get("id") != null) {
 
                     String formModelId = formReferenceNode.get("id").asString();
@@ -170,7 +167,7 @@ public class StartEventJsonConverter extends BaseBpmnJsonConverter {
                     }
                 }
             }
-            String validateFormFields = getPropertyValueAsString(PROPERTY_FORM_FIELD_VALIDATION, elementNode);
+            String validateFormFields = shape(elementNode).getString(PROPERTY_FORM_FIELD_VALIDATION);
             if (StringUtils.isNotEmpty(validateFormFields)) {
                 startEvent.setValidateFormFields(validateFormFields);
             }
@@ -193,7 +190,7 @@ public class StartEventJsonConverter extends BaseBpmnJsonConverter {
             convertJsonToVariableListenerDefinition(elementNode, startEvent);
         }
 
-        if (!getPropertyValueAsBoolean(PROPERTY_INTERRUPTING, elementNode)) {
+        if (!shape(elementNode).getBoolean(PROPERTY_INTERRUPTING)) {
             startEvent.setInterrupting(false);
         }
 
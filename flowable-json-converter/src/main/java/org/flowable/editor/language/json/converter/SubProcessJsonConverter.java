@@ -12,7 +12,6 @@
  */
 package org.flowable.editor.language.json.converter;
 
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsBoolean;
 
 import java.util.List;
 import java.util.Map;
@@ -73,12 +72,33 @@ public class SubProcessJsonConverter extends BaseBpmnJsonConverter {
         SubProcess subProcess = (SubProcess) baseElement;
 
         propertiesNode.put("activitytype", getStencilId(baseElement));
-        GraphicInfo gi = model.getGraphicInfo(baseElement.getId());
+
+        convertChildShapesToJson(subProcess, converterContext);
+
+        if (subProcess instanceof Transaction) {
+            propertiesNode.put("istransaction", true);
+        }
+
+        BpmnJsonConverterUtil.convertDataPropertiesToJson(subProcess.getDataObjects(), propertiesNode);
+    }
+
+    @Override
+    protected void convertElementToViewerJson(
+            final ObjectNode propertiesNode,
+            final BaseElement baseElement,
+            final BpmnJsonConverterContext converterContext) {
+
+        convertChildShapesToJson((SubProcess) baseElement, converterContext);
+    }
+
+    protected void convertChildShapesToJson(
+            final SubProcess subProcess,
+            final BpmnJsonConverterContext converterContext) {
 
         ArrayNode subProcessShapesArrayNode = JSON_MAPPER.createArrayNode();
         GraphicInfo graphicInfo = model.getGraphicInfo(subProcess.getId());
 
-        if (BooleanUtils.isFalse(gi.getExpanded())) {
+        if (BooleanUtils.isFalse(graphicInfo.getExpanded())) {
             processor.processFlowElements(
                     subProcess, model, subProcessShapesArrayNode, converterContext, 0, 0);
         } else {
@@ -88,12 +108,6 @@ public class SubProcessJsonConverter extends BaseBpmnJsonConverter {
         }
 
         flowElementNode.set("childShapes", subProcessShapesArrayNode);
-
-        if (subProcess instanceof Transaction) {
-            propertiesNode.put("istransaction", true);
-        }
-
-        BpmnJsonConverterUtil.convertDataPropertiesToJson(subProcess.getDataObjects(), propertiesNode);
     }
 
     @Override
@@ -104,28 +118,30 @@ public class SubProcessJsonConverter extends BaseBpmnJsonConverter {
             final BpmnJsonConverterContext converterContext) {
 
         SubProcess subProcess;
-        if (getPropertyValueAsBoolean("istransaction", elementNode)) {
+        if (shape(elementNode).getBoolean("istransaction")) {
             subProcess = new Transaction();
         } else {
             subProcess = new SubProcess();
         }
 
         JsonNode childShapesArray = elementNode.get(EDITOR_CHILD_SHAPES);
-        processor.processJsonElements(childShapesArray, modelNode, subProcess, shapeMap, converterContext, model);
-
-        JsonNode processDataPropertiesNode = elementNode.get(EDITOR_SHAPE_PROPERTIES).get(PROPERTY_DATA_PROPERTIES);
-        if (processDataPropertiesNode != null) {
-            List<ValuedDataObject> dataObjects =
-                    BpmnJsonConverterUtil.convertJsonToDataProperties(processDataPropertiesNode, subProcess);
-            subProcess.setDataObjects(dataObjects);
-            subProcess.getFlowElements().addAll(dataObjects);
-        }
-
-        //store correct conversion info...
-        if (STENCIL_COLLAPSED_SUB_PROCESS.equals(BpmnJsonConverterUtil.getStencilId(elementNode))) {
-            GraphicInfo graphicInfo = model.getGraphicInfo(BpmnJsonConverterUtil.getElementId(elementNode));
-            graphicInfo.setExpanded(false); //default is null!
-        }
+        processor.processJsonChildElements(
+                childShapesArray, modelNode, subProcess, shapeMap, converterContext, model, () -> {
+                    JsonNode processDataPropertiesNode =
+                            elementNode.get(EDITOR_SHAPE_PROPERTIES).get(PROPERTY_DATA_PROPERTIES);
+                    if (processDataPropertiesNode != null) {
+                        List<ValuedDataObject> dataObjects = BpmnJsonConverterUtil.convertJsonToDataProperties(
+                                processDataPropertiesNode, subProcess);
+                        subProcess.setDataObjects(dataObjects);
+                        subProcess.getFlowElements().addAll(dataObjects);
+                    }
+
+                    //store correct conversion info...
+                    if (STENCIL_COLLAPSED_SUB_PROCESS.equals(shape(elementNode).getStencilId())) {
+                        GraphicInfo graphicInfo = model.getGraphicInfo(shape(elementNode).getElementId());
+                        graphicInfo.setExpanded(false); //default is null!
+                    }
+                });
 
         return subProcess;
     }
@@ -12,7 +12,6 @@
  */
 package org.flowable.editor.language.json.converter;
 
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsString;
 
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
@@ -69,7 +68,7 @@ public class TextAnnotationJsonConverter extends BaseBpmnJsonConverter {
             final BpmnJsonConverterContext converterContext) {
 
         TextAnnotation annotation = new TextAnnotation();
-        String text = getPropertyValueAsString("text", elementNode);
+        String text = shape(elementNode).getString("text");
         if (StringUtils.isNotEmpty(text)) {
             annotation.setText(text);
         }
@@ -12,7 +12,6 @@
  */
 package org.flowable.editor.language.json.converter;
 
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsBoolean;
 
 import java.util.List;
 import java.util.Map;
@@ -95,7 +94,7 @@ public class ThrowEventJsonConverter extends BaseBpmnJsonConverter {
             final BpmnJsonConverterContext converterContext) {
 
         ThrowEvent throwEvent = new ThrowEvent();
-        boolean isAsync = getPropertyValueAsBoolean(PROPERTY_ASYNCHRONOUS, elementNode);
+        boolean isAsync = shape(elementNode).getBoolean(PROPERTY_ASYNCHRONOUS);
         if (isAsync) {
             throwEvent.setAsynchronous(isAsync);
         }
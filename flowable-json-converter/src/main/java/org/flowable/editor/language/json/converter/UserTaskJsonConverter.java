@@ -12,8 +12,6 @@
  */
 package org.flowable.editor.language.json.converter;
 
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getProperty;
-import static org.flowable.editor.language.json.converter.util.JsonConverterUtil.getPropertyValueAsString;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -234,12 +232,12 @@ public class UserTaskJsonConverter extends BaseBpmnJsonConverter {
 
         UserTask task = new UserTask();
 
-        task.setPriority(getPropertyValueAsString(PROPERTY_USERTASK_PRIORITY, elementNode));
-        String formKey = getPropertyValueAsString(PROPERTY_FORMKEY, elementNode);
+        task.setPriority(shape(elementNode).getString(PROPERTY_USERTASK_PRIORITY));
+        String formKey = shape(elementNode).getString(PROPERTY_FORMKEY);
         if (StringUtils.isNotEmpty(formKey)) {
             task.setFormKey(formKey);
         } else {
-            JsonNode formReferenceNode = getProperty(PROPERTY_FORM_REFERENCE, elementNode);
+            JsonNode formReferenceNode = shape(elementNode).get(PROPERTY_FORM_REFERENCE);
             if (formReferenceNode != null && formReferenceNode.get("id") != null) {
 
                 String formModelId = formReferenceNode.get("id").asString();
@@ -255,13 +253,13 @@ public class UserTaskJsonConverter extends BaseBpmnJsonConverter {
             }
         }
 
-        task.setValidateFormFields(getPropertyValueAsString(PROPERTY_FORM_FIELD_VALIDATION, elementNode));
-        task.setDueDate(getPropertyValueAsString(PROPERTY_USERTASK_DUEDATE, elementNode));
-        task.setBusinessCalendarName(getPropertyValueAsString(PROPERTY_CALENDAR_NAME, elementNode));
-        task.setCategory(getPropertyValueAsString(PROPERTY_USERTASK_CATEGORY, elementNode));
-        task.setTaskIdVariableName(getPropertyValueAsString(PROPERTY_USERTASK_TASK_ID_VARIABLE_NAME, elementNode));
+        task.setValidateFormFields(shape(elementNode).getString(PROPERTY_FORM_FIELD_VALIDATION));
+        task.setDueDate(shape(elementNode).getString(PROPERTY_USERTASK_DUEDATE));
+        task.setBusinessCalendarName(shape(elementNode).getString(PROPERTY_CALENDAR_NAME));
+        task.setCategory(shape(elementNode).getString(PROPERTY_USERTASK_CATEGORY));
+        task.setTaskIdVariableName(shape(elementNode).getString(PROPERTY_USERTASK_TASK_ID_VARIABLE_NAME));
 
-        JsonNode assignmentNode = getProperty(PROPERTY_USERTASK_ASSIGNMENT, elementNode);
+        JsonNode assignmentNode = shape(elementNode).get(PROPERTY_USERTASK_ASSIGNMENT);
         if (assignmentNode != null) {
             JsonNode assignmentDefNode = assignmentNode.get("assignment");
             if (assignmentDefNode != null) {
@@ -314,7 +312,7 @@ public class UserTaskJsonConverter extends BaseBpmnJsonConverter {
             }
         }
 
-        task.setSkipExpression(getPropertyValueAsString(PROPERTY_SKIP_EXPRESSION, elementNode));
+        task.setSkipExpression(shape(elementNode).getString(PROPERTY_SKIP_EXPRESSION));
 
         convertJsonToFormProperties(elementNode, task);
         return task;
@@ -12,7 +12,9 @@
  */
 package org.flowable.editor.language.json.converter.util;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -101,32 +103,36 @@ public final class JsonConverterUtil implements EditorJsonConstants, StencilCons
             final List<String> allowedStencilTypes,
             final List<JsonLookupResult> result) {
 
-        JsonNode childShapesNode = editorJsonNode.get("childShapes");
-        if (childShapesNode != null && childShapesNode.isArray()) {
-            ArrayNode childShapesArrayNode = (ArrayNode) childShapesNode;
-            for (JsonNode childShapeNode : childShapesArrayNode) {
-                String childShapeNodeStencilId = BpmnJsonConverterUtil.getStencilId(childShapeNode);
-                boolean readPropertiesNode = allowedStencilTypes.contains(childShapeNodeStencilId);
-
-                if (readPropertiesNode) {
-                    // Properties
-                    JsonNode properties = childShapeNode.get("properties");
-                    if (properties != null && properties.has(propertyName)) {
-                        JsonNode nameNode = properties.get("name");
-                        JsonNode propertyNode = properties.get(propertyName);
-                        result.add(new JsonLookupResult(
-                                BpmnJsonConverterUtil.getElementId(childShapeNode),
-                                nameNode != null ? nameNode.asString() : null,
-                                propertyNode));
-                    }
-                }
-
-                // Potential nested child shapes
-                if (childShapeNode.has("childShapes")) {
-                    internalGetBpmnProcessChildShapePropertyValues(
-                            childShapeNode, propertyName, allowedStencilTypes, result);
+        Deque<JsonNode> stack = new ArrayDeque<>();
+        pushArrayChildShapes(stack, editorJsonNode);
+
+        while (!stack.isEmpty()) {
+            JsonNode childShapeNode = stack.pop();
+            String childShapeNodeStencilId = BpmnJsonConverterUtil.getStencilId(childShapeNode);
+            boolean readPropertiesNode = allowedStencilTypes.contains(childShapeNodeStencilId);
+
+            if (readPropertiesNode) {
+                // Properties
+                JsonNode properties = childShapeNode.get("properties");
+                if (properties != null && properties.has(propertyName)) {
+                    JsonNode nameNode = properties.get("name");
+                    JsonNode propertyNode = properties.get(propertyName);
+                    result.add(new JsonLookupResult(
+                            BpmnJsonConverterUtil.getElementId(childShapeNode),
+                            nameNode != null ? nameNode.asString() : null,
+                            propertyNode));
                 }
             }
+
+            // Potential nested child shapes
+            pushArrayChildShapes(stack, childShapeNode);
+        }
+    }
+
+    private static void pushArrayChildShapes(final Deque<JsonNode> stack, final JsonNode editorJsonNode) {
+        JsonNode childShapesNode = editorJsonNode.get("childShapes");
+        if (childShapesNode != null && childShapesNode.isArray()) {
+            BpmnJsonConverterUtil.pushChildShapes(stack, childShapesNode);
         }
     }
 
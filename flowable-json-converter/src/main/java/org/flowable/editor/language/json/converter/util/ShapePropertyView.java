@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.flowable.editor.constants.EditorJsonConstants;
+import org.flowable.editor.constants.StencilConstants;
+import org.flowable.editor.language.json.converter.BpmnJsonConverterUtil;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Read-only view over the properties of an editor shape, with the {@code properties} node resolved once and element
+ * and stencil ids memoized; values are read as by the {@link JsonConverterUtil} methods with the same name.
+ */
+public class ShapePropertyView implements EditorJsonConstants, StencilConstants {
+
+    private final JsonNode shapeNode;
+
+    private final JsonNode propertiesNode;
+
+    private String elementId;
+
+    private String stencilId;
+
+    public ShapePropertyView(final JsonNode shapeNode) {
+        this.shapeNode = shapeNode;
+        this.propertiesNode = shapeNode.get(EDITOR_SHAPE_PROPERTIES);
+    }
+
+    public JsonNode getShapeNode() {
+        return shapeNode;
+    }
+
+    public JsonNode get(final String name) {
+        return propertiesNode == null ? null : propertiesNode.get(name);
+    }
+
+    public String getString(final String name) {
+        JsonNode propertyNode = get(name);
+        if (propertyNode == null) {
+            return null;
+        }
+        String propertyValue = propertyNode.asString();
+        return "null".equalsIgnoreCase(propertyValue) ? null : propertyValue;
+    }
+
+    public boolean getBoolean(final String name) {
+        return getBoolean(name, false);
+    }
+
+    public boolean getBoolean(final String name, final boolean defaultValue) {
+        JsonNode propertyNode = get(name);
+        if (propertyNode == null) {
+            return defaultValue;
+        }
+        if (propertyNode.isBoolean()) {
+            return propertyNode.booleanValue();
+        }
+
+        String stringValue = propertyNode.asString();
+        if (PROPERTY_VALUE_YES.equalsIgnoreCase(stringValue) || "true".equalsIgnoreCase(stringValue)) {
+            return true;
+        }
+        if (PROPERTY_VALUE_NO.equalsIgnoreCase(stringValue) || "false".equalsIgnoreCase(stringValue)) {
+            return false;
+        }
+        return defaultValue;
+    }
+
+    public List<String> getList(final String name) {
+        List<String> resultList = new ArrayList<>();
+        String propertyValue = getString(name);
+        if (propertyValue != null) {
+            for (String value : propertyValue.split(",")) {
+                resultList.add(value.trim());
+            }
+        }
+        return resultList;
+    }
+
+    /**
+     * @return element id, as by {@code BpmnJsonConverterUtil.getElementId}
+     */
+    public String getElementId() {
+        if (elementId == null) {
+            elementId = BpmnJsonConverterUtil.getElementId(shapeNode);
+        }
+        return elementId;
+    }
+
+    public String getStencilId() {
+        if (stencilId == null) {
+            JsonNode stencilNode = shapeNode.get(EDITOR_STENCIL);
+            if (stencilNode != null && stencilNode.get(EDITOR_STENCIL_ID) != null) {
+                stencilId = stencilNode.get(EDITOR_STENCIL_ID).asString();
+            }
+        }
+        return stencilId;
+    }
+}
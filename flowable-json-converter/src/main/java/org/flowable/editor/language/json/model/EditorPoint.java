@@ -0,0 +1,47 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.flowable.editor.constants.EditorJsonConstants;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Point of editor JSON, as bounds corner or edge docker.
+ *
+ * @param x abscissa
+ * @param y ordinate
+ */
+public record EditorPoint(double x, double y) {
+
+    public static EditorPoint of(final JsonNode pointNode) {
+        return new EditorPoint(
+                pointNode.get(EditorJsonConstants.EDITOR_BOUNDS_X).asDouble(),
+                pointNode.get(EditorJsonConstants.EDITOR_BOUNDS_Y).asDouble());
+    }
+
+    /**
+     * @param pointsNode array of points, as edge dockers
+     * @return points, empty if the given node is missing
+     */
+    public static List<EditorPoint> listOf(final JsonNode pointsNode) {
+        if (pointsNode == null || pointsNode.isEmpty()) {
+            return List.of();
+        }
+
+        List<EditorPoint> points = new ArrayList<>(pointsNode.size());
+        pointsNode.forEach(pointNode -> points.add(of(pointNode)));
+        return points;
+    }
+}
@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.model;
+
+import java.util.List;
+import org.flowable.editor.constants.StencilConstants;
+import org.flowable.editor.language.json.converter.BpmnJsonConverterUtil;
+
+/**
+ * Shape of editor JSON (or the whole diagram, for the canvas), as bound by Jackson straight from the token stream:
+ * only what is needed for diagram interchange is kept, any other property is skipped while parsing.
+ * <p>
+ * Missing lists are bound as empty.
+ *
+ * @param resourceId resource id
+ * @param stencil stencil
+ * @param properties common properties
+ * @param bounds bounds, relative to the parent shape
+ * @param dockers dockers, for edges
+ * @param outgoing outgoing edges
+ * @param target target shape, for edges
+ * @param childShapes child shapes
+ */
+public record EditorShape(
+        String resourceId,
+        EditorStencil stencil,
+        EditorShapeProperties properties,
+        EditorBounds bounds,
+        List<EditorPoint> dockers,
+        List<EditorResource> outgoing,
+        EditorResource target,
+        List<EditorShape> childShapes) {
+
+    public EditorShape {
+        dockers = dockers == null ? List.of() : dockers;
+        outgoing = outgoing == null ? List.of() : outgoing;
+        childShapes = childShapes == null ? List.of() : childShapes;
+    }
+
+    public String stencilId() {
+        return stencil == null ? null : stencil.id();
+    }
+
+    /**
+     * @return element id, as per {@link BpmnJsonConverterUtil#getElementId(String, String)}
+     */
+    public String elementId() {
+        return BpmnJsonConverterUtil.getElementId(properties == null ? null : properties.overrideid(), resourceId);
+    }
+
+    /**
+     * @return resource id of the target shape, for edges
+     */
+    public String targetId() {
+        return target == null ? null : target.resourceId();
+    }
+
+    public boolean isEdge() {
+        String stencilId = stencilId();
+        return StencilConstants.STENCIL_SEQUENCE_FLOW.equals(stencilId)
+                || StencilConstants.STENCIL_ASSOCIATION.equals(stencilId);
+    }
+}
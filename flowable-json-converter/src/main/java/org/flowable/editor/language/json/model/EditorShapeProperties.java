@@ -0,0 +1,22 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.model;
+
+/**
+ * Properties of an editor shape which are common to all stencils; the others are specific to each stencil family and
+ * are only read by the matching stencil converter, from the tree model.
+ *
+ * @param overrideid element id, when different from the resource id
+ */
+public record EditorShapeProperties(String overrideid) {
+}
@@ -0,0 +1,118 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.flowable.bpmn.model.BpmnModel;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+class BpmnAppBundlePipelineTest {
+
+    private static JsonNode processModel(final String processKey) {
+        BpmnModel model = BpmnJsonConverterWarmUp.createModel();
+        model.getMainProcess().setId(processKey);
+        return new BpmnJsonConverter().convertToJson(model);
+    }
+
+    private static JsonNode appModel(final String... modelIds) {
+        ObjectNode appModelNode = BpmnJsonConverterUtil.jsonMapper().createObjectNode();
+        ArrayNode modelsNode = appModelNode.putArray("models");
+        for (String modelId : modelIds) {
+            modelsNode.addObject().put("id", modelId).put("name", modelId);
+        }
+        return appModelNode;
+    }
+
+    private static List<String> entryNames(final byte[] bundle) throws IOException {
+        List<String> entryNames = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bundle))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entryNames.add(entry.getName());
+                assertTrue(zip.readAllBytes().length > 0, entry.getName());
+            }
+        }
+        return entryNames;
+    }
+
+    @Test
+    void export() throws IOException {
+        // "first" and "third" define the same process key
+        Map<String, JsonNode> models = Map.of(
+                "first", processModel("shared"),
+                "second", processModel("other"),
+                "third", processModel("shared"));
+        Map<String, AtomicInteger> loads = new ConcurrentHashMap<>();
+        BpmnAppBundlePipeline pipeline = new BpmnAppBundlePipeline(
+                new BpmnJsonConverter(),
+                new StandaloneBpmnConverterContext(),
+                new BpmnJsonConverterOptions(),
+                modelId -> {
+                    loads.computeIfAbsent(modelId, k -> new AtomicInteger()).incrementAndGet();
+                    return models.get(modelId);
+                },
+                Runnable::run);
+
+        List<BpmnAppBundlePipeline.Progress> progress = new ArrayList<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BpmnAppBundlePipeline.Report report = pipeline.export(
+                appModel("first", "second", "first", "missing", "third", "second"), out, progress::add);
+
+        // shared models are loaded and converted once
+        assertEquals(4, report.models());
+        assertEquals(2, report.shared());
+        assertEquals(1, loads.get("first").get());
+        assertEquals(1, loads.get("second").get());
+
+        // failures are reported and left out of the bundle
+        assertEquals(Map.of("missing", "Process model missing not found"), report.failures());
+        assertEquals(3, report.entries());
+        assertTrue(report.xmlBytes() > 0);
+        assertTrue(report.conversionTime().toNanos() > 0);
+
+        // on process key collision, the model id names the entry
+        assertEquals(
+                List.of("shared.bpmn20.xml", "other.bpmn20.xml", "third.bpmn20.xml"),
+                entryNames(out.toByteArray()));
+
+        assertEquals(4, progress.size());
+        for (int i = 0; i < progress.size(); i++) {
+            assertEquals(i + 1, progress.get(i).completed());
+            assertEquals(4, progress.get(i).total());
+        }
+        assertEquals("first", progress.get(0).modelId());
+        assertEquals("shared.bpmn20.xml", progress.get(0).entryName());
+        assertNull(progress.get(0).failure());
+        assertEquals("missing", progress.get(2).modelId());
+        assertNull(progress.get(2).entryName());
+        assertNotNull(progress.get(2).failure());
+        assertEquals("third.bpmn20.xml", progress.get(3).entryName());
+    }
+}
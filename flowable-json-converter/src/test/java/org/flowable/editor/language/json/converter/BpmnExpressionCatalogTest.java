@@ -0,0 +1,118 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.CallActivity;
+import org.flowable.bpmn.model.ConditionalEventDefinition;
+import org.flowable.bpmn.model.HttpServiceTask;
+import org.flowable.bpmn.model.IntermediateCatchEvent;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.TimerEventDefinition;
+import org.flowable.bpmn.model.UserTask;
+import org.junit.jupiter.api.Test;
+
+class BpmnExpressionCatalogTest {
+
+    private static BpmnModel model() {
+        BpmnModel model = new BpmnModel();
+        Process process = new Process();
+        process.setId("process");
+        model.addProcess(process);
+
+        UserTask userTask = new UserTask();
+        userTask.setId("userTask");
+        userTask.setAssignee("${initiator}");
+        userTask.setOwner("kermit");
+        userTask.setCandidateUsers(List.of("#{reviewers}", "fozzie"));
+        userTask.setCandidateGroups(List.of("${approvers}"));
+        userTask.setDueDate("${dueDate}");
+        userTask.setPriority("${priority}");
+        userTask.setCategory("approval");
+        userTask.setSkipExpression("${skipUserTask}");
+        process.addFlowElement(userTask);
+
+        HttpServiceTask httpTask = new HttpServiceTask();
+        httpTask.setId("httpTask");
+        httpTask.setType("http");
+        httpTask.setSkipExpression("${skipHttpTask}");
+        process.addFlowElement(httpTask);
+
+        CallActivity callActivity = new CallActivity();
+        callActivity.setId("callActivity");
+        callActivity.setCalledElement("${calledProcess}");
+        process.addFlowElement(callActivity);
+
+        IntermediateCatchEvent conditionalEvent = new IntermediateCatchEvent();
+        conditionalEvent.setId("conditionalEvent");
+        ConditionalEventDefinition conditional = new ConditionalEventDefinition();
+        conditional.setConditionExpression("${approved}");
+        conditionalEvent.addEventDefinition(conditional);
+        process.addFlowElement(conditionalEvent);
+
+        IntermediateCatchEvent timerEvent = new IntermediateCatchEvent();
+        timerEvent.setId("timerEvent");
+        TimerEventDefinition timer = new TimerEventDefinition();
+        timer.setTimeDuration("PT5M");
+        timerEvent.addEventDefinition(timer);
+        process.addFlowElement(timerEvent);
+
+        SequenceFlow first = new SequenceFlow("userTask", "httpTask");
+        first.setId("first");
+        first.setConditionExpression("${approved}");
+        process.addFlowElement(first);
+
+        SequenceFlow second = new SequenceFlow("httpTask", "callActivity");
+        second.setId("second");
+        second.setConditionExpression("true");
+        process.addFlowElement(second);
+
+        return model;
+    }
+
+    @Test
+    void collect() {
+        BpmnExpressionCatalog catalog = new BpmnExpressionCatalog();
+        catalog.collect(model());
+
+        Map<String, Set<String>> expected = Map.of(
+                "${initiator}", Set.of("userTask"),
+                "#{reviewers}", Set.of("userTask"),
+                "${approvers}", Set.of("userTask"),
+                "${dueDate}", Set.of("userTask"),
+                "${priority}", Set.of("userTask"),
+                "${skipUserTask}", Set.of("userTask"),
+                "${skipHttpTask}", Set.of("httpTask"),
+                "${calledProcess}", Set.of("callActivity"),
+                "${approved}", Set.of("conditionalEvent", "first"));
+        assertEquals(expected, catalog.getExpressions());
+    }
+
+    @Test
+    void deduplicateAcrossModels() {
+        BpmnExpressionCatalog catalog = new BpmnExpressionCatalog();
+        catalog.collect(model());
+        int size = catalog.size();
+        catalog.collect(model());
+
+        assertEquals(size, catalog.size());
+        catalog.clear();
+        assertEquals(0, catalog.size());
+    }
+}
@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.node.ObjectNode;
+
+class BpmnJsonCompactorTest {
+
+    private static byte[] semantics(final BpmnModel model) {
+        model.getLocationMap().clear();
+        model.getFlowLocationMap().clear();
+        model.getEdgeMap().clear();
+        return new BpmnXMLConverter().convertToXML(model);
+    }
+
+    @Test
+    void roundTrip() {
+        BpmnModel model = BpmnJsonConverterWarmUp.createModel();
+        model.getGraphicInfo("end").setX(700.123456);
+
+        ObjectNode full = new BpmnJsonConverter().convertToJson(model);
+        ObjectNode compact = new BpmnJsonConverter(BpmnJsonConverterOptions.compact(2)).convertToJson(model);
+        assertTrue(compact.toString().length() < full.toString().length());
+
+        BpmnModel fromFull = new BpmnJsonConverter().convertToBpmnModel(full);
+        BpmnModel fromCompact = new BpmnJsonConverter().convertToBpmnModel(compact);
+
+        assertEquals(fromFull.getLocationMap().keySet(), fromCompact.getLocationMap().keySet());
+        for (Map.Entry<String, GraphicInfo> entry : fromFull.getLocationMap().entrySet()) {
+            GraphicInfo expected = entry.getValue();
+            GraphicInfo actual = fromCompact.getGraphicInfo(entry.getKey());
+            assertEquals(expected.getX(), actual.getX(), 0.01, entry.getKey());
+            assertEquals(expected.getY(), actual.getY(), 0.01, entry.getKey());
+            assertEquals(expected.getWidth(), actual.getWidth(), 0.01, entry.getKey());
+            assertEquals(expected.getHeight(), actual.getHeight(), 0.01, entry.getKey());
+        }
+        assertEquals(700.12, fromCompact.getGraphicInfo("end").getX());
+        assertEquals(fromFull.getFlowLocationMap().keySet(), fromCompact.getFlowLocationMap().keySet());
+
+        assertArrayEquals(semantics(fromFull), semantics(fromCompact));
+    }
+}
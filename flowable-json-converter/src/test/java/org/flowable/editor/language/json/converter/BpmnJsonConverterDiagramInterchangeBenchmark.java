@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Diagram interchange read through records bound from the token stream against tree parsing, alone and followed by
+ * the full conversion; run with {@code -Pbenchmark}.
+ */
+@Tag("benchmark")
+class BpmnJsonConverterDiagramInterchangeBenchmark {
+
+    private static final int ITERATIONS = 20_000;
+
+    private static final int ROUNDS = 5;
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    @Test
+    void recordsVersusTree() {
+        BpmnJsonConverterOptions options = new BpmnJsonConverterOptions();
+        BpmnJsonConverter converter = new BpmnJsonConverter(options);
+        StandaloneBpmnConverterContext context = new StandaloneBpmnConverterContext();
+        byte[] modelJson = converter.convertToBytes(BpmnJsonConverterWarmUp.createModel(), context, options);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            long allocated = allocatedBytes();
+            for (int i = 0; i < ITERATIONS; i++) {
+                converter.convertToBpmnModel(modelJson, context, options);
+            }
+            long fullTime = System.nanoTime() - start;
+            long fullAllocated = allocatedBytes() - allocated;
+
+            start = System.nanoTime();
+            allocated = allocatedBytes();
+            for (int i = 0; i < ITERATIONS; i++) {
+                BpmnJsonConverterUtil.jsonMapper().readTree(modelJson);
+            }
+            long treeTime = System.nanoTime() - start;
+            long treeAllocated = allocatedBytes() - allocated;
+
+            start = System.nanoTime();
+            allocated = allocatedBytes();
+            for (int i = 0; i < ITERATIONS; i++) {
+                converter.readDiagramInterchange(modelJson);
+            }
+            long recordsTime = System.nanoTime() - start;
+            long recordsAllocated = allocatedBytes() - allocated;
+
+            System.out.printf("round %d: full conversion %d ms, %d KB/op; tree only %d ms, %d KB/op; "
+                    + "records diagram interchange %d ms, %d KB/op%n",
+                    round,
+                    fullTime / 1_000_000, fullAllocated / ITERATIONS / 1024,
+                    treeTime / 1_000_000, treeAllocated / ITERATIONS / 1024,
+                    recordsTime / 1_000_000, recordsAllocated / ITERATIONS / 1024);
+        }
+    }
+}
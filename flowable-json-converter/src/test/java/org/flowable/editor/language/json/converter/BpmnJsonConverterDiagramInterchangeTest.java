@@ -0,0 +1,139 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.flowable.bpmn.model.BpmnDiEdge;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.editor.constants.StencilConstants;
+import org.flowable.editor.language.json.converter.BpmnJsonConversionLimitException.Limit;
+import org.flowable.editor.language.json.model.EditorShape;
+import org.junit.jupiter.api.Test;
+
+class BpmnJsonConverterDiagramInterchangeTest {
+
+    private static BpmnModel model() {
+        BpmnModel model = BpmnJsonConverterWarmUp.createModel();
+
+        // one bend point, for the intermediate dockers to be covered as well
+        List<GraphicInfo> waypoints = new ArrayList<>(model.getFlowLocationGraphicInfo("gateway-serviceTask"));
+        GraphicInfo bendPoint = new GraphicInfo();
+        bendPoint.setX(270);
+        bendPoint.setY(40);
+        waypoints.add(1, bendPoint);
+        model.addFlowGraphicInfoList("gateway-serviceTask", waypoints);
+
+        return model;
+    }
+
+    private static void assertSameGraphicInfo(final String id, final GraphicInfo expected, final GraphicInfo actual) {
+        assertNotNull(actual, id);
+        assertEquals(expected.getX(), actual.getX(), id);
+        assertEquals(expected.getY(), actual.getY(), id);
+        assertEquals(expected.getWidth(), actual.getWidth(), id);
+        assertEquals(expected.getHeight(), actual.getHeight(), id);
+    }
+
+    private static void assertSameDiagramInterchange(final BpmnModel expected, final BpmnModel actual) {
+        assertEquals(expected.getLocationMap().keySet(), actual.getLocationMap().keySet());
+        for (Map.Entry<String, GraphicInfo> entry : expected.getLocationMap().entrySet()) {
+            assertSameGraphicInfo(entry.getKey(), entry.getValue(), actual.getGraphicInfo(entry.getKey()));
+        }
+
+        assertEquals(expected.getFlowLocationMap().keySet(), actual.getFlowLocationMap().keySet());
+        for (Map.Entry<String, List<GraphicInfo>> entry : expected.getFlowLocationMap().entrySet()) {
+            List<GraphicInfo> actualWaypoints = actual.getFlowLocationGraphicInfo(entry.getKey());
+            assertEquals(entry.getValue().size(), actualWaypoints.size(), entry.getKey());
+            for (int i = 0; i < entry.getValue().size(); i++) {
+                assertSameGraphicInfo(entry.getKey(), entry.getValue().get(i), actualWaypoints.get(i));
+            }
+        }
+
+        assertEquals(expected.getEdgeMap().keySet(), actual.getEdgeMap().keySet());
+        for (Map.Entry<String, BpmnDiEdge> entry : expected.getEdgeMap().entrySet()) {
+            BpmnDiEdge actualEdge = actual.getEdgeMap().get(entry.getKey());
+            assertSameGraphicInfo(
+                    entry.getKey(), entry.getValue().getSourceDockerInfo(), actualEdge.getSourceDockerInfo());
+            assertSameGraphicInfo(
+                    entry.getKey(), entry.getValue().getTargetDockerInfo(), actualEdge.getTargetDockerInfo());
+        }
+    }
+
+    @Test
+    void sameAsFullConversion() {
+        for (BpmnJsonConverterOptions.EditorFormat format : BpmnJsonConverterOptions.EditorFormat.values()) {
+            BpmnJsonConverterOptions options = new BpmnJsonConverterOptions().setEditorFormat(format);
+            BpmnJsonConverter converter = new BpmnJsonConverter(options);
+            byte[] modelJson = converter.convertToBytes(model(), new StandaloneBpmnConverterContext(), options);
+
+            BpmnModel full = converter.convertToBpmnModel(modelJson, new StandaloneBpmnConverterContext(), options);
+            BpmnModel diagramInterchange = converter.readDiagramInterchange(modelJson);
+
+            assertTrue(diagramInterchange.getProcesses().isEmpty());
+            assertEquals(3, diagramInterchange.getFlowLocationGraphicInfo("gateway-serviceTask").size());
+            assertSameDiagramInterchange(full, diagramInterchange);
+        }
+    }
+
+    @Test
+    void bindsCanvas() {
+        byte[] modelJson = BpmnJsonConverterUtil.jsonMapper().writeValueAsBytes(
+                new BpmnJsonConverter().convertToJson(model()));
+        EditorShape canvas = BpmnJsonConverterUtil.editorShapeReader(BpmnJsonConverterOptions.EditorFormat.JSON).
+                readValue(modelJson);
+
+        EditorShape subProcess = canvas.childShapes().stream().
+                filter(shape -> "subProcess".equals(shape.elementId())).
+                findFirst().orElseThrow();
+        assertEquals(StencilConstants.STENCIL_SUB_PROCESS, subProcess.stencilId());
+        assertEquals(300, subProcess.bounds().lowerRight().x() - subProcess.bounds().upperLeft().x());
+        assertEquals(5, subProcess.childShapes().size());
+        assertTrue(subProcess.dockers().isEmpty());
+
+        EditorShape flow = canvas.childShapes().stream().
+                filter(shape -> "gateway-serviceTask".equals(shape.elementId())).
+                findFirst().orElseThrow();
+        assertTrue(flow.isEdge());
+        assertEquals(3, flow.dockers().size());
+        assertNotNull(flow.targetId());
+    }
+
+    @Test
+    void limits() {
+        BpmnJsonConverterOptions options = new BpmnJsonConverterOptions().
+                setLimits(new BpmnJsonConverterLimits().setMaxElements(3));
+        BpmnJsonConverter converter = new BpmnJsonConverter(options);
+        byte[] modelJson = converter.convertToBytes(model(), new StandaloneBpmnConverterContext(), options);
+
+        BpmnJsonConversionLimitException e = assertThrows(
+                BpmnJsonConversionLimitException.class, () -> converter.readDiagramInterchange(modelJson));
+        assertEquals(Limit.ELEMENTS, e.getLimit());
+        assertEquals(4, e.getElements());
+        assertNotNull(e.getResourceId());
+
+        BpmnJsonConverterOptions edgeOptions = new BpmnJsonConverterOptions().
+                setLimits(new BpmnJsonConverterLimits().setMaxDockersPerEdge(2));
+        e = assertThrows(
+                BpmnJsonConversionLimitException.class,
+                () -> converter.readDiagramInterchange(modelJson, edgeOptions));
+        assertEquals(Limit.DOCKERS_PER_EDGE, e.getLimit());
+    }
+}
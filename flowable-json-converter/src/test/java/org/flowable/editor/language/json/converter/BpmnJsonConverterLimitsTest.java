@@ -0,0 +1,205 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.flowable.editor.language.json.converter.BpmnJsonConversionLimitException.Limit;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+class BpmnJsonConverterLimitsTest {
+
+    private static final ObjectNode MODEL_NODE = new BpmnJsonConverter().
+            convertToJson(BpmnJsonConverterWarmUp.createModel());
+
+    /**
+     * Cancelled at the check following the given number of checks only, so that conversion goes on afterwards.
+     */
+    private static final class CountingCancellation extends BpmnJsonConversionCancellation {
+
+        private final int after;
+
+        private int checks;
+
+        private CountingCancellation(final int after) {
+            this.after = after;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return ++checks == after + 1;
+        }
+    }
+
+    private static boolean isEdge(final JsonNode shapeNode) {
+        String stencilId = BpmnJsonConverterUtil.getStencilId(shapeNode);
+        return "SequenceFlow".equals(stencilId) || "Association".equals(stencilId);
+    }
+
+    /**
+     * @return resource ids of the edges, anywhere in the model
+     */
+    private static Set<String> edgeIds() {
+        Set<String> edgeIds = new HashSet<>();
+        Deque<JsonNode> stack = new ArrayDeque<>();
+        MODEL_NODE.get("childShapes").forEach(stack::push);
+        while (!stack.isEmpty()) {
+            JsonNode shapeNode = stack.pop();
+            if (isEdge(shapeNode)) {
+                edgeIds.add(shapeNode.get("resourceId").asString());
+            } else if (shapeNode.has("childShapes")) {
+                shapeNode.get("childShapes").forEach(stack::push);
+            }
+        }
+        return edgeIds;
+    }
+
+    private static int shapeCount() {
+        int shapes = 0;
+        Deque<JsonNode> stack = new ArrayDeque<>();
+        MODEL_NODE.get("childShapes").forEach(stack::push);
+        while (!stack.isEmpty()) {
+            JsonNode shapeNode = stack.pop();
+            if (!isEdge(shapeNode)) {
+                shapes++;
+                if (shapeNode.has("childShapes")) {
+                    shapeNode.get("childShapes").forEach(stack::push);
+                }
+            }
+        }
+        return shapes;
+    }
+
+    private static BpmnJsonConversionLimitException convert(final BpmnJsonConverterLimits limits) {
+        return convert(new BpmnJsonConverterOptions().setLimits(limits));
+    }
+
+    private static BpmnJsonConversionLimitException convert(final BpmnJsonConverterOptions options) {
+        return assertThrows(BpmnJsonConversionLimitException.class, () -> new BpmnJsonConverter().
+                convertToBpmnModel(MODEL_NODE, new StandaloneBpmnConverterContext(), options));
+    }
+
+    @Test
+    void withinLimits() {
+        BpmnJsonConverterLimits limits = new BpmnJsonConverterLimits().
+                setMaxElements(shapeCount()).
+                setMaxEdges(edgeIds().size()).
+                setMaxNestingDepth(2).
+                setTimeout(Duration.ofMinutes(1)).
+                setCancellation(new BpmnJsonConversionCancellation());
+
+        assertNotNull(new BpmnJsonConverter().convertToBpmnModel(
+                MODEL_NODE, new StandaloneBpmnConverterContext(), new BpmnJsonConverterOptions().setLimits(limits)));
+    }
+
+    @Test
+    void maxElements() {
+        BpmnJsonConversionLimitException e = convert(new BpmnJsonConverterLimits().setMaxElements(3));
+
+        assertEquals(Limit.ELEMENTS, e.getLimit());
+        assertEquals(4, e.getElements());
+        assertNotNull(e.getResourceId());
+    }
+
+    @Test
+    void maxNestingDepth() {
+        BpmnJsonConversionLimitException e = convert(new BpmnJsonConverterLimits().setMaxNestingDepth(1));
+
+        assertEquals(Limit.NESTING_DEPTH, e.getLimit());
+        assertEquals(2, e.getNestingDepth());
+        // only the sub-process holds nested shapes
+        assertTrue(Set.of("subStart", "scriptTask", "subEnd").contains(e.getResourceId()), e.getResourceId());
+    }
+
+    @Test
+    void maxInputBytes() {
+        byte[] modelJson = BpmnJsonConverterUtil.jsonMapper().writeValueAsBytes(MODEL_NODE);
+        BpmnJsonConverterOptions options = new BpmnJsonConverterOptions().
+                setLimits(new BpmnJsonConverterLimits().setMaxInputBytes(modelJson.length - 1));
+
+        BpmnJsonConversionLimitException e = assertThrows(BpmnJsonConversionLimitException.class, () ->
+                new BpmnJsonConverter().convertToBpmnModel(modelJson, new StandaloneBpmnConverterContext(), options));
+        assertEquals(Limit.INPUT_BYTES, e.getLimit());
+        assertEquals(0, e.getElements());
+        assertNull(e.getResourceId());
+    }
+
+    @Test
+    void maxEdges() {
+        BpmnJsonConversionLimitException e = convert(new BpmnJsonConverterLimits().setMaxEdges(2));
+
+        assertEquals(Limit.EDGES, e.getLimit());
+        assertEquals(3, e.getEdges());
+        assertEquals(shapeCount(), e.getElements());
+        assertTrue(edgeIds().contains(e.getResourceId()), e.getResourceId());
+    }
+
+    @Test
+    void maxDockersPerEdge() {
+        BpmnJsonConversionLimitException e = convert(new BpmnJsonConverterLimits().setMaxDockersPerEdge(1));
+
+        assertEquals(Limit.DOCKERS_PER_EDGE, e.getLimit());
+        assertEquals(1, e.getEdges());
+        assertTrue(edgeIds().contains(e.getResourceId()), e.getResourceId());
+    }
+
+    @Test
+    void timeout() {
+        BpmnJsonConversionLimitException e = convert(new BpmnJsonConverterLimits().setTimeout(Duration.ofNanos(1)));
+
+        assertEquals(Limit.TIMEOUT, e.getLimit());
+        assertTrue(e.getElapsed().toNanos() >= 1);
+    }
+
+    @Test
+    void cancellation() {
+        BpmnJsonConversionCancellation cancellation = new BpmnJsonConversionCancellation();
+        cancellation.cancel();
+
+        BpmnJsonConversionLimitException e = convert(new BpmnJsonConverterLimits().setCancellation(cancellation));
+        assertEquals(Limit.CANCELLED, e.getLimit());
+        assertEquals(0, e.getElements());
+    }
+
+    @Test
+    void cancellationDuringEdgeDI() {
+        // one check per shape and per edge before edge diagram interchange, then cancelled on the first edge
+        int shapes = shapeCount();
+        Set<String> edgeIds = edgeIds();
+        BpmnJsonConverterLimits limits = new BpmnJsonConverterLimits().
+                setCancellation(new CountingCancellation(shapes + edgeIds.size()));
+
+        // edge diagram interchange runs on the pipeline executor, as soon as submitted; its failure is rethrown when
+        // joined, after the semantic phase
+        Executor direct = Runnable::run;
+        BpmnJsonConversionLimitException e = convert(
+                new BpmnJsonConverterOptions().setLimits(limits).setPipelineExecutor(direct));
+
+        assertEquals(Limit.CANCELLED, e.getLimit());
+        assertEquals(shapes, e.getElements());
+        assertEquals(edgeIds.size(), e.getEdges());
+        assertTrue(edgeIds.contains(e.getResourceId()), e.getResourceId());
+    }
+}
@@ -0,0 +1,123 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.List;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowElementsContainer;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.SubProcess;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.editor.constants.StencilConstants;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+class BpmnJsonConverterNestingTest {
+
+    /**
+     * Deep enough for the former recursive walks to overflow the default thread stack.
+     */
+    private static final int DEPTH = 3000;
+
+    private static GraphicInfo graphicInfo(final double x, final double y, final double width, final double height) {
+        GraphicInfo graphicInfo = new GraphicInfo();
+        graphicInfo.setX(x);
+        graphicInfo.setY(y);
+        graphicInfo.setWidth(width);
+        graphicInfo.setHeight(height);
+        return graphicInfo;
+    }
+
+    /**
+     * @return process with {@link #DEPTH} nested sub-processes, the innermost holding a start event flowing into a
+     * user task
+     */
+    private static BpmnModel createModel() {
+        BpmnModel model = new BpmnModel();
+        Process process = new Process();
+        process.setId("deep");
+        model.addProcess(process);
+
+        double size = 4 * DEPTH + 400;
+        FlowElementsContainer container = process;
+        for (int i = 0; i < DEPTH; i++) {
+            SubProcess subProcess = new SubProcess();
+            subProcess.setId("subProcess" + i);
+            container.addFlowElement(subProcess);
+            model.addGraphicInfo(subProcess.getId(), graphicInfo(2 * i, 2 * i, size - 4 * i, size - 4 * i));
+            container = subProcess;
+        }
+
+        StartEvent start = new StartEvent();
+        start.setId("deepStart");
+        container.addFlowElement(start);
+        model.addGraphicInfo(start.getId(), graphicInfo(2 * DEPTH + 20, 2 * DEPTH + 45, 30, 30));
+
+        UserTask userTask = new UserTask();
+        userTask.setId("deepTask");
+        container.addFlowElement(userTask);
+        model.addGraphicInfo(userTask.getId(), graphicInfo(2 * DEPTH + 100, 2 * DEPTH + 20, 100, 80));
+
+        SequenceFlow sequenceFlow = new SequenceFlow(start.getId(), userTask.getId());
+        sequenceFlow.setId("deepStart-deepTask");
+        container.addFlowElement(sequenceFlow);
+        start.getOutgoingFlows().add(sequenceFlow);
+        userTask.getIncomingFlows().add(sequenceFlow);
+        model.addFlowGraphicInfoList(sequenceFlow.getId(), List.of(
+                graphicInfo(2 * DEPTH + 50, 2 * DEPTH + 60, 0, 0),
+                graphicInfo(2 * DEPTH + 100, 2 * DEPTH + 60, 0, 0)));
+        return model;
+    }
+
+    @Test
+    void deeplyNestedSubProcesses() {
+        BpmnModel model = createModel();
+
+        ObjectNode modelNode = new BpmnJsonConverter().convertToJson(model);
+
+        JsonNode shapeNode = modelNode;
+        for (int i = 0; i < DEPTH; i++) {
+            assertEquals(1, shapeNode.get("childShapes").size());
+            shapeNode = shapeNode.get("childShapes").get(0);
+            assertEquals(StencilConstants.STENCIL_SUB_PROCESS, BpmnJsonConverterUtil.getStencilId(shapeNode));
+        }
+        assertEquals(3, shapeNode.get("childShapes").size());
+
+        BpmnModel converted = new BpmnJsonConverter().convertToBpmnModel(modelNode);
+
+        FlowElementsContainer container = converted.getMainProcess();
+        for (int i = 0; i < DEPTH; i++) {
+            assertEquals(1, container.getFlowElements().size());
+            container = assertInstanceOf(SubProcess.class, container.getFlowElement("subProcess" + i));
+        }
+        assertInstanceOf(StartEvent.class, container.getFlowElement("deepStart"));
+        assertInstanceOf(UserTask.class, container.getFlowElement("deepTask"));
+        SequenceFlow sequenceFlow = assertInstanceOf(
+                SequenceFlow.class, container.getFlowElement("deepStart-deepTask"));
+        assertEquals("deepTask", sequenceFlow.getTargetRef());
+
+        GraphicInfo graphicInfo = converted.getGraphicInfo("deepTask");
+        assertNotNull(graphicInfo);
+        assertEquals(model.getGraphicInfo("deepTask").getX(), graphicInfo.getX());
+        assertEquals(model.getGraphicInfo("deepTask").getY(), graphicInfo.getY());
+        assertNotNull(converted.getFlowLocationGraphicInfo("deepStart-deepTask"));
+    }
+}
@@ -0,0 +1,66 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.node.ObjectNode;
+
+class BpmnJsonConverterPipelineTest {
+
+    private static final ObjectNode MODEL_NODE = new BpmnJsonConverter().
+            convertToJson(BpmnJsonConverterWarmUp.createModel());
+
+    private static byte[] convert(final Executor executor) {
+        BpmnJsonConverterOptions options = new BpmnJsonConverterOptions().setPipelineExecutor(executor);
+        return new BpmnXMLConverter().convertToXML(new BpmnJsonConverter().
+                convertToBpmnModel(MODEL_NODE, new StandaloneBpmnConverterContext(), options));
+    }
+
+    @Test
+    void sameAsSequential() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertArrayEquals(convert(null), convert(executor));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void saturatedExecutor() {
+        // tasks are queued but never run, as by a pool whose threads all wait for conversions
+        Executor saturated = task -> {
+        };
+        byte[] expected = convert(null);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> assertArrayEquals(expected, convert(saturated)));
+    }
+
+    @Test
+    void rejectingExecutor() {
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException();
+        };
+
+        assertArrayEquals(convert(null), convert(rejecting));
+    }
+}
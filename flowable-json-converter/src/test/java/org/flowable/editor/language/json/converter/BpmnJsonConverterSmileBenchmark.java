@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Size and throughput of the Smile editor format against JSON, encoding and decoding; run with {@code -Pbenchmark}.
+ */
+@Tag("benchmark")
+class BpmnJsonConverterSmileBenchmark {
+
+    private static final int ITERATIONS = 20_000;
+
+    private static final int ROUNDS = 5;
+
+    private static byte[] encode(final BpmnModel model, final BpmnJsonConverterOptions options) {
+        return new BpmnJsonConverter().convertToBytes(model, new StandaloneBpmnConverterContext(), options);
+    }
+
+    private static long[] measure(final BpmnModel model, final BpmnJsonConverterOptions options) {
+        BpmnJsonConverter converter = new BpmnJsonConverter(options);
+        StandaloneBpmnConverterContext context = new StandaloneBpmnConverterContext();
+        byte[] encoded = converter.convertToBytes(model, context, options);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            converter.convertToBytes(model, context, options);
+        }
+        long encoding = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            converter.convertToBpmnModel(encoded, context, options);
+        }
+        long decoding = System.nanoTime() - start;
+
+        return new long[] { encoded.length, encoding, decoding };
+    }
+
+    @Test
+    void smileVersusJson() {
+        BpmnModel model = BpmnJsonConverterWarmUp.createModel();
+        BpmnJsonConverterOptions json = new BpmnJsonConverterOptions();
+        BpmnJsonConverterOptions smile = new BpmnJsonConverterOptions().
+                setEditorFormat(BpmnJsonConverterOptions.EditorFormat.SMILE);
+
+        // same model either way
+        assertArrayEquals(
+                BpmnJsonConverterWithoutDiagramInterchangeTest.withoutDiagramInterchange(new BpmnJsonConverter().
+                        convertToBpmnModel(encode(model, json), new StandaloneBpmnConverterContext(), json)),
+                BpmnJsonConverterWithoutDiagramInterchangeTest.withoutDiagramInterchange(new BpmnJsonConverter().
+                        convertToBpmnModel(encode(model, smile), new StandaloneBpmnConverterContext(), smile)));
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long[] jsonMeasure = measure(model, json);
+            long[] smileMeasure = measure(model, smile);
+
+            System.out.printf("round %d: JSON %d bytes, encode %d ms, decode %d ms; "
+                    + "Smile %d bytes (%.0f%%), encode %d ms, decode %d ms%n",
+                    round,
+                    jsonMeasure[0], jsonMeasure[1] / 1_000_000, jsonMeasure[2] / 1_000_000,
+                    smileMeasure[0], 100.0 * smileMeasure[0] / jsonMeasure[0],
+                    smileMeasure[1] / 1_000_000, smileMeasure[2] / 1_000_000);
+        }
+    }
+}
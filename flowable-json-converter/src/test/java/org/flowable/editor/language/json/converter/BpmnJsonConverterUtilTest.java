@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.editor.language.json.converter.util.ShapePropertyView;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+class BpmnJsonConverterUtilTest {
+
+    private static ObjectNode shape(final ObjectNode modelNode, final String resourceId) {
+        for (JsonNode shapeNode : modelNode.get("childShapes")) {
+            if (resourceId.equals(shapeNode.get("resourceId").asString())) {
+                return (ObjectNode) shapeNode;
+            }
+        }
+        throw new IllegalArgumentException(resourceId);
+    }
+
+    @Test
+    void elementId() {
+        ObjectNode shapeNode = BpmnJsonConverterUtil.jsonMapper().createObjectNode().put("resourceId", "shape");
+        ObjectNode propertiesNode = shapeNode.putObject("properties");
+
+        assertEquals("shape", BpmnJsonConverterUtil.getElementId(shapeNode));
+
+        for (String absent : new String[] { "", "null", "NULL" }) {
+            propertiesNode.put("overrideid", absent);
+            assertEquals("shape", BpmnJsonConverterUtil.getElementId(shapeNode), absent);
+            assertEquals("shape", new ShapePropertyView(shapeNode).getElementId(), absent);
+        }
+
+        propertiesNode.putNull("overrideid");
+        assertEquals("shape", BpmnJsonConverterUtil.getElementId(shapeNode));
+        assertEquals("shape", new ShapePropertyView(shapeNode).getElementId());
+
+        propertiesNode.put("overrideid", " task ");
+        assertEquals("task", BpmnJsonConverterUtil.getElementId(shapeNode));
+        assertEquals("task", new ShapePropertyView(shapeNode).getElementId());
+    }
+
+    @Test
+    void textualNullOverrideId() {
+        ObjectNode modelNode = new BpmnJsonConverter().convertToJson(BpmnJsonConverterWarmUp.createModel());
+        ObjectNode startNode = shape(modelNode, "start");
+        startNode.put("resourceId", "startShape");
+        ((ObjectNode) startNode.get("properties")).put("overrideid", "null");
+
+        BpmnModel model = new BpmnJsonConverter().convertToBpmnModel(modelNode);
+
+        // element, graphic info and flow refs all agree on the resource id
+        assertNotNull(model.getMainProcess().getFlowElement("startShape"));
+        assertNull(model.getMainProcess().getFlowElement("null"));
+        assertNotNull(model.getGraphicInfo("startShape"));
+        assertNull(model.getGraphicInfo("null"));
+
+        SequenceFlow flow = (SequenceFlow) model.getMainProcess().getFlowElement("start-userTask");
+        assertEquals("startShape", flow.getSourceRef());
+        assertNotNull(model.getFlowLocationGraphicInfo("start-userTask"));
+    }
+}
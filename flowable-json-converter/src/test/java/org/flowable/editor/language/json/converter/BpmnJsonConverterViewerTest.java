@@ -0,0 +1,198 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.bpmn.model.Lane;
+import org.flowable.bpmn.model.Pool;
+import org.flowable.bpmn.model.Process;
+import org.flowable.editor.constants.StencilConstants;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+class BpmnJsonConverterViewerTest {
+
+    private static Set<String> keys(final JsonNode objectNode) {
+        return objectNode.properties().stream().map(Map.Entry::getKey).collect(Collectors.toSet());
+    }
+
+    private static JsonNode shape(final JsonNode modelNode, final String resourceId) {
+        Deque<JsonNode> stack = new ArrayDeque<>();
+        stack.push(modelNode);
+        while (!stack.isEmpty()) {
+            JsonNode shapeNode = stack.pop();
+            if (resourceId.equals(shapeNode.get("resourceId").asString())) {
+                return shapeNode;
+            }
+            shapeNode.get("childShapes").forEach(stack::push);
+        }
+        throw new IllegalArgumentException(resourceId);
+    }
+
+    /**
+     * Checks that the viewer export has the same shapes, with the same keys, bounds, dockers and connections, as the
+     * full export, while its properties are the full ones restricted to the given retained properties.
+     *
+     * @return number of shapes compared
+     */
+    private static int assertViewerOf(final JsonNode full, final JsonNode viewer, final Set<String> retained) {
+        int shapes = 0;
+        Deque<JsonNode[]> stack = new ArrayDeque<>();
+        stack.push(new JsonNode[] { full, viewer });
+        while (!stack.isEmpty()) {
+            JsonNode[] pair = stack.pop();
+            JsonNode fullShape = pair[0];
+            JsonNode viewerShape = pair[1];
+            String resourceId = fullShape.get("resourceId").asString();
+            shapes++;
+
+            assertEquals(keys(fullShape), keys(viewerShape), resourceId);
+            for (String key : keys(fullShape)) {
+                if (!"properties".equals(key) && !"childShapes".equals(key)) {
+                    assertEquals(fullShape.get(key), viewerShape.get(key), resourceId + '.' + key);
+                }
+            }
+
+            JsonNode viewerProperties = viewerShape.get("properties");
+            assertTrue(retained.containsAll(keys(viewerProperties)), resourceId + ": " + keys(viewerProperties));
+            assertEquals(((ObjectNode) fullShape.get("properties")).deepCopy().retain(retained), viewerProperties,
+                    resourceId);
+
+            JsonNode fullChildren = fullShape.get("childShapes");
+            JsonNode viewerChildren = viewerShape.get("childShapes");
+            assertEquals(fullChildren.size(), viewerChildren.size(), resourceId);
+            for (int i = 0; i < fullChildren.size(); i++) {
+                stack.push(new JsonNode[] { fullChildren.get(i), viewerChildren.get(i) });
+            }
+        }
+        return shapes;
+    }
+
+    @Test
+    void lightweight() {
+        BpmnModel model = BpmnJsonConverterWarmUp.createModel();
+        BpmnJsonConverterOptions options = BpmnJsonConverterOptions.viewer();
+        assertTrue(options.isLightweightExport());
+
+        ObjectNode full = new BpmnJsonConverter().convertToJson(model);
+        ObjectNode viewer = new BpmnJsonConverter(options).convertToJson(model);
+
+        // canvas, 10 shapes and 9 flows
+        assertEquals(20, assertViewerOf(full, viewer, options.getRetainedViewerProperties()));
+
+        assertEquals(
+                Set.of(StencilConstants.PROPERTY_PROCESS_ID, StencilConstants.PROPERTY_NAME),
+                keys(viewer.get("properties")));
+        assertEquals(
+                Set.of(StencilConstants.PROPERTY_OVERRIDE_ID, StencilConstants.PROPERTY_NAME),
+                keys(shape(viewer, "userTask").get("properties")));
+        assertEquals(
+                Set.of(StencilConstants.PROPERTY_OVERRIDE_ID, StencilConstants.PROPERTY_SEQUENCEFLOW_DEFAULT),
+                keys(shape(viewer, "gateway-subProcess").get("properties")));
+        assertEquals(
+                Set.of(StencilConstants.PROPERTY_OVERRIDE_ID),
+                keys(shape(viewer, "gateway-serviceTask").get("properties")));
+        assertTrue(shape(full, "gateway-serviceTask").get("properties").
+                has(StencilConstants.PROPERTY_SEQUENCEFLOW_CONDITION));
+    }
+
+    @Test
+    void whitelist() {
+        BpmnModel model = BpmnJsonConverterWarmUp.createModel();
+        BpmnJsonConverterOptions options = BpmnJsonConverterOptions.viewer(
+                StencilConstants.PROPERTY_FORMKEY, StencilConstants.PROPERTY_SEQUENCEFLOW_CONDITION);
+        assertFalse(options.isLightweightExport());
+
+        ObjectNode full = new BpmnJsonConverter().convertToJson(model);
+        ObjectNode viewer = new BpmnJsonConverter(options).convertToJson(model);
+
+        assertEquals(20, assertViewerOf(full, viewer, options.getRetainedViewerProperties()));
+
+        JsonNode userTaskProperties = shape(viewer, "userTask").get("properties");
+        assertEquals(
+                Set.of(StencilConstants.PROPERTY_OVERRIDE_ID, StencilConstants.PROPERTY_NAME,
+                        StencilConstants.PROPERTY_FORMKEY),
+                keys(userTaskProperties));
+        assertEquals("warmUpForm", userTaskProperties.get(StencilConstants.PROPERTY_FORMKEY).asString());
+        assertTrue(shape(viewer, "gateway-serviceTask").get("properties").
+                has(StencilConstants.PROPERTY_SEQUENCEFLOW_CONDITION));
+        assertFalse(shape(viewer, "scriptTask").get("properties").has(StencilConstants.PROPERTY_SCRIPT_TEXT));
+    }
+
+    @Test
+    void poolsAndLanes() {
+        BpmnModel model = BpmnJsonConverterWarmUp.createModel();
+        Process process = model.getMainProcess();
+
+        Pool pool = new Pool();
+        pool.setId("pool");
+        pool.setName("pool");
+        pool.setProcessRef(process.getId());
+        pool.setExecutable(false);
+        model.getPools().add(pool);
+        model.addGraphicInfo(pool.getId(), graphicInfo(-60, -20, 900, 400));
+
+        Lane lane = new Lane();
+        lane.setId("lane");
+        lane.setName("lane");
+        lane.setParentProcess(process);
+        for (FlowElement flowElement : process.getFlowElements()) {
+            lane.getFlowReferences().add(flowElement.getId());
+        }
+        process.getLanes().add(lane);
+        model.addGraphicInfo(lane.getId(), graphicInfo(-30, -20, 870, 400));
+
+        BpmnJsonConverterOptions options = BpmnJsonConverterOptions.viewer();
+        ObjectNode full = new BpmnJsonConverter().convertToJson(model);
+        ObjectNode viewer = new BpmnJsonConverter(options).convertToJson(model);
+
+        assertEquals(22, assertViewerOf(full, viewer, options.getRetainedViewerProperties()));
+
+        assertTrue(shape(full, "pool").get("properties").has(StencilConstants.PROPERTY_IS_EXECUTABLE));
+        assertEquals(
+                Set.of(StencilConstants.PROPERTY_OVERRIDE_ID, StencilConstants.PROPERTY_PROCESS_ID,
+                        StencilConstants.PROPERTY_NAME),
+                keys(shape(viewer, "pool").get("properties")));
+
+        JsonNode laneNode = shape(viewer, "lane");
+        assertEquals(
+                Set.of(StencilConstants.PROPERTY_OVERRIDE_ID, StencilConstants.PROPERTY_NAME),
+                keys(laneNode.get("properties")));
+        List<String> laneChildren = laneNode.get("childShapes").valueStream().
+                map(child -> child.get("resourceId").asString()).toList();
+        assertTrue(laneChildren.containsAll(List.of("start", "userTask", "timer", "subProcess", "start-userTask")),
+                laneChildren.toString());
+    }
+
+    private static GraphicInfo graphicInfo(final double x, final double y, final double width, final double height) {
+        GraphicInfo graphicInfo = new GraphicInfo();
+        graphicInfo.setX(x);
+        graphicInfo.setY(y);
+        graphicInfo.setWidth(width);
+        graphicInfo.setHeight(height);
+        return graphicInfo;
+    }
+}
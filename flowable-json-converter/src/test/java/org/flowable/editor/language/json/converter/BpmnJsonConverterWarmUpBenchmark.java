@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import org.flowable.bpmn.model.BpmnModel;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Time to first conversion in a fresh JVM, with and without {@link BpmnJsonConverter#warmUp()}; each measure is taken
+ * by a dedicated child JVM, as classes loaded by the surrounding tests would otherwise hide the cold start. Run with
+ * {@code -Pbenchmark}.
+ */
+@Tag("benchmark")
+class BpmnJsonConverterWarmUpBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    private static final int MEASURED = 20;
+
+    /**
+     * Child JVM entry point: prints warm-up time, first conversion time and average time of the next conversions, all
+     * in microseconds.
+     *
+     * @param args {@code true} to warm up before the first conversion
+     */
+    public static void main(final String[] args) {
+        BpmnModel model = BpmnJsonConverterWarmUp.createModel();
+
+        long start = System.nanoTime();
+        BpmnJsonConverter converter = new BpmnJsonConverter();
+        if (Boolean.parseBoolean(args[0])) {
+            converter.warmUp();
+        }
+        long warmUp = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        converter.convertToBpmnModel(converter.convertToJson(model));
+        long first = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED; i++) {
+            converter.convertToBpmnModel(converter.convertToJson(model));
+        }
+        long next = (System.nanoTime() - start) / MEASURED;
+
+        System.out.println(warmUp / 1_000 + " " + first / 1_000 + " " + next / 1_000);
+    }
+
+    private static long[] fork(final boolean warmUp) throws Exception {
+        Process process = new ProcessBuilder(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                BpmnJsonConverterWarmUpBenchmark.class.getName(),
+                String.valueOf(warmUp))).
+                redirectError(ProcessBuilder.Redirect.INHERIT).
+                start();
+
+        String line;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+
+            line = reader.readLine();
+        }
+        assertEquals(0, process.waitFor());
+
+        String[] values = line.trim().split(" ");
+        return new long[] { Long.parseLong(values[0]), Long.parseLong(values[1]), Long.parseLong(values[2]) };
+    }
+
+    @Test
+    void timeToFirstConversion() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            long[] cold = fork(false);
+            long[] warm = fork(true);
+
+            System.out.printf("round %d: cold first %d us, next %d us; "
+                    + "warmed up in %d us, then first %d us, next %d us%n",
+                    round,
+                    cold[1], cold[2],
+                    warm[0], warm[1], warm[2]);
+        }
+    }
+}
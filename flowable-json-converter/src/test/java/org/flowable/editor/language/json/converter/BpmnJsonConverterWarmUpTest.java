@@ -0,0 +1,44 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class BpmnJsonConverterWarmUpTest {
+
+    @Test
+    void configuredOptionsLeftUntouched() {
+        BpmnExpressionCatalog catalog = new BpmnExpressionCatalog();
+        BpmnModelCanonicalizer canonicalizer = new BpmnModelCanonicalizer();
+        BpmnJsonConverterOptions options = new BpmnJsonConverterOptions().
+                setExpressionCatalog(catalog).
+                setCanonicalizer(canonicalizer).
+                setLimits(new BpmnJsonConverterLimits().setMaxElements(1));
+        BpmnJsonConverter converter = new BpmnJsonConverter(options);
+
+        // the built-in model has more than one element, so that warming up with these limits would fail
+        converter.warmUp(2);
+
+        assertEquals(0, catalog.size());
+        assertEquals(0, canonicalizer.getSavedBytes());
+
+        // the same catalog does get filled by an actual conversion of the built-in model
+        BpmnJsonConverter unlimited = new BpmnJsonConverter(
+                new BpmnJsonConverterOptions().setExpressionCatalog(catalog));
+        unlimited.convertToBpmnModel(unlimited.convertToJson(BpmnJsonConverterWarmUp.createModel()));
+        assertTrue(catalog.size() > 0);
+    }
+}
@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Conversion to BPMN model with and without diagram interchange; run with {@code -Pbenchmark}.
+ */
+@Tag("benchmark")
+class BpmnJsonConverterWithoutDiagramInterchangeBenchmark {
+
+    private static final int ITERATIONS = 20_000;
+
+    private static final int ROUNDS = 5;
+
+    @Test
+    void withVersusWithout() {
+        ObjectNode modelNode = new BpmnJsonConverter().convertToJson(BpmnJsonConverterWarmUp.createModel());
+        BpmnJsonConverter withDI = new BpmnJsonConverter();
+        BpmnJsonConverter withoutDI = new BpmnJsonConverter(BpmnJsonConverterOptions.executableOnly());
+
+        // same executable model either way
+        assertArrayEquals(
+                BpmnJsonConverterWithoutDiagramInterchangeTest.withoutDiagramInterchange(
+                        withDI.convertToBpmnModel(modelNode)),
+                new BpmnXMLConverter().convertToXML(withoutDI.convertToBpmnModel(modelNode)));
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                withDI.convertToBpmnModel(modelNode);
+            }
+            long withTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                withoutDI.convertToBpmnModel(modelNode);
+            }
+            long withoutTime = System.nanoTime() - start;
+
+            System.out.printf("round %d: with DI %d ms, without DI %d ms, speedup %.2fx%n",
+                    round, withTime / 1_000_000, withoutTime / 1_000_000, (double) withTime / withoutTime);
+        }
+    }
+}
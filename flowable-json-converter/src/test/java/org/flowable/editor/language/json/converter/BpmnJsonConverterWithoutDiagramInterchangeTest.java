@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.node.ObjectNode;
+
+class BpmnJsonConverterWithoutDiagramInterchangeTest {
+
+    static byte[] withoutDiagramInterchange(final BpmnModel model) {
+        model.getLocationMap().clear();
+        model.getFlowLocationMap().clear();
+        model.getEdgeMap().clear();
+        return new BpmnXMLConverter().convertToXML(model);
+    }
+
+    @Test
+    void differsOnlyInDiagramInterchange() {
+        ObjectNode modelNode = new BpmnJsonConverter().convertToJson(BpmnJsonConverterWarmUp.createModel());
+
+        BpmnModel withDI = new BpmnJsonConverter().convertToBpmnModel(modelNode);
+        BpmnModel withoutDI = new BpmnJsonConverter(BpmnJsonConverterOptions.executableOnly()).
+                convertToBpmnModel(modelNode);
+
+        assertFalse(withDI.getLocationMap().isEmpty());
+        assertFalse(withDI.getFlowLocationMap().isEmpty());
+        assertTrue(withoutDI.getLocationMap().isEmpty());
+        assertTrue(withoutDI.getFlowLocationMap().isEmpty());
+        assertTrue(withoutDI.getEdgeMap().isEmpty());
+
+        byte[] withoutDIXml = new BpmnXMLConverter().convertToXML(withoutDI);
+        assertArrayEquals(withoutDiagramInterchange(withDI), withoutDIXml);
+    }
+}
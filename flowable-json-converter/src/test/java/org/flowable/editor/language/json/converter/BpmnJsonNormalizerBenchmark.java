@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Conversion of normalized models against the legacy ones they were normalized from; run with {@code -Pbenchmark}.
+ */
+@Tag("benchmark")
+class BpmnJsonNormalizerBenchmark {
+
+    private static final int ITERATIONS = 5_000;
+
+    private static final int ROUNDS = 5;
+
+    private static long time(final BpmnJsonConverter converter, final byte[] modelJson) {
+        BpmnJsonConverterOptions options = new BpmnJsonConverterOptions();
+        StandaloneBpmnConverterContext context = new StandaloneBpmnConverterContext();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            converter.convertToBpmnModel(modelJson, context, options);
+        }
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    void normalizedVersusLegacy() {
+        BpmnJsonConverter converter = new BpmnJsonConverter();
+        byte[] legacy = BpmnJsonConverterUtil.jsonMapper().writeValueAsBytes(BpmnJsonNormalizerTest.legacyModel());
+        byte[] normalized = BpmnJsonConverterUtil.jsonMapper().writeValueAsBytes(
+                new BpmnJsonNormalizer().normalize(BpmnJsonConverterUtil.jsonMapper().readTree(legacy)));
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long legacyTime = time(converter, legacy);
+            long normalizedTime = time(converter, normalized);
+
+            System.out.printf("round %d: %d conversions, legacy %d ms, normalized %d ms%n",
+                    round, ITERATIONS, legacyTime / 1_000_000, normalizedTime / 1_000_000);
+        }
+    }
+}
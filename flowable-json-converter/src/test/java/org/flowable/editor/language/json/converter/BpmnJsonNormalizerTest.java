@@ -0,0 +1,135 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowableListener;
+import org.flowable.bpmn.model.ImplementationType;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.editor.constants.EditorJsonConstants;
+import org.flowable.editor.constants.StencilConstants;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+class BpmnJsonNormalizerTest implements EditorJsonConstants, StencilConstants {
+
+    private static FlowableListener listener(final String event) {
+        FlowableListener listener = new FlowableListener();
+        listener.setEvent(event);
+        listener.setImplementationType(ImplementationType.IMPLEMENTATION_TYPE_EXPRESSION);
+        listener.setImplementation("${audit.log(execution)}");
+        return listener;
+    }
+
+    /**
+     * @return editor model as saved by older modelers: listeners are stored as JSON-encoded strings, twice
+     */
+    static ObjectNode legacyModel() {
+        BpmnModel model = BpmnJsonConverterWarmUp.createModel();
+        model.getMainProcess().getExecutionListeners().add(listener("start"));
+        UserTask userTask = (UserTask) model.getMainProcess().getFlowElement("userTask");
+        userTask.getTaskListeners().add(listener("create"));
+        userTask.getExecutionListeners().add(listener("end"));
+
+        ObjectNode modelNode = new BpmnJsonConverter().convertToJson(model);
+
+        Deque<JsonNode> stack = new ArrayDeque<>();
+        stack.push(modelNode);
+        while (!stack.isEmpty()) {
+            JsonNode shapeNode = stack.pop();
+            if (shapeNode.get(EDITOR_SHAPE_PROPERTIES) instanceof ObjectNode propertiesNode) {
+                for (String name : List.of(PROPERTY_EXECUTION_LISTENERS, PROPERTY_TASK_LISTENERS)) {
+                    JsonNode value = propertiesNode.get(name);
+                    if (value != null && value.isObject()) {
+                        propertiesNode.put(name, BpmnJsonConverterUtil.jsonMapper().writeValueAsString(
+                                BpmnJsonConverterUtil.jsonMapper().writeValueAsString(value)));
+                    }
+                }
+            }
+            BpmnJsonConverterUtil.pushChildShapes(stack, shapeNode.get(EDITOR_CHILD_SHAPES));
+        }
+        return modelNode;
+    }
+
+    private static List<String> names(final JsonNode objectNode) {
+        return objectNode.properties().stream().map(Map.Entry::getKey).toList();
+    }
+
+    private static byte[] xml(final JsonNode modelNode) {
+        return new BpmnXMLConverter().convertToXML(new BpmnJsonConverter().convertToBpmnModel(modelNode));
+    }
+
+    @Test
+    void sameModel() {
+        ObjectNode legacy = legacyModel();
+        JsonNode normalized = new BpmnJsonNormalizer().normalize(legacy);
+
+        JsonNode userTaskProperties = null;
+        for (JsonNode shapeNode : normalized.get(EDITOR_CHILD_SHAPES)) {
+            if ("userTask".equals(BpmnJsonConverterUtil.getElementId(shapeNode))) {
+                userTaskProperties = shapeNode.get(EDITOR_SHAPE_PROPERTIES);
+            }
+        }
+        assertTrue(userTaskProperties.get(PROPERTY_TASK_LISTENERS).isObject());
+        assertTrue(userTaskProperties.get(PROPERTY_EXECUTION_LISTENERS).isObject());
+        assertTrue(normalized.get(EDITOR_SHAPE_PROPERTIES).get(PROPERTY_EXECUTION_LISTENERS).isObject());
+
+        assertArrayEquals(xml(legacy), xml(normalized));
+    }
+
+    @Test
+    void sortedKeys() {
+        ObjectNode modelNode = BpmnJsonConverterUtil.jsonMapper().createObjectNode();
+        modelNode.put("stencil", "x").put("bounds", "y");
+        modelNode.putObject("properties").put("name", "n").put("documentation", "d");
+
+        JsonNode normalized = new BpmnJsonNormalizer().normalize(modelNode);
+        assertEquals(List.of("bounds", "properties", "stencil"), names(normalized));
+        assertEquals(List.of("documentation", "name"), names(normalized.get("properties")));
+    }
+
+    @Test
+    void deeplyNested() {
+        int depth = 20_000;
+        ObjectNode modelNode = BpmnJsonConverterUtil.jsonMapper().createObjectNode();
+        ObjectNode shapeNode = modelNode;
+        for (int i = 0; i < depth; i++) {
+            ArrayNode childShapesNode = shapeNode.putArray(EDITOR_CHILD_SHAPES);
+            shapeNode = childShapesNode.addObject();
+            shapeNode.put(EDITOR_SHAPE_ID, "shape" + i);
+        }
+
+        JsonNode normalized = new BpmnJsonNormalizer().normalize(modelNode);
+
+        List<String> ids = new ArrayList<>();
+        JsonNode current = normalized;
+        while (current.has(EDITOR_CHILD_SHAPES)) {
+            current = current.get(EDITOR_CHILD_SHAPES).get(0);
+            ids.add(current.get(EDITOR_SHAPE_ID).asString());
+        }
+        assertEquals(depth, ids.size());
+        assertEquals("shape" + (depth - 1), ids.getLast());
+    }
+}
@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.flowable.editor.language.json.converter.BpmnJsonReferenceRewriter.ReferenceType;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+
+class BpmnJsonReferenceRewriterTest {
+
+    private static String callActivity(final String id, final String properties) {
+        return "{\"resourceId\":\"" + id + "\",\"stencil\":{\"id\":\"CallActivity\"},\"properties\":{" + properties
+                + ",\"callactivityinheritvariables\":true},\"childShapes\":[]}";
+    }
+
+    private static String model(final String... shapes) {
+        return "{\"resourceId\":\"canvas\",\"properties\":{\"process_id\":\"process\"},"
+                + "\"bounds\":{\"upperLeft\":{\"x\":0,\"y\":0},"
+                + "\"lowerRight\":{\"x\":1200.123456789012345678,\"y\":1050}},"
+                + "\"childShapes\":[" + String.join(",", shapes) + "]}";
+    }
+
+    private static JsonNode tree(final String json) {
+        return BpmnJsonConverterUtil.jsonMapper().readTree(json);
+    }
+
+    private static BpmnJsonReferenceRewriter rewriter() {
+        return new BpmnJsonReferenceRewriter().
+                mapKey(ReferenceType.PROCESS, "called", "renamed").
+                mapId(ReferenceType.FORM, "form1", "form2").
+                mapKey(ReferenceType.FORM, "formKey1", "formKey2");
+    }
+
+    private static String rewrite(final BpmnJsonReferenceRewriter rewriter, final String json) {
+        return new String(rewriter.rewrite(json.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void calledElementByKey() {
+        String json = model(
+                callActivity("typeAfter",
+                        "\"callactivitycalledelement\":\"called\",\"callactivitycalledelementtype\":\"key\""),
+                callActivity("typeBefore",
+                        "\"callactivitycalledelementtype\":\"key\",\"callactivitycalledelement\":\"called\""),
+                callActivity("noType", "\"callactivitycalledelement\":\"called\""));
+
+        String expected = json.replace("\"called\"", "\"renamed\"");
+        assertEquals(tree(expected), tree(rewrite(rewriter(), json)));
+    }
+
+    @Test
+    void calledElementById() {
+        String json = model(
+                callActivity("typeAfter",
+                        "\"callactivitycalledelement\":\"called\",\"callactivitycalledelementtype\":\"id\""),
+                callActivity("typeBefore",
+                        "\"callactivitycalledelementtype\":\"id\",\"callactivitycalledelement\":\"called\""));
+
+        assertEquals(tree(json), tree(rewrite(rewriter(), json)));
+        assertEquals(0, rewriter().rewrite(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void formReference() {
+        String json = model("{\"resourceId\":\"task\",\"stencil\":{\"id\":\"UserTask\"},\"properties\":"
+                + "{\"formreference\":{\"id\":\"form1\",\"key\":\"formKey1\",\"name\":\"form1\"}},\"childShapes\":[]}");
+
+        String expected = json.replace("\"id\":\"form1\"", "\"id\":\"form2\"").replace("formKey1", "formKey2");
+        assertEquals(tree(expected), tree(rewrite(rewriter(), json)));
+    }
+
+    @Test
+    void exactNumbers() {
+        String json = model(callActivity("noType", "\"callactivitycalledelement\":\"called\""));
+
+        assertTrue(rewrite(rewriter(), json).contains("1200.123456789012345678"));
+    }
+}
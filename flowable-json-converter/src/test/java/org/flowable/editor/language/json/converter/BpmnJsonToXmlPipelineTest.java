@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import org.flowable.bpmn.model.BpmnModel;
+import org.junit.jupiter.api.Test;
+
+class BpmnJsonToXmlPipelineTest {
+
+    private static byte[] json(final double endX) {
+        BpmnModel model = BpmnJsonConverterWarmUp.createModel();
+        model.getGraphicInfo("end").setX(endX);
+        return BpmnJsonConverterUtil.jsonMapper().writeValueAsBytes(new BpmnJsonConverter().convertToJson(model));
+    }
+
+    private static BpmnJsonToXmlPipeline pipeline(final BpmnJsonConverterOptions options) {
+        return new BpmnJsonToXmlPipeline(new BpmnJsonConverter(), new StandaloneBpmnConverterContext(), options);
+    }
+
+    @Test
+    void skipUnchanged() {
+        BpmnJsonToXmlPipeline pipeline = pipeline(new BpmnJsonConverterOptions());
+
+        ByteArrayOutputStream xml = new ByteArrayOutputStream();
+        BpmnModelFingerprint previous = pipeline.convert(json(700), xml, null);
+        assertTrue(xml.size() > 0);
+
+        xml.reset();
+        assertEquals(previous, pipeline.convert(json(700), xml, previous));
+        assertEquals(0, xml.size());
+    }
+
+    @Test
+    void layoutChangeWithDiagramInterchange() {
+        BpmnJsonToXmlPipeline pipeline = pipeline(new BpmnJsonConverterOptions());
+        BpmnModelFingerprint previous = pipeline.convert(json(700), new ByteArrayOutputStream(), null);
+
+        ByteArrayOutputStream xml = new ByteArrayOutputStream();
+        BpmnModelFingerprint fingerprint = pipeline.convert(json(720), xml, previous);
+        assertEquals(previous.semanticHash(), fingerprint.semanticHash());
+        assertNotEquals(previous.layoutHash(), fingerprint.layoutHash());
+        assertTrue(xml.size() > 0);
+    }
+
+    @Test
+    void layoutChangeWithoutDiagramInterchange() {
+        BpmnJsonToXmlPipeline pipeline = pipeline(BpmnJsonConverterOptions.executableOnly());
+        BpmnModelFingerprint previous = pipeline.convert(json(700), new ByteArrayOutputStream(), null);
+
+        ByteArrayOutputStream xml = new ByteArrayOutputStream();
+        pipeline.convert(json(720), xml, previous);
+        assertEquals(0, xml.size());
+    }
+
+    @Test
+    void maxInputBytes() {
+        byte[] json = json(700);
+        BpmnJsonToXmlPipeline pipeline = pipeline(new BpmnJsonConverterOptions().
+                setLimits(new BpmnJsonConverterLimits().setMaxInputBytes(json.length / 2)));
+
+        assertThrows(BpmnJsonConversionLimitException.class,
+                () -> pipeline.convert(json, new ByteArrayOutputStream(), null));
+        assertThrows(BpmnJsonConversionLimitException.class,
+                () -> pipeline.convert(new ByteArrayInputStream(json), new ByteArrayOutputStream(), null));
+    }
+}
@@ -0,0 +1,166 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BoundaryEvent;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FieldExtension;
+import org.flowable.bpmn.model.Message;
+import org.flowable.bpmn.model.MessageEventDefinition;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SendTask;
+import org.flowable.bpmn.model.ServiceTask;
+import org.flowable.bpmn.model.Signal;
+import org.flowable.bpmn.model.SignalEventDefinition;
+import org.flowable.bpmn.model.TaskWithFieldExtensions;
+import org.junit.jupiter.api.Test;
+
+class BpmnModelCanonicalizerTest {
+
+    private static String fresh(final String value) {
+        return new String(value.toCharArray());
+    }
+
+    private static FieldExtension field(final String name, final String value) {
+        FieldExtension field = new FieldExtension();
+        field.setFieldName(fresh(name));
+        field.setStringValue(fresh(value));
+        return field;
+    }
+
+    private static BpmnModel model() {
+        BpmnModel model = new BpmnModel();
+        model.setTargetNamespace(fresh("http://flowable.org/test"));
+        model.addMessage(new Message(fresh("message"), fresh("orderPlaced"), null));
+        model.addSignal(new Signal(fresh("signal"), fresh("alert")));
+
+        Process process = new Process();
+        process.setId("process");
+        model.addProcess(process);
+
+        ServiceTask serviceTask = new ServiceTask();
+        serviceTask.setId("serviceTask");
+        serviceTask.setImplementationType("class");
+        serviceTask.setImplementation(fresh("org.example.Delegate"));
+        serviceTask.getFieldExtensions().add(field("text", "hello"));
+        process.addFlowElement(serviceTask);
+
+        SendTask sendTask = new SendTask();
+        sendTask.setId("sendTask");
+        sendTask.getFieldExtensions().add(field("text", "hello"));
+        process.addFlowElement(sendTask);
+
+        BoundaryEvent messageEvent = new BoundaryEvent();
+        messageEvent.setId("messageEvent");
+        messageEvent.setAttachedToRefId("serviceTask");
+        MessageEventDefinition messageDefinition = new MessageEventDefinition();
+        messageDefinition.setMessageRef(fresh("message"));
+        messageEvent.addEventDefinition(messageDefinition);
+        process.addFlowElement(messageEvent);
+
+        BoundaryEvent signalEvent = new BoundaryEvent();
+        signalEvent.setId("signalEvent");
+        signalEvent.setAttachedToRefId("sendTask");
+        SignalEventDefinition signalDefinition = new SignalEventDefinition();
+        signalDefinition.setSignalRef(fresh("signal"));
+        signalEvent.addEventDefinition(signalDefinition);
+        process.addFlowElement(signalEvent);
+
+        return model;
+    }
+
+    private static List<FieldExtension> fields(final BpmnModel model, final String taskId) {
+        return ((TaskWithFieldExtensions) model.getMainProcess().getFlowElement(taskId)).getFieldExtensions();
+    }
+
+    private static String messageRef(final BpmnModel model) {
+        return ((MessageEventDefinition) ((BoundaryEvent) model.getMainProcess().getFlowElement("messageEvent")).
+                getEventDefinitions().getFirst()).getMessageRef();
+    }
+
+    @Test
+    void roundTrip() {
+        BpmnXMLConverter xmlConverter = new BpmnXMLConverter();
+        byte[] expected = xmlConverter.convertToXML(model());
+
+        BpmnModel model = model();
+        assertTrue(new BpmnModelCanonicalizer(true).canonicalize(model) > 0);
+
+        assertArrayEquals(expected, xmlConverter.convertToXML(model));
+    }
+
+    @Test
+    void sharesStringsAcrossElements() {
+        BpmnModel model = model();
+        new BpmnModelCanonicalizer().canonicalize(model);
+
+        // field extensions of all tasks, not only service tasks
+        assertSame(
+                fields(model, "serviceTask").getFirst().getStringValue(),
+                fields(model, "sendTask").getFirst().getStringValue());
+        assertNotSame(fields(model, "serviceTask").getFirst(), fields(model, "sendTask").getFirst());
+
+        // event definitions and their messages
+        assertSame(model.getMessage("message").getId(), messageRef(model));
+    }
+
+    @Test
+    void sharesStructures() {
+        BpmnModel model = model();
+        new BpmnModelCanonicalizer(true).canonicalize(model);
+
+        assertSame(fields(model, "serviceTask").getFirst(), fields(model, "sendTask").getFirst());
+    }
+
+    @Test
+    void sharesAcrossModels() {
+        BpmnModelCanonicalizer canonicalizer = new BpmnModelCanonicalizer();
+        BpmnModel first = model();
+        BpmnModel second = model();
+        long savedFirst = canonicalizer.canonicalize(first);
+        long savedSecond = canonicalizer.canonicalize(second);
+
+        assertTrue(savedSecond > savedFirst);
+        assertEquals(savedFirst + savedSecond, canonicalizer.getSavedBytes());
+        assertSame(messageRef(first), messageRef(second));
+    }
+
+    @Test
+    void bounded() {
+        BpmnModelCanonicalizer canonicalizer = new BpmnModelCanonicalizer(false, 0);
+        BpmnModel model = model();
+
+        assertEquals(0, canonicalizer.canonicalize(model));
+        assertNotSame(model.getMessage("message").getId(), messageRef(model));
+    }
+
+    @Test
+    void clear() {
+        BpmnModelCanonicalizer canonicalizer = new BpmnModelCanonicalizer();
+        BpmnModel first = model();
+        canonicalizer.canonicalize(first);
+        canonicalizer.clear();
+
+        BpmnModel second = model();
+        canonicalizer.canonicalize(second);
+        assertNotSame(messageRef(first), messageRef(second));
+    }
+}
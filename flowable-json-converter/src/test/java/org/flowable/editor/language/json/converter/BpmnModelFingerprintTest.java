@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+class BpmnModelFingerprintTest {
+
+    private static ObjectNode model() {
+        return new BpmnJsonConverter().convertToJson(BpmnJsonConverterWarmUp.createModel());
+    }
+
+    private static ObjectNode shape(final JsonNode modelNode, final String resourceId) {
+        Deque<JsonNode> stack = new ArrayDeque<>();
+        stack.push(modelNode);
+        while (!stack.isEmpty()) {
+            JsonNode shapeNode = stack.pop();
+            if (resourceId.equals(shapeNode.get("resourceId").asString())) {
+                return (ObjectNode) shapeNode;
+            }
+            shapeNode.get("childShapes").forEach(stack::push);
+        }
+        throw new IllegalArgumentException(resourceId);
+    }
+
+    @Test
+    void boundsAndDockersOnlyChangeLayout() {
+        ObjectNode modelNode = model();
+        BpmnModelFingerprint original = BpmnModelFingerprint.of(modelNode);
+
+        ObjectNode upperLeft = (ObjectNode) shape(modelNode, "userTask").get("bounds").get("upperLeft");
+        upperLeft.put("x", upperLeft.get("x").asDouble() + 10);
+        BpmnModelFingerprint moved = BpmnModelFingerprint.of(modelNode);
+        assertEquals(original.semanticHash(), moved.semanticHash());
+        assertNotEquals(original.layoutHash(), moved.layoutHash());
+
+        ArrayNode dockers = (ArrayNode) shape(modelNode, "gateway-serviceTask").get("dockers");
+        dockers.insertObject(1).put("x", 300).put("y", 20);
+        BpmnModelFingerprint bent = BpmnModelFingerprint.of(modelNode);
+        assertEquals(original.semanticHash(), bent.semanticHash());
+        assertNotEquals(moved.layoutHash(), bent.layoutHash());
+    }
+
+    @Test
+    void semanticChangeKeepsLayout() {
+        ObjectNode modelNode = model();
+        BpmnModelFingerprint original = BpmnModelFingerprint.of(modelNode);
+
+        ((ObjectNode) shape(modelNode, "userTask").get("properties")).put("name", "Renamed");
+        BpmnModelFingerprint renamed = BpmnModelFingerprint.of(modelNode);
+        assertNotEquals(original.semanticHash(), renamed.semanticHash());
+        assertEquals(original.layoutHash(), renamed.layoutHash());
+    }
+
+    @Test
+    void shapeAndPropertyOrderIgnored() {
+        ObjectNode modelNode = model();
+        BpmnModelFingerprint original = BpmnModelFingerprint.of(modelNode);
+
+        ArrayNode childShapes = (ArrayNode) modelNode.get("childShapes");
+        List<JsonNode> reversed = new ArrayList<>();
+        childShapes.forEach(reversed::add);
+        childShapes.removeAll();
+        reversed.reversed().forEach(childShapes::add);
+
+        ObjectNode properties = (ObjectNode) shape(modelNode, "serviceTask").get("properties");
+        List<Map.Entry<String, JsonNode>> entries = properties.properties().stream().
+                map(entry -> Map.entry(entry.getKey(), entry.getValue())).
+                toList();
+        properties.removeAll();
+        entries.reversed().forEach(entry -> properties.set(entry.getKey(), entry.getValue()));
+
+        assertEquals(original, BpmnModelFingerprint.of(modelNode));
+    }
+
+    @Test
+    void encodingIgnored() {
+        ObjectNode modelNode = model();
+        ObjectNode properties = (ObjectNode) shape(modelNode, "userTask").get("properties");
+        properties.putObject("custom").put("enabled", true).putArray("values").add(1).add("two");
+        BpmnModelFingerprint decoded = BpmnModelFingerprint.of(modelNode);
+
+        // the same value, double-encoded as text, with a missing property as empty string, and a number as decimal
+        properties.put("custom", properties.get("custom").toString());
+        properties.put("documentation", "");
+        ObjectNode upperLeft = (ObjectNode) shape(modelNode, "userTask").get("bounds").get("upperLeft");
+        upperLeft.put("x", upperLeft.get("x").decimalValue().setScale(2));
+        BpmnModelFingerprint encoded = BpmnModelFingerprint.of(modelNode);
+
+        assertEquals(decoded, encoded);
+    }
+}
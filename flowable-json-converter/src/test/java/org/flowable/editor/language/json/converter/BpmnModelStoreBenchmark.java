@@ -0,0 +1,70 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Cold reload of stored models against full reconversion from editor JSON; run with {@code -Pbenchmark}.
+ */
+@Tag("benchmark")
+class BpmnModelStoreBenchmark {
+
+    private static final int MODELS = 2_000;
+
+    private static final int ROUNDS = 5;
+
+    @Test
+    void reloadVersusReconversion(@TempDir final Path dir) throws IOException {
+        BpmnJsonConverter converter = new BpmnJsonConverter();
+        BpmnJsonConverterOptions options = new BpmnJsonConverterOptions();
+        StandaloneBpmnConverterContext context = new StandaloneBpmnConverterContext();
+        byte[] modelJson = BpmnJsonConverterUtil.jsonMapper().writeValueAsBytes(
+                converter.convertToJson(BpmnJsonConverterWarmUp.createModel()));
+
+        Path file = dir.resolve("models.bin");
+        try (BpmnModelStore store = new BpmnModelStore(file, converter, context, options)) {
+            for (int i = 0; i < MODELS; i++) {
+                store.put("model" + i, converter.convertToBpmnModel(modelJson, context, options));
+            }
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < MODELS; i++) {
+                converter.convertToBpmnModel(modelJson, context, options);
+            }
+            long reconversion = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int loaded = 0;
+            try (BpmnModelStore store = new BpmnModelStore(file, converter, context, options)) {
+                for (String id : store.ids()) {
+                    store.get(id);
+                    loaded++;
+                }
+            }
+            long reload = System.nanoTime() - start;
+            assertEquals(MODELS, loaded);
+
+            System.out.printf("round %d: %d models, reconversion %d ms, store reload %d ms%n",
+                    round, MODELS, reconversion / 1_000_000, reload / 1_000_000);
+        }
+    }
+}
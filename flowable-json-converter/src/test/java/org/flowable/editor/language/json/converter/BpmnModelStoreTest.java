@@ -0,0 +1,172 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.node.ObjectNode;
+
+class BpmnModelStoreTest {
+
+    private static final BpmnJsonConverter CONVERTER = new BpmnJsonConverter();
+
+    private static ObjectNode modelNode(final String name) {
+        BpmnModel model = BpmnJsonConverterWarmUp.createModel();
+        model.getMainProcess().setName(name);
+        return CONVERTER.convertToJson(model);
+    }
+
+    private static BpmnModelStore open(final Path file) {
+        return new BpmnModelStore(
+                file, CONVERTER, new StandaloneBpmnConverterContext(), new BpmnJsonConverterOptions());
+    }
+
+    private static byte[] xml(final BpmnModel model) {
+        return new BpmnXMLConverter().convertToXML(model);
+    }
+
+    @Test
+    void reload(@TempDir final Path dir) throws IOException {
+        Path file = dir.resolve("models.bin");
+        ObjectNode modelNode = modelNode("first");
+
+        byte[] expected;
+        try (BpmnModelStore store = open(file)) {
+            // as persisted: semantics and diagram interchange of the converted model, read back from BPMN XML
+            expected = xml(BpmnXmlToJsonPipeline.read(new ByteArrayInputStream(xml(store.put("model", modelNode)))));
+        }
+
+        try (BpmnModelStore store = open(file)) {
+            assertEquals(Set.of("model"), store.ids());
+
+            BpmnModel model = store.get("model");
+            assertArrayEquals(expected, xml(model));
+            assertSame(model, store.get("model"));
+            assertNull(store.get("missing"));
+        }
+    }
+
+    @Test
+    void supersede(@TempDir final Path dir) throws IOException {
+        Path file = dir.resolve("models.bin");
+
+        try (BpmnModelStore store = open(file)) {
+            store.put("model", modelNode("first"));
+            assertEquals("first", store.get("model").getMainProcess().getName());
+
+            store.put("model", modelNode("second"));
+            assertEquals("second", store.get("model").getMainProcess().getName());
+        }
+
+        try (BpmnModelStore store = open(file)) {
+            assertEquals("second", store.get("model").getMainProcess().getName());
+        }
+    }
+
+    @Test
+    void truncateIncompleteEntry(@TempDir final Path dir) throws IOException {
+        Path file = dir.resolve("models.bin");
+        try (BpmnModelStore store = open(file)) {
+            store.put("model", modelNode("first"));
+        }
+        long size = Files.size(file);
+        Files.write(file, new byte[] { 0, 0, 0, 5, 'b', 'r' }, StandardOpenOption.APPEND);
+
+        try (BpmnModelStore store = open(file)) {
+            assertEquals(Set.of("model"), store.ids());
+            assertNotNull(store.get("model"));
+        }
+        assertEquals(size, Files.size(file));
+    }
+
+    @Test
+    void discardOtherVersion(@TempDir final Path dir) throws IOException {
+        Path file = dir.resolve("models.bin");
+        Files.write(file, new byte[] { 'o', 't', 'h', 'e', 'r', ' ', 'f', 'o', 'r', 'm', 'a', 't' });
+
+        AtomicInteger sourced = new AtomicInteger();
+        try (BpmnModelStore store = open(file)) {
+            assertEquals(Set.of(), store.ids());
+
+            store.get("model", () -> {
+                sourced.incrementAndGet();
+                return modelNode("first");
+            });
+            store.get("model", () -> {
+                sourced.incrementAndGet();
+                return modelNode("first");
+            });
+        }
+        assertEquals(1, sourced.get());
+    }
+
+    @Test
+    void concurrentPutAndGet(@TempDir final Path dir) throws Exception {
+        Path file = dir.resolve("models.bin");
+        ObjectNode first = modelNode("first");
+        ObjectNode second = modelNode("second");
+
+        try (BpmnModelStore store = open(file)) {
+            store.put("model", first);
+
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                assertTimeoutPreemptively(Duration.ofMinutes(1), () -> {
+                    Future<?> writer = executor.submit(() -> {
+                        for (int i = 0; i < 50; i++) {
+                            store.put("model", i % 2 == 0 ? second : first);
+                        }
+                    });
+                    Future<?>[] readers = new Future<?>[3];
+                    for (int r = 0; r < readers.length; r++) {
+                        readers[r] = executor.submit(() -> {
+                            for (int i = 0; i < 200; i++) {
+                                assertNotNull(store.get("model"));
+                            }
+                        });
+                    }
+
+                    writer.get();
+                    for (Future<?> reader : readers) {
+                        reader.get();
+                    }
+                });
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // the cached model is never older than the last entry written
+            assertEquals("first", store.get("model").getMainProcess().getName());
+        }
+    }
+}
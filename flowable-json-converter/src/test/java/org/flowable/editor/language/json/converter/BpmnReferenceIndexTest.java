@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import org.flowable.editor.language.json.converter.BpmnJsonReferenceRewriter.ReferenceType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BpmnReferenceIndexTest {
+
+    private static byte[] model(final String formKey, final String calledElement) {
+        return ("{\"resourceId\":\"canvas\",\"properties\":{\"process_id\":\"process\"},\"childShapes\":["
+                + "{\"resourceId\":\"task\",\"stencil\":{\"id\":\"UserTask\"},"
+                + "\"properties\":{\"formreference\":{\"id\":\"form\",\"key\":\"" + formKey + "\"}},"
+                + "\"childShapes\":[]},"
+                + "{\"resourceId\":\"call\",\"stencil\":{\"id\":\"CallActivity\"},"
+                + "\"properties\":{\"callactivitycalledelement\":\"" + calledElement + "\"},\"childShapes\":[]}]}").
+                getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void reload(@TempDir final Path dir) throws IOException {
+        Path file = dir.resolve("references.bin");
+        try (BpmnReferenceIndex index = new BpmnReferenceIndex(file)) {
+            index.update("first", model("form1", "process1"));
+            index.update("second", model("form1", "process2"));
+            index.update("second", model("form2", "process2"));
+            index.update("third", model("form1", "process1"));
+            index.remove("third");
+        }
+
+        try (BpmnReferenceIndex index = new BpmnReferenceIndex(file)) {
+            assertEquals(Set.of("first", "second"), index.modelIds());
+            assertEquals(Set.of("first"), index.findByKey(ReferenceType.FORM, "form1"));
+            assertEquals(Set.of("second"), index.findByKey(ReferenceType.FORM, "form2"));
+            assertEquals(Set.of("first", "second"), index.findById(ReferenceType.FORM, "form"));
+            assertEquals(Set.of("second"), index.findByKey(ReferenceType.PROCESS, "process2"));
+        }
+    }
+
+    @Test
+    void compact(@TempDir final Path dir) throws IOException {
+        Path file = dir.resolve("references.bin");
+        try (BpmnReferenceIndex index = new BpmnReferenceIndex(file)) {
+            for (int i = 0; i < 10; i++) {
+                index.update("model", model("form" + i, "process"));
+            }
+            long size = Files.size(file);
+            index.compact();
+            assertTrue(Files.size(file) < size);
+
+            // still writable after compaction
+            index.update("other", model("form1", "process"));
+        }
+
+        try (BpmnReferenceIndex index = new BpmnReferenceIndex(file)) {
+            assertEquals(Set.of("model", "other"), index.modelIds());
+            assertEquals(Set.of("model"), index.findByKey(ReferenceType.FORM, "form9"));
+            assertEquals(Set.of("model", "other"), index.findByKey(ReferenceType.PROCESS, "process"));
+        }
+    }
+
+    @Test
+    void calledElementType(@TempDir final Path dir) throws IOException {
+        // type after the called element, type before it, no type at all
+        byte[] json = ("{\"resourceId\":\"canvas\",\"properties\":{\"process_id\":\"process\"},\"childShapes\":["
+                + "{\"resourceId\":\"byIdAfter\",\"stencil\":{\"id\":\"CallActivity\"},"
+                + "\"properties\":{\"callactivitycalledelement\":\"process1\","
+                + "\"callactivitycalledelementtype\":\"id\"},\"childShapes\":[]},"
+                + "{\"resourceId\":\"byIdBefore\",\"stencil\":{\"id\":\"CallActivity\"},"
+                + "\"properties\":{\"callactivitycalledelementtype\":\"id\","
+                + "\"callactivitycalledelement\":\"process2\"},\"childShapes\":[]},"
+                + "{\"resourceId\":\"byKey\",\"stencil\":{\"id\":\"CallActivity\"},"
+                + "\"properties\":{\"callactivitycalledelementtype\":\"key\","
+                + "\"callactivitycalledelement\":\"process3\"},\"childShapes\":[]},"
+                + "{\"resourceId\":\"byDefault\",\"stencil\":{\"id\":\"CallActivity\"},"
+                + "\"properties\":{\"callactivitycalledelement\":\"process4\"},\"childShapes\":[]}]}").
+                getBytes(StandardCharsets.UTF_8);
+
+        try (BpmnReferenceIndex index = new BpmnReferenceIndex(dir.resolve("references.bin"))) {
+            assertEquals(
+                    Set.of(
+                            new BpmnReferenceIndex.Reference(ReferenceType.PROCESS, false, "process1"),
+                            new BpmnReferenceIndex.Reference(ReferenceType.PROCESS, false, "process2"),
+                            new BpmnReferenceIndex.Reference(ReferenceType.PROCESS, true, "process3"),
+                            new BpmnReferenceIndex.Reference(ReferenceType.PROCESS, true, "process4")),
+                    index.extract(new ByteArrayInputStream(json)));
+
+            index.update("model", json);
+            assertEquals(Set.of("model"), index.findById(ReferenceType.PROCESS, "process1"));
+            assertEquals(Set.of(), index.findByKey(ReferenceType.PROCESS, "process1"));
+            assertEquals(Set.of(), index.findByKey(ReferenceType.PROCESS, "process2"));
+            assertEquals(Set.of("model"), index.findByKey(ReferenceType.PROCESS, "process4"));
+        }
+    }
+
+    @Test
+    void truncateIncompleteEntry(@TempDir final Path dir) throws IOException {
+        Path file = dir.resolve("references.bin");
+        try (BpmnReferenceIndex index = new BpmnReferenceIndex(file)) {
+            index.update("model", model("form1", "process"));
+        }
+        long size = Files.size(file);
+        Files.write(file, new byte[] { 0, 0, 0, 5, 'o', 't' }, StandardOpenOption.APPEND);
+
+        try (BpmnReferenceIndex index = new BpmnReferenceIndex(file)) {
+            assertEquals(Set.of("model"), index.modelIds());
+        }
+        assertEquals(size, Files.size(file));
+    }
+}
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.ScriptTask;
+import org.flowable.bpmn.model.SubProcess;
+import org.flowable.editor.constants.StencilConstants;
+import org.flowable.editor.language.json.converter.BpmnSearchIndex.Field;
+import org.flowable.editor.language.json.converter.BpmnSearchIndex.Hit;
+import org.junit.jupiter.api.Test;
+
+class BpmnSearchIndexTest {
+
+    private static byte[] json(final BpmnModel model) {
+        return BpmnJsonConverterUtil.jsonMapper().writeValueAsBytes(new BpmnJsonConverter().convertToJson(model));
+    }
+
+    private static byte[] json(final String script) {
+        BpmnModel model = BpmnJsonConverterWarmUp.createModel();
+        SubProcess subProcess = (SubProcess) model.getMainProcess().getFlowElement("subProcess");
+        ((ScriptTask) subProcess.getFlowElement("scriptTask")).setScript(script);
+        return json(model);
+    }
+
+    private static Hit scriptHit(final String modelId) {
+        return new Hit(modelId, "scriptTask", StencilConstants.STENCIL_TASK_SCRIPT, Field.SCRIPT);
+    }
+
+    @Test
+    void termAndPrefix() {
+        BpmnSearchIndex index = new BpmnSearchIndex();
+        index.update("first", json(BpmnJsonConverterWarmUp.createModel()));
+
+        assertEquals(
+                Set.of(new Hit("first", "userTask", StencilConstants.STENCIL_TASK_USER, Field.NAME)),
+                index.term("userTask"));
+        assertEquals(
+                Set.of(new Hit("first", "gateway-serviceTask", StencilConstants.STENCIL_SEQUENCE_FLOW,
+                        Field.CONDITION)),
+                index.term("APPROVED"));
+        assertEquals(
+                Set.of(new Hit("first", "serviceTask", StencilConstants.STENCIL_TASK_SERVICE,
+                        Field.DELEGATE_EXPRESSION)),
+                index.prefix("warmUpDel"));
+        assertTrue(index.term("warmUpDel").isEmpty());
+        assertTrue(index.term("nowhere").isEmpty());
+    }
+
+    @Test
+    void fieldFiltering() {
+        BpmnSearchIndex index = new BpmnSearchIndex();
+        index.update("first", json(BpmnJsonConverterWarmUp.createModel()));
+
+        // "warm" is both in the process name and in the script
+        assertTrue(index.term("warm").size() > 1);
+        assertEquals(Set.of(scriptHit("first")), index.term("warm", Field.SCRIPT));
+        assertTrue(index.term("warm", Field.CONDITION, Field.SERVICE_CLASS).isEmpty());
+
+        assertEquals(
+                Set.of(new Hit("first", "serviceTask", StencilConstants.STENCIL_TASK_SERVICE,
+                        Field.DELEGATE_EXPRESSION), scriptHit("first")),
+                index.prefix("warm", Field.DELEGATE_EXPRESSION, Field.SCRIPT));
+    }
+
+    @Test
+    void search() {
+        BpmnSearchIndex index = new BpmnSearchIndex();
+        index.update("first", json(BpmnJsonConverterWarmUp.createModel()));
+
+        assertEquals(Set.of(scriptHit("first")), index.search("execution.setVariable('warm'"));
+        assertEquals(Set.of(scriptHit("first")), index.search("warm true", Field.SCRIPT));
+        // all terms must match within the same field
+        assertTrue(index.search("warm approved").isEmpty());
+        assertTrue(index.search("execution nowhere").isEmpty());
+        assertTrue(index.search(" ,. ").isEmpty());
+    }
+
+    @Test
+    void updateAndRemove() {
+        BpmnSearchIndex index = new BpmnSearchIndex();
+        index.update("first", json("execution.setVariable('warm', true)"));
+        index.update("second", json("execution.setVariable('cold', true)"));
+
+        assertEquals(Set.of("first", "second"), index.modelIds());
+        assertEquals(Set.of(scriptHit("first"), scriptHit("second")), index.term("execution", Field.SCRIPT));
+        assertEquals(Set.of(scriptHit("second")), index.term("cold"));
+
+        // update replaces all terms of the model
+        index.update("first", json("execution.setVariable('cold', false)"));
+        assertTrue(index.term("warm", Field.SCRIPT).isEmpty());
+        assertEquals(Set.of(scriptHit("first"), scriptHit("second")), index.term("cold"));
+        assertEquals(Set.of(scriptHit("first")), index.term("false"));
+
+        index.remove("second");
+        assertEquals(Set.of("first"), index.modelIds());
+        assertEquals(Set.of(scriptHit("first")), index.term("cold"));
+        assertTrue(index.term("true").isEmpty());
+
+        index.remove("first");
+        assertTrue(index.modelIds().isEmpty());
+        assertTrue(index.term("approved").isEmpty());
+        assertTrue(index.prefix("").isEmpty());
+    }
+}
@@ -0,0 +1,155 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.bpmn.model.SubProcess;
+import org.flowable.bpmn.model.UserTask;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+
+class BpmnSpatialIndexTest {
+
+    private static final double[] CELL_SIZES = { 10, 100, BpmnSpatialIndex.DEFAULT_CELL_SIZE };
+
+    private static GraphicInfo graphicInfo(final double x, final double y, final double width, final double height) {
+        GraphicInfo graphicInfo = new GraphicInfo();
+        graphicInfo.setX(x);
+        graphicInfo.setY(y);
+        graphicInfo.setWidth(width);
+        graphicInfo.setHeight(height);
+        return graphicInfo;
+    }
+
+    /**
+     * @return warm-up model, with a further sub-process nested into the existing one
+     */
+    private static BpmnModel model() {
+        BpmnModel model = BpmnJsonConverterWarmUp.createModel();
+        SubProcess subProcess = (SubProcess) model.getMainProcess().getFlowElement("subProcess");
+
+        SubProcess innerSubProcess = new SubProcess();
+        innerSubProcess.setId("innerSubProcess");
+        subProcess.addFlowElement(innerSubProcess);
+        model.addGraphicInfo(innerSubProcess.getId(), graphicInfo(555, 155, 90, 45));
+
+        UserTask innerTask = new UserTask();
+        innerTask.setId("innerTask");
+        innerSubProcess.addFlowElement(innerTask);
+        model.addGraphicInfo(innerTask.getId(), graphicInfo(565, 160, 60, 30));
+
+        return model;
+    }
+
+    /**
+     * @return parent resource id by resource id, for all shapes of the given editor model
+     */
+    private static Map<String, String> parents(final JsonNode modelNode) {
+        Map<String, String> parents = new HashMap<>();
+        Deque<JsonNode> stack = new ArrayDeque<>();
+        stack.push(modelNode);
+        while (!stack.isEmpty()) {
+            JsonNode shapeNode = stack.pop();
+            String parentId = shapeNode.get("resourceId").asString();
+            for (JsonNode childNode : shapeNode.get("childShapes")) {
+                parents.put(childNode.get("resourceId").asString(), parentId);
+                stack.push(childNode);
+            }
+        }
+        return parents;
+    }
+
+    @Test
+    void query() {
+        BpmnModel model = model();
+        for (double cellSize : CELL_SIZES) {
+            BpmnSpatialIndex index = new BpmnSpatialIndex(model, cellSize);
+
+            assertEquals(Set.of("start", "start-userTask"), index.query(0, 90, 60, 50), "cell size " + cellSize);
+            assertEquals(
+                    Set.of("subProcess", "innerSubProcess", "innerTask"),
+                    index.query(600, 165, 10, 10),
+                    "cell size " + cellSize);
+            // crossed by flows, with no shape inside
+            assertEquals(Set.of("timer-end", "subProcess-end"), index.query(660, 130, 10, 10), "cell size " + cellSize);
+            assertTrue(index.query(5000, 5000, 10, 10).isEmpty(), "cell size " + cellSize);
+            assertEquals(index.query(0, 90, 60, 50), index.query(graphicInfo(0, 90, 60, 50)));
+        }
+    }
+
+    @Test
+    void invalidCellSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BpmnSpatialIndex(model(), 0));
+    }
+
+    @Test
+    void collapsedSubProcess() {
+        BpmnModel model = model();
+        model.getGraphicInfo("subProcess").setExpanded(false);
+        BpmnSpatialIndex index = new BpmnSpatialIndex(model);
+
+        assertEquals(
+                Set.of("subStart", "scriptTask", "subEnd", "subStart-scriptTask", "scriptTask-subEnd",
+                        "innerSubProcess", "innerTask"),
+                index.getCollapsedContent("subProcess"));
+        // nested ones are registered under the outermost collapsed sub-process only
+        assertTrue(index.getCollapsedContent("innerSubProcess").isEmpty());
+        assertEquals(Set.of("subProcess"), index.query(600, 165, 10, 10));
+    }
+
+    @Test
+    void viewportKeepsParentContainers() {
+        BpmnModel model = model();
+        BpmnJsonConverter converter = new BpmnJsonConverter();
+
+        Map<String, String> parents = parents(converter.convertToJson(
+                model,
+                new StandaloneBpmnConverterContext(),
+                new BpmnSpatialIndex(model),
+                graphicInfo(600, 165, 10, 10)));
+
+        assertEquals("innerSubProcess", parents.get("innerTask"));
+        assertEquals("subProcess", parents.get("innerSubProcess"));
+        assertEquals("canvas", parents.get("subProcess"));
+        assertFalse(parents.containsKey("scriptTask"));
+        assertFalse(parents.containsKey("start"));
+        assertFalse(parents.containsKey("serviceTask"));
+    }
+
+    @Test
+    void viewportKeepsFlowEnds() {
+        BpmnModel model = model();
+        BpmnJsonConverter converter = new BpmnJsonConverter();
+
+        Map<String, String> parents = parents(converter.convertToJson(
+                model,
+                new StandaloneBpmnConverterContext(),
+                new BpmnSpatialIndex(model),
+                graphicInfo(660, 130, 10, 10)));
+
+        // flows crossing the viewport come with both their ends, even if outside
+        assertEquals(Set.of("timer-end", "subProcess-end", "timer", "end", "subProcess"), parents.keySet());
+        parents.values().forEach(parent -> assertEquals("canvas", parent));
+    }
+}
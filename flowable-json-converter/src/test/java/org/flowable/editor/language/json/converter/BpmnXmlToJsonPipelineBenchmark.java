@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pipeline against chaining XML parsing, {@code convertToJson} and serialization; run with {@code -Pbenchmark}.
+ */
+@Tag("benchmark")
+class BpmnXmlToJsonPipelineBenchmark {
+
+    private static final int ITERATIONS = 5_000;
+
+    private static final int ROUNDS = 5;
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    @Test
+    void pipelineVersusChained() {
+        BpmnJsonConverter converter = new BpmnJsonConverter();
+        BpmnJsonConverterOptions options = new BpmnJsonConverterOptions();
+        StandaloneBpmnConverterContext context = new StandaloneBpmnConverterContext();
+        BpmnXmlToJsonPipeline pipeline = new BpmnXmlToJsonPipeline(converter, context, options);
+        byte[] xml = new BpmnXMLConverter().convertToXML(BpmnJsonConverterWarmUp.createModel());
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            long allocated = allocatedBytes();
+            for (int i = 0; i < ITERATIONS; i++) {
+                BpmnJsonConverterUtil.jsonMapper().writeValue(OutputStream.nullOutputStream(), converter.convertToJson(
+                        BpmnXmlToJsonPipeline.read(new ByteArrayInputStream(xml)), context, options));
+            }
+            long chainedTime = System.nanoTime() - start;
+            long chainedAllocated = allocatedBytes() - allocated;
+
+            start = System.nanoTime();
+            allocated = allocatedBytes();
+            for (int i = 0; i < ITERATIONS; i++) {
+                pipeline.convert(xml, OutputStream.nullOutputStream());
+            }
+            long pipelineTime = System.nanoTime() - start;
+            long pipelineAllocated = allocatedBytes() - allocated;
+
+            System.out.printf("round %d: chained %d ms, %d KB/op; pipeline %d ms, %d KB/op%n",
+                    round,
+                    chainedTime / 1_000_000, chainedAllocated / ITERATIONS / 1024,
+                    pipelineTime / 1_000_000, pipelineAllocated / ITERATIONS / 1024);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+class BpmnXmlToJsonPipelineTest {
+
+    private static void assertSameAsChained(final BpmnJsonConverterOptions options) {
+        BpmnJsonConverter converter = new BpmnJsonConverter();
+        StandaloneBpmnConverterContext context = new StandaloneBpmnConverterContext();
+        byte[] xml = new BpmnXMLConverter().convertToXML(BpmnJsonConverterWarmUp.createModel());
+
+        ObjectMapper mapper = BpmnJsonConverterUtil.mapper(options.getEditorFormat());
+        JsonNode expected = mapper.readTree(mapper.writeValueAsBytes(converter.convertToJson(
+                BpmnXmlToJsonPipeline.read(new ByteArrayInputStream(xml)), context, options)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BpmnXmlToJsonPipeline(converter, context, options).convert(xml, out);
+
+        assertEquals(expected, mapper.readTree(out.toByteArray()));
+    }
+
+    @Test
+    void sameAsChained() {
+        assertSameAsChained(new BpmnJsonConverterOptions());
+    }
+
+    @Test
+    void sameAsChainedCompact() {
+        assertSameAsChained(BpmnJsonConverterOptions.compact(2));
+    }
+}
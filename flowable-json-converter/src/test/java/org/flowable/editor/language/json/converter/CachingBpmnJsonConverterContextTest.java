@@ -0,0 +1,117 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.json.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.flowable.common.engine.api.FlowableException;
+import org.junit.jupiter.api.Test;
+
+class CachingBpmnJsonConverterContextTest {
+
+    @Test
+    void memoize() {
+        AtomicInteger delegated = new AtomicInteger();
+        CachingBpmnJsonConverterContext context = new CachingBpmnJsonConverterContext(
+                new StandaloneBpmnConverterContext() {
+
+                    @Override
+                    public String getFormModelKeyForFormModelId(final String formModelId) {
+                        delegated.incrementAndGet();
+                        return "form".equals(formModelId) ? "formKey" : null;
+                    }
+                });
+
+        assertEquals("formKey", context.getFormModelKeyForFormModelId("form"));
+        assertEquals("formKey", context.getFormModelKeyForFormModelId("form"));
+        // not found is memoized as well
+        assertNull(context.getFormModelKeyForFormModelId("other"));
+        assertNull(context.getFormModelKeyForFormModelId("other"));
+        // same value, different kind
+        assertNull(context.getProcessModelKeyForProcessModelId("form"));
+
+        assertEquals(2, delegated.get());
+        assertEquals(5, context.getLookups());
+        assertEquals(3, context.getMisses());
+    }
+
+    @Test
+    void failuresNotMemoized() {
+        AtomicInteger delegated = new AtomicInteger();
+        CachingBpmnJsonConverterContext context = new CachingBpmnJsonConverterContext(
+                new StandaloneBpmnConverterContext() {
+
+                    @Override
+                    public String getFormModelKeyForFormModelId(final String formModelId) {
+                        if (delegated.incrementAndGet() == 1) {
+                            throw new FlowableException("unavailable");
+                        }
+                        return "formKey";
+                    }
+                });
+
+        assertThrows(FlowableException.class, () -> context.getFormModelKeyForFormModelId("form"));
+        assertEquals("formKey", context.getFormModelKeyForFormModelId("form"));
+        assertEquals(2, delegated.get());
+    }
+
+    @Test
+    void concurrentLookupsResolvedOnce() throws Exception {
+        CountDownLatch resolving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger delegated = new AtomicInteger();
+        CachingBpmnJsonConverterContext context = new CachingBpmnJsonConverterContext(
+                new StandaloneBpmnConverterContext() {
+
+                    @Override
+                    public String getFormModelKeyForFormModelId(final String formModelId) {
+                        delegated.incrementAndGet();
+                        if ("form".equals(formModelId)) {
+                            resolving.countDown();
+                            try {
+                                release.await(10, TimeUnit.SECONDS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                        return formModelId + "Key";
+                    }
+                });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> context.getFormModelKeyForFormModelId("form"));
+            resolving.await(10, TimeUnit.SECONDS);
+            Future<String> second = executor.submit(() -> context.getFormModelKeyForFormModelId("form"));
+
+            // other values are resolved meanwhile, as the pending lookup holds no lock
+            assertEquals("otherKey", context.getFormModelKeyForFormModelId("other"));
+            release.countDown();
+
+            assertEquals("formKey", first.get(10, TimeUnit.SECONDS));
+            assertEquals("formKey", second.get(10, TimeUnit.SECONDS));
+            assertEquals(2, delegated.get());
+            assertEquals(2, context.getMisses());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}